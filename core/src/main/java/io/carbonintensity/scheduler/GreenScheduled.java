@@ -184,6 +184,18 @@ public @interface GreenScheduled {
      */
     String overdueGracePeriod() default "";
 
+    /**
+     * Defines the resolution at which timeslots are generated when planning the job.
+     * <p>
+     * The value is parsed like {@link #duration()}, so for example {@code 5m} generates a timeslot every 5 minutes. The
+     * value {@code adaptive} scans long windows coarsely and refines around the best timeslots at second granularity, and
+     * scans windows of up to an hour at second granularity right away. By default the resolution of the planner is used,
+     * an hour for a {@link #fixedWindow()} and 30 minutes for a {@link #successive()} schedule.
+     *
+     * @return the resolution expression, {@code adaptive} or empty
+     */
+    String planningResolution() default "";
+
     @Retention(RUNTIME)
     @Target(METHOD)
     @interface GreenSchedules {
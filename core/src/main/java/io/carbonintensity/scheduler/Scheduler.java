@@ -5,6 +5,7 @@ import java.util.List;
 import java.util.function.Consumer;
 
 import io.carbonintensity.executionplanner.spi.CarbonIntensityPlanner;
+import io.carbonintensity.executionplanner.strategy.PlanningResolution;
 
 /**
  * A basic scheduler.
@@ -207,6 +208,16 @@ public interface Scheduler {
          */
         JobDefinition setOverdueGracePeriod(Duration period);
 
+        /**
+         * Defines the resolution at which timeslots are generated when planning the job. By default the resolution of
+         * the planner is used.
+         *
+         * @param resolution a fixed or {@link PlanningResolution#adaptive() adaptive} resolution
+         * @return self
+         * @see GreenScheduled#planningResolution()
+         */
+        JobDefinition setPlanningResolution(PlanningResolution resolution);
+
         /**
          * @param task
          * @return self
@@ -4,6 +4,7 @@ import java.time.Duration;
 import java.util.Objects;
 import java.util.function.Consumer;
 
+import io.carbonintensity.executionplanner.strategy.PlanningResolution;
 import io.carbonintensity.scheduler.ConcurrentExecution;
 import io.carbonintensity.scheduler.ScheduledExecution;
 import io.carbonintensity.scheduler.Scheduler.JobDefinition;
@@ -33,6 +34,7 @@ public abstract class AbstractJobDefinition implements JobDefinition {
     protected Duration duration = SchedulerDefaults.DEFAULT_DURATION;
     protected Duration overdueGracePeriod = SchedulerDefaults.DEFAULT_OVERDUE_GRACE_PERIOD;
     protected String zone = null;
+    protected PlanningResolution planningResolution = null;
     protected ConcurrentExecution concurrentExecution = SchedulerDefaults.DEFAULT_CONCURRENT_EXECUTION;
     protected SkipPredicate skipPredicate = null;
     protected Consumer<ScheduledExecution> task;
@@ -104,6 +106,13 @@ public abstract class AbstractJobDefinition implements JobDefinition {
         return this;
     }
 
+    @Override
+    public JobDefinition setPlanningResolution(PlanningResolution resolution) {
+        checkScheduled();
+        this.planningResolution = Objects.requireNonNull(resolution);
+        return this;
+    }
+
     @Override
     public JobDefinition setTask(Consumer<ScheduledExecution> task) {
         checkScheduled();
@@ -0,0 +1,95 @@
+package io.carbonintensity.scheduler.runtime;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Dispatches scheduler events on a dedicated thread, so that slow listeners do not add latency to job executions.
+ * <p>
+ * Events are queued in a bounded queue and delivered in batches, in the order they were queued. An event that does
+ * not fit in the queue, or is fired after the dispatcher is closed, is rejected and should be delivered by the caller.
+ * </p>
+ */
+final class AsyncEventDispatcher {
+
+    private static final Logger log = LoggerFactory.getLogger(AsyncEventDispatcher.class);
+    static final int DEFAULT_CAPACITY = 8192;
+    static final int BATCH_SIZE = 256;
+    private static final long POLL_MILLIS = 100;
+
+    private final BlockingQueue<Runnable> queue;
+    private final Thread thread;
+    private volatile boolean closed;
+
+    /**
+     * @param capacity maximum number of queued events
+     */
+    AsyncEventDispatcher(int capacity) {
+        this.queue = new ArrayBlockingQueue<>(capacity);
+        this.thread = new Thread(this::run, "green-scheduler-event-dispatcher");
+        this.thread.setDaemon(true);
+        this.thread.start();
+    }
+
+    /**
+     * @param event the event delivery
+     * @return {@code false} if the event was rejected
+     */
+    boolean dispatch(Runnable event) {
+        return !closed && queue.offer(event);
+    }
+
+    /**
+     * Stops accepting events and waits for the queued events to be delivered.
+     *
+     * @param timeout maximum time to wait
+     */
+    void close(Duration timeout) {
+        closed = true;
+        try {
+            thread.join(Math.max(1, timeout.toMillis()));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        if (thread.isAlive()) {
+            log.warn("Unable to deliver {} queued scheduler events within {}", queue.size(), timeout);
+            thread.interrupt();
+        }
+    }
+
+    private void run() {
+        List<Runnable> batch = new ArrayList<>(BATCH_SIZE);
+        while (!closed || !queue.isEmpty()) {
+            try {
+                Runnable event = queue.poll(POLL_MILLIS, TimeUnit.MILLISECONDS);
+                if (event == null) {
+                    continue;
+                }
+                batch.add(event);
+                queue.drainTo(batch, BATCH_SIZE - 1);
+                for (Runnable queuedEvent : batch) {
+                    deliver(queuedEvent);
+                }
+                batch.clear();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+        }
+    }
+
+    private static void deliver(Runnable event) {
+        try {
+            event.run();
+        } catch (RuntimeException e) {
+            log.error("Scheduler event listener failed", e);
+        }
+    }
+}
@@ -0,0 +1,100 @@
+package io.carbonintensity.scheduler.runtime;
+
+import java.time.ZonedDateTime;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.LongSupplier;
+import java.util.function.Supplier;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import io.carbonintensity.executionplanner.runtime.impl.CarbonIntensityDataFetcher;
+
+/**
+ * The planned execution time of a trigger, planned asynchronously so that trigger checks never wait for carbon
+ * intensity data.
+ * <p>
+ * A plan is started once per planning input and data version. While it is pending the previous plan for the same
+ * input is used, or a provisional execution time if there is none. A failed plan also falls back to the provisional
+ * execution time, and is retried once the data version changes.
+ * </p>
+ */
+final class AsyncPlan {
+
+    private static final Logger log = LoggerFactory.getLogger(AsyncPlan.class);
+
+    private final LongSupplier dataVersion;
+    private volatile Entry entry;
+
+    /**
+     * @param dataVersion the version of the carbon intensity data, see
+     *        {@link CarbonIntensityDataFetcher#getDataVersion(String)}
+     */
+    AsyncPlan(LongSupplier dataVersion) {
+        this.dataVersion = dataVersion;
+    }
+
+    /**
+     * @param input the planning input, compared by identity
+     * @param planning starts planning for the input
+     * @param provisional the execution time to use until the plan is available
+     * @return the planned execution time, or the provisional one
+     */
+    ZonedDateTime executionTime(Object input, Supplier<CompletableFuture<ZonedDateTime>> planning,
+            Supplier<ZonedDateTime> provisional) {
+        Entry current = entry;
+        boolean sameInput = current != null && current.input == input;
+        if (!sameInput || (current.plan.isDone() && (current.dataVersion != dataVersion.getAsLong()
+                || current.dataVersion == CarbonIntensityDataFetcher.UNVERSIONED))) {
+            current = new Entry(input, sameInput ? current.executionTime() : null);
+            current.start(planning);
+            entry = current;
+        }
+        ZonedDateTime executionTime = current.executionTime();
+        if (executionTime != null) {
+            return executionTime;
+        }
+        return current.previous != null && !current.plan.isDone() ? current.previous : provisional.get();
+    }
+
+    /**
+     * @return the plan while it is being computed, {@code null} once it is available
+     */
+    CompletableFuture<ZonedDateTime> pending() {
+        Entry current = entry;
+        return current != null && !current.plan.isDone() ? current.plan : null;
+    }
+
+    private final class Entry {
+        private final Object input;
+        private final ZonedDateTime previous;
+        private volatile CompletableFuture<ZonedDateTime> plan;
+        // read once the plan completed, the fetch for the plan may have changed it
+        private volatile long dataVersion;
+
+        private Entry(Object input, ZonedDateTime previous) {
+            this.input = input;
+            this.previous = previous;
+        }
+
+        private void start(Supplier<CompletableFuture<ZonedDateTime>> planning) {
+            CompletableFuture<ZonedDateTime> started;
+            try {
+                started = planning.get();
+            } catch (RuntimeException e) {
+                started = CompletableFuture.failedFuture(e);
+            }
+            // the returned stage completes after the version is recorded
+            plan = started.whenComplete((executionTime, e) -> {
+                dataVersion = AsyncPlan.this.dataVersion.getAsLong();
+                if (e != null) {
+                    log.warn("Unable to plan the next execution time, using the provisional execution time", e);
+                }
+            });
+        }
+
+        private ZonedDateTime executionTime() {
+            return plan.isDone() && !plan.isCompletedExceptionally() ? plan.join() : null;
+        }
+    }
+}
@@ -1,5 +1,10 @@
 package io.carbonintensity.scheduler.runtime;
 
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
+
 import io.carbonintensity.scheduler.ScheduledExecution;
 import io.carbonintensity.scheduler.Scheduler;
 import io.carbonintensity.scheduler.Trigger;
@@ -26,8 +31,10 @@ import io.carbonintensity.scheduler.Trigger;
  * </p>
  *
  * <p>
- * All events are broadcast to all registered {@link Scheduler.EventListener}s via the
- * {@link SimpleScheduler}'s listener collection.
+ * All events are broadcast to all registered {@link Scheduler.EventListener}s. The listeners are kept in a
+ * copy-on-write array, firing an event only reads a snapshot of it. With
+ * {@link SchedulerConfig.EventDispatchMode#ASYNCHRONOUS} the listeners are called on a dedicated thread, see
+ * {@link AsyncEventDispatcher}.
  * </p>
  *
  * @see Scheduler
@@ -38,51 +45,116 @@ import io.carbonintensity.scheduler.Trigger;
  */
 public final class Events {
 
-    private final SimpleScheduler simpleScheduler;
+    private static final Scheduler.EventListener[] NO_LISTENERS = new Scheduler.EventListener[0];
+
+    private final AtomicReference<Scheduler.EventListener[]> listeners = new AtomicReference<>(NO_LISTENERS);
+    private volatile AsyncEventDispatcher dispatcher;
+
+    Events() {
+    }
 
-    Events(SimpleScheduler simpleScheduler) {
-        this.simpleScheduler = simpleScheduler;
+    /**
+     * @param listener the listener to add, ignored if it is already registered
+     */
+    void addListener(Scheduler.EventListener listener) {
+        Scheduler.EventListener[] current;
+        Scheduler.EventListener[] updated;
+        do {
+            current = listeners.get();
+            if (indexOf(current, listener) >= 0) {
+                return;
+            }
+            updated = Arrays.copyOf(current, current.length + 1);
+            updated[current.length] = listener;
+        } while (!listeners.compareAndSet(current, updated));
+    }
+
+    /**
+     * @param listener the listener to remove
+     * @return {@code true} if the listener was registered
+     */
+    boolean removeListener(Scheduler.EventListener listener) {
+        Scheduler.EventListener[] current;
+        Scheduler.EventListener[] updated;
+        do {
+            current = listeners.get();
+            int index = indexOf(current, listener);
+            if (index < 0) {
+                return false;
+            }
+            updated = new Scheduler.EventListener[current.length - 1];
+            System.arraycopy(current, 0, updated, 0, index);
+            System.arraycopy(current, index + 1, updated, index, updated.length - index);
+        } while (!listeners.compareAndSet(current, updated));
+        return true;
+    }
+
+    /**
+     * @return a snapshot of the registered listeners
+     */
+    List<Scheduler.EventListener> getListeners() {
+        return List.of(listeners.get());
+    }
+
+    /**
+     * @param dispatcher the dispatcher to deliver events on, {@code null} to deliver them on the firing thread
+     */
+    void setDispatcher(AsyncEventDispatcher dispatcher) {
+        this.dispatcher = dispatcher;
     }
 
     void fireJobExecutionSuccessful(ScheduledExecution execution) {
-        for (Scheduler.EventListener listener : simpleScheduler.getEventListeners()) {
-            listener.jobExecutionSuccessful(execution);
-        }
+        fire(listener -> listener.jobExecutionSuccessful(execution));
     }
 
     void fireJobExecutionFailed(ScheduledExecution execution, Throwable t) {
-        for (Scheduler.EventListener listener : simpleScheduler.getEventListeners()) {
-            listener.jobExecutionFailed(execution, t);
-        }
+        fire(listener -> listener.jobExecutionFailed(execution, t));
     }
 
     void fireSchedulerPaused() {
-        for (Scheduler.EventListener listener : simpleScheduler.getEventListeners()) {
-            listener.schedulerPaused();
-        }
+        fire(Scheduler.EventListener::schedulerPaused);
     }
 
     void fireSchedulerResumed() {
-        for (Scheduler.EventListener listener : simpleScheduler.getEventListeners()) {
-            listener.schedulerResumed();
-        }
+        fire(Scheduler.EventListener::schedulerResumed);
     }
 
     void fireJobPaused(Trigger trigger) {
-        for (Scheduler.EventListener listener : simpleScheduler.getEventListeners()) {
-            listener.jobPaused(trigger);
-        }
+        fire(listener -> listener.jobPaused(trigger));
     }
 
     void fireJobResumed(Trigger trigger) {
-        for (Scheduler.EventListener listener : simpleScheduler.getEventListeners()) {
-            listener.jobResumed(trigger);
-        }
+        fire(listener -> listener.jobResumed(trigger));
     }
 
     void fireJobExecutionSkipped(ScheduledExecution execution, String details) {
-        for (Scheduler.EventListener listener : simpleScheduler.getEventListeners()) {
-            listener.jobExecutionSkipped(execution, details);
+        fire(listener -> listener.jobExecutionSkipped(execution, details));
+    }
+
+    private void fire(Consumer<Scheduler.EventListener> event) {
+        Scheduler.EventListener[] snapshot = listeners.get();
+        if (snapshot.length == 0) {
+            return;
+        }
+        AsyncEventDispatcher current = dispatcher;
+        if (current == null || !current.dispatch(() -> deliver(snapshot, event))) {
+            // delivered on the firing thread if there is no dispatcher or its queue is full
+            deliver(snapshot, event);
+        }
+    }
+
+    private static void deliver(Scheduler.EventListener[] snapshot, Consumer<Scheduler.EventListener> event) {
+        for (Scheduler.EventListener listener : snapshot) {
+            event.accept(listener);
+        }
+    }
+
+    private static int indexOf(Scheduler.EventListener[] listeners, Scheduler.EventListener listener) {
+        for (int i = 0; i < listeners.length; i++) {
+            if (listeners[i].equals(listener)) {
+                return i;
+            }
         }
+        return -1;
     }
 }
@@ -1,6 +1,7 @@
 package io.carbonintensity.scheduler.runtime;
 
 import java.util.concurrent.CompletionStage;
+import java.util.function.IntSupplier;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -29,16 +30,26 @@ public class InstrumentedInvoker extends DelegateInvoker {
     private static final Logger log = LoggerFactory.getLogger(InstrumentedInvoker.class);
 
     private final JobInstrumenter instrumenter;
+    private final IntSupplier jobQueueDepth;
 
     public InstrumentedInvoker(ScheduledInvoker delegate, JobInstrumenter instrumenter) {
+        this(delegate, instrumenter, () -> 0);
+    }
+
+    /**
+     * @param jobQueueDepth the current depth of the job queue, see {@link JobInstrumentationContext#getJobQueueDepth()}
+     */
+    public InstrumentedInvoker(ScheduledInvoker delegate, JobInstrumenter instrumenter, IntSupplier jobQueueDepth) {
         super(delegate);
         this.instrumenter = instrumenter;
+        this.jobQueueDepth = jobQueueDepth;
     }
 
     @Override
     public CompletionStage<Void> invoke(ScheduledExecution execution) throws Exception {
         log.trace("Running instrumented invoker for {} at {}.", execution.getTrigger().getId(),
                 execution.getScheduledFireTime());
+        int depth = jobQueueDepth.getAsInt();
         return instrumenter.instrument(new JobInstrumentationContext() {
 
             @Override
@@ -50,6 +61,11 @@ public class InstrumentedInvoker extends DelegateInvoker {
             public String getSpanName() {
                 return execution.getTrigger().getId();
             }
+
+            @Override
+            public int getJobQueueDepth() {
+                return depth;
+            }
         });
     }
 
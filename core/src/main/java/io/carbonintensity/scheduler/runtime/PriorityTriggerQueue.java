@@ -0,0 +1,84 @@
+package io.carbonintensity.scheduler.runtime;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+
+/**
+ * A {@link TriggerQueue} backed by a binary min-heap keyed by the check time.
+ * <p>
+ * Scheduling and polling an element costs {@code O(log n)}. Cancelled and rescheduled entries are not removed from
+ * the heap directly, they are marked as cancelled and discarded once they reach the head of the heap.
+ * </p>
+ *
+ * @param <T> the type of the scheduled elements
+ */
+class PriorityTriggerQueue<T> implements TriggerQueue<T> {
+
+    private final PriorityQueue<Entry<T>> heap = new PriorityQueue<>(
+            Comparator.<Entry<T>> comparingLong(entry -> entry.checkTime).thenComparingLong(entry -> entry.sequence));
+    private final Map<T, Entry<T>> entries = new HashMap<>();
+    private long sequence;
+
+    @Override
+    public synchronized void schedule(T element, long checkTime) {
+        Entry<T> entry = new Entry<>(element, checkTime, sequence++);
+        Entry<T> previous = entries.put(element, entry);
+        if (previous != null) {
+            previous.cancelled = true;
+        }
+        heap.add(entry);
+    }
+
+    @Override
+    public synchronized void cancel(T element) {
+        Entry<T> entry = entries.remove(element);
+        if (entry != null) {
+            entry.cancelled = true;
+        }
+    }
+
+    @Override
+    public synchronized List<T> pollDue(long now) {
+        List<T> due = new ArrayList<>();
+        Entry<T> head;
+        while ((head = heap.peek()) != null && (head.cancelled || head.checkTime <= now)) {
+            heap.poll();
+            if (!head.cancelled) {
+                entries.remove(head.element);
+                due.add(head.element);
+            }
+        }
+        return due;
+    }
+
+    @Override
+    public synchronized long nextCheckTime() {
+        Entry<T> head;
+        while ((head = heap.peek()) != null && head.cancelled) {
+            heap.poll();
+        }
+        return head != null ? head.checkTime : Long.MAX_VALUE;
+    }
+
+    @Override
+    public synchronized int size() {
+        return entries.size();
+    }
+
+    private static final class Entry<T> {
+        final T element;
+        final long checkTime;
+        final long sequence;
+        boolean cancelled;
+
+        Entry(T element, long checkTime, long sequence) {
+            this.element = element;
+            this.checkTime = checkTime;
+            this.sequence = sequence;
+        }
+    }
+}
@@ -1,5 +1,6 @@
 package io.carbonintensity.scheduler.runtime;
 
+import java.nio.file.Path;
 import java.time.Clock;
 import java.time.Duration;
 import java.util.Objects;
@@ -60,6 +61,71 @@ public class SchedulerConfig {
 
     private int jobExecutors = SchedulerDefaults.DEFAULT_NUMBER_OF_JOB_EXECUTORS;
 
+    /**
+     * Kind of threads the jobs are executed on.
+     */
+    private JobExecutorType jobExecutorType = JobExecutorType.PLATFORM_THREADS;
+
+    /**
+     * Maximum number of job executions waiting for a job executor, or running at the same time with
+     * {@link JobExecutorType#VIRTUAL_THREADS}. Unbounded by default, set a capacity to bound the queue and apply the
+     * {@link #jobOverflowPolicy} to executions that do not fit.
+     */
+    private int jobQueueCapacity = SchedulerDefaults.DEFAULT_JOB_QUEUE_CAPACITY;
+
+    /**
+     * What happens to a job execution that does not fit in the job queue.
+     */
+    private JobOverflowPolicy jobOverflowPolicy = JobOverflowPolicy.SKIP;
+
+    /**
+     * Thread on which event listeners are called.
+     */
+    private EventDispatchMode eventDispatchMode = EventDispatchMode.SYNCHRONOUS;
+
+    /**
+     * Fraction by which the carbon intensity of a planned timeslot may exceed the best one, to spread jobs with the same
+     * window over several timeslots.
+     */
+    private double carbonTolerance = SchedulerDefaults.DEFAULT_CARBON_TOLERANCE;
+
+    /**
+     * Whether jobs are planned one by one or together per zone.
+     */
+    private PlanningMode planningMode = PlanningMode.INDIVIDUAL;
+
+    /**
+     * Maximum number of jobs of a zone planned to run at the same time with {@link PlanningMode#BATCH}.
+     */
+    private int planningSlotCapacity = SchedulerDefaults.DEFAULT_PLANNING_SLOT_CAPACITY;
+
+    /**
+     * Data structure used to keep track of the next trigger evaluations.
+     */
+    private TriggerQueueType triggerQueueType = TriggerQueueType.PRIORITY_QUEUE;
+
+    /**
+     * How the scheduler decides when to check the triggers.
+     */
+    private TriggerCheckMode triggerCheckMode = TriggerCheckMode.FIXED_RATE;
+
+    /**
+     * Carbon intensity data is fetched again in the background once the cached forecast ends within this window.
+     * Disabled by default.
+     */
+    private Duration refreshAhead = SchedulerDefaults.DEFAULT_REFRESH_AHEAD;
+
+    /**
+     * Maximum age of a forecast that is served while newer carbon intensity data is fetched in the background.
+     * Disabled by default.
+     */
+    private Duration maxStaleness = SchedulerDefaults.DEFAULT_MAX_STALENESS;
+
+    /**
+     * Directory in which carbon intensity forecasts are persisted across restarts, {@code null} if they are not.
+     */
+    private Path cacheDirectory;
+
     public boolean isEnabled() {
         return enabled;
     }
@@ -79,6 +145,37 @@ public class SchedulerConfig {
         this.jobExecutors = jobExecutors;
     }
 
+    public JobExecutorType getJobExecutorType() {
+        return jobExecutorType;
+    }
+
+    public void setJobExecutorType(JobExecutorType jobExecutorType) {
+        this.jobExecutorType = Objects.requireNonNull(jobExecutorType, "Job executor type cannot be null");
+    }
+
+    public int getJobQueueCapacity() {
+        return jobQueueCapacity;
+    }
+
+    /**
+     * @param jobQueueCapacity maximum number of job executions waiting for a job executor, with
+     *        {@link JobExecutorType#VIRTUAL_THREADS} the maximum number of job executions running at the same time
+     */
+    public void setJobQueueCapacity(int jobQueueCapacity) {
+        if (jobQueueCapacity < 1) {
+            throw new IllegalArgumentException("Job queue capacity cannot be less than 1");
+        }
+        this.jobQueueCapacity = jobQueueCapacity;
+    }
+
+    public JobOverflowPolicy getJobOverflowPolicy() {
+        return jobOverflowPolicy;
+    }
+
+    public void setJobOverflowPolicy(JobOverflowPolicy jobOverflowPolicy) {
+        this.jobOverflowPolicy = Objects.requireNonNull(jobOverflowPolicy, "Job overflow policy cannot be null");
+    }
+
     public Duration getOverdueGracePeriod() {
         return overdueGracePeriod;
     }
@@ -103,6 +200,101 @@ public class SchedulerConfig {
         this.startMode = Objects.requireNonNull(startMode, "Start mode cannot be null");
     }
 
+    public EventDispatchMode getEventDispatchMode() {
+        return eventDispatchMode;
+    }
+
+    public void setEventDispatchMode(EventDispatchMode eventDispatchMode) {
+        this.eventDispatchMode = Objects.requireNonNull(eventDispatchMode, "Event dispatch mode cannot be null");
+    }
+
+    public double getCarbonTolerance() {
+        return carbonTolerance;
+    }
+
+    /**
+     * Jobs pick one of the timeslots within the tolerance by a hash of their identity, so that jobs with the same window
+     * do not all start at the same second.
+     *
+     * @param carbonTolerance fraction above the carbon intensity of the best timeslot, e.g. {@code 0.05} for 5%,
+     *        {@code 0} places every job in the best timeslot
+     */
+    public void setCarbonTolerance(double carbonTolerance) {
+        if (!(carbonTolerance >= 0) || Double.isInfinite(carbonTolerance)) {
+            throw new IllegalArgumentException("Carbon tolerance must be a finite number of at least 0");
+        }
+        this.carbonTolerance = carbonTolerance;
+    }
+
+    public PlanningMode getPlanningMode() {
+        return planningMode;
+    }
+
+    public void setPlanningMode(PlanningMode planningMode) {
+        this.planningMode = Objects.requireNonNull(planningMode, "Planning mode cannot be null");
+    }
+
+    public int getPlanningSlotCapacity() {
+        return planningSlotCapacity;
+    }
+
+    /**
+     * @param planningSlotCapacity maximum number of jobs of a zone planned to run at the same time, only applies to
+     *        {@link PlanningMode#BATCH}
+     */
+    public void setPlanningSlotCapacity(int planningSlotCapacity) {
+        if (planningSlotCapacity < 1) {
+            throw new IllegalArgumentException("Planning slot capacity cannot be less than 1");
+        }
+        this.planningSlotCapacity = planningSlotCapacity;
+    }
+
+    public TriggerQueueType getTriggerQueueType() {
+        return triggerQueueType;
+    }
+
+    public void setTriggerQueueType(TriggerQueueType triggerQueueType) {
+        this.triggerQueueType = Objects.requireNonNull(triggerQueueType, "Trigger queue type cannot be null");
+    }
+
+    public TriggerCheckMode getTriggerCheckMode() {
+        return triggerCheckMode;
+    }
+
+    public void setTriggerCheckMode(TriggerCheckMode triggerCheckMode) {
+        this.triggerCheckMode = Objects.requireNonNull(triggerCheckMode, "Trigger check mode cannot be null");
+    }
+
+    public Duration getRefreshAhead() {
+        return refreshAhead;
+    }
+
+    /**
+     * @param refreshAhead refresh window, {@link Duration#ZERO} disables refreshing ahead
+     */
+    public void setRefreshAhead(Duration refreshAhead) {
+        this.refreshAhead = Objects.requireNonNull(refreshAhead, "Refresh ahead cannot be null");
+    }
+
+    public Duration getMaxStaleness() {
+        return maxStaleness;
+    }
+
+    /**
+     * @param maxStaleness maximum staleness, {@link Duration#ZERO} makes planning wait for the carbon intensity API
+     */
+    public void setMaxStaleness(Duration maxStaleness) {
+        this.maxStaleness = Objects.requireNonNull(maxStaleness, "Maximum staleness cannot be null");
+    }
+
+    public Path getCacheDirectory() {
+        return cacheDirectory;
+    }
+
+    public void setCacheDirectory(Path cacheDirectory) {
+        this.cacheDirectory = cacheDirectory;
+    }
+
     public CarbonIntensityApiConfig getCarbonIntensityApiConfig() {
         return carbonIntensityApiConfig;
     }
@@ -134,6 +326,104 @@ public class SchedulerConfig {
         HALTED
     }
 
+    public enum JobExecutorType {
+
+        /**
+         * Jobs are executed on a fixed pool of {@link #getJobExecutors()} platform threads.
+         */
+        PLATFORM_THREADS,
+
+        /**
+         * Every job execution runs on a new virtual thread, so that blocking I/O does not hold up other jobs. The number
+         * of job executors is not used, {@link io.carbonintensity.scheduler.ConcurrentExecution#SKIP} still limits a job
+         * to a single execution at a time.
+         * <p>
+         * Requires Java 21 or later, on older runtimes the scheduler falls back to {@link #PLATFORM_THREADS}.
+         */
+        VIRTUAL_THREADS
+    }
+
+    public enum JobOverflowPolicy {
+
+        /**
+         * The execution is dropped and {@link Scheduler.EventListener#jobExecutionSkipped} is fired.
+         */
+        SKIP,
+
+        /**
+         * The execution is submitted again on the next trigger check. The trigger of the job is not evaluated until the
+         * execution has been submitted, so a job never piles up more than one delayed execution.
+         */
+        DELAY,
+
+        /**
+         * The execution runs on the trigger check thread, which delays the other triggers until it finishes.
+         */
+        CALLER_RUNS
+    }
+
+    public enum EventDispatchMode {
+
+        /**
+         * Event listeners are called on the thread that fires the event, usually the thread that executed the job.
+         */
+        SYNCHRONOUS,
+
+        /**
+         * Events are queued and event listeners are called in batches on a dedicated thread, so that a slow listener
+         * does not add latency to job executions. Events are only delivered on the firing thread while the queue is
+         * full, or while the scheduler is not started.
+         */
+        ASYNCHRONOUS
+    }
+
+    public enum PlanningMode {
+
+        /**
+         * Every trigger plans its job on its own, see {@link #getCarbonTolerance()} to spread jobs with the same window.
+         */
+        INDIVIDUAL,
+
+        /**
+         * The jobs of a zone are planned together, so that no more than {@link #getPlanningSlotCapacity()} of them are
+         * planned to run at the same time. The plan is computed once per carbon intensity data refresh, jobs that move
+         * to their next window in between are placed around the planned jobs. The carbon tolerance is not used.
+         */
+        BATCH
+    }
+
+    public enum TriggerQueueType {
+
+        /**
+         * Triggers are kept in a binary heap. Scheduling and expiring a job costs {@code O(log n)}.
+         */
+        PRIORITY_QUEUE,
+
+        /**
+         * Triggers are kept in a hierarchical timing wheel. Scheduling, unscheduling and expiring a job costs
+         * {@code O(1)}.
+         * <p>
+         * This is useful when hundreds of thousands of programmatic jobs are scheduled.
+         */
+        TIMING_WHEEL
+    }
+
+    public enum TriggerCheckMode {
+
+        /**
+         * The triggers are checked every second, even if no job is due.
+         */
+        FIXED_RATE,
+
+        /**
+         * The trigger check thread sleeps until the earliest job is due. It is woken up early when a job is scheduled or
+         * resumed, and does not wake up at all while the scheduler is paused or has no jobs.
+         * <p>
+         * This avoids idle wakeups for schedules that only fire a few times a day.
+         */
+        ADAPTIVE
+    }
+
     public CarbonIntensityApi getCarbonIntensityApi() {
         return carbonIntensityApi;
     }
@@ -16,6 +16,11 @@ public final class SchedulerDefaults {
     public static final Duration DEFAULT_DURATION = Duration.ofSeconds(1);
     public static final String DEFAULT_API_URL = "http://localhost:8080";
     public static final int DEFAULT_NUMBER_OF_JOB_EXECUTORS = 10;
+    public static final int DEFAULT_JOB_QUEUE_CAPACITY = Integer.MAX_VALUE;
+    public static final double DEFAULT_CARBON_TOLERANCE = 0;
+    public static final int DEFAULT_PLANNING_SLOT_CAPACITY = Integer.MAX_VALUE;
+    public static final Duration DEFAULT_REFRESH_AHEAD = Duration.ZERO;
+    public static final Duration DEFAULT_MAX_STALENESS = Duration.ZERO;
 
     private SchedulerDefaults() {
     }
@@ -8,7 +8,6 @@ import java.time.ZoneId;
 import java.time.ZonedDateTime;
 import java.time.chrono.ChronoZonedDateTime;
 import java.time.temporal.ChronoUnit;
-import java.util.ArrayList;
 import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
@@ -16,13 +15,18 @@ import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
 import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.Semaphore;
 import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.IntSupplier;
+import java.util.function.LongSupplier;
 import java.util.stream.Collectors;
 
 import org.slf4j.Logger;
@@ -31,6 +35,7 @@ import org.slf4j.LoggerFactory;
 import com.cronutils.model.Cron;
 import com.cronutils.model.time.ExecutionTime;
 
+import io.carbonintensity.executionplanner.planner.batch.BatchPlanner;
 import io.carbonintensity.executionplanner.planner.fixedwindow.DefaultFixedWindowPlanningConstraints;
 import io.carbonintensity.executionplanner.planner.fixedwindow.FixedWindowPlanner;
 import io.carbonintensity.executionplanner.planner.fixedwindow.FixedWindowPlanningConstraints;
@@ -39,16 +44,20 @@ import io.carbonintensity.executionplanner.planner.successive.SuccessivePlanner;
 import io.carbonintensity.executionplanner.planner.successive.SuccessivePlanningConstraints;
 import io.carbonintensity.executionplanner.runtime.impl.CarbonIntensityDataFetcher;
 import io.carbonintensity.executionplanner.runtime.impl.CarbonIntensityDataFetcherImpl;
+import io.carbonintensity.executionplanner.runtime.impl.CarbonIntensityDiskCache;
 import io.carbonintensity.executionplanner.runtime.impl.rest.CarbonIntensityApiType;
 import io.carbonintensity.executionplanner.runtime.impl.rest.CarbonIntensityRestApi;
 import io.carbonintensity.executionplanner.spi.CarbonIntensityPlanner;
 import io.carbonintensity.executionplanner.spi.PlanningConstraints;
+import io.carbonintensity.executionplanner.strategy.PlanningResolution;
 import io.carbonintensity.scheduler.ConcurrentExecution;
 import io.carbonintensity.scheduler.GreenScheduled;
 import io.carbonintensity.scheduler.ScheduledExecution;
 import io.carbonintensity.scheduler.Scheduler;
 import io.carbonintensity.scheduler.SkipPredicate;
 import io.carbonintensity.scheduler.Trigger;
+import io.carbonintensity.scheduler.runtime.SchedulerConfig.EventDispatchMode;
+import io.carbonintensity.scheduler.runtime.SchedulerConfig.JobExecutorType;
 import io.carbonintensity.scheduler.runtime.SchedulerConfig.StartMode;
 import io.carbonintensity.scheduler.runtime.impl.annotation.GreenScheduledAnnotationParser;
 import io.carbonintensity.scheduler.runtime.impl.rest.CarbonIntensityFileApi;
@@ -74,13 +83,39 @@ import io.carbonintensity.scheduler.spi.JobInstrumenter;
  * The scheduler manages three executor services:
  * <ul>
  * <li>{@code scheduledExecutor} - Periodically checks for triggers.</li>
- * <li>{@code jobExecutor} - Executes scheduled jobs.</li>
+ * <li>{@code jobExecutor} - Executes scheduled jobs. Executions wait in a queue of
+ * {@link SchedulerConfig#getJobQueueCapacity()} for a free thread, once it is full the
+ * {@link SchedulerConfig.JobOverflowPolicy} applies. With {@link JobExecutorType#VIRTUAL_THREADS} the capacity bounds
+ * the executions running at the same time instead.</li>
  * <li>{@code renewExecutor} - Handles renewal-related tasks.</li>
  * </ul>
+ * With {@link SchedulerConfig.EventDispatchMode#ASYNCHRONOUS} a dedicated thread also delivers the scheduler events.
  * These executors ensure efficient and concurrent execution of jobs while maintaining scheduling
  * accuracy.
  * </p>
  *
+ * <h3>Trigger Evaluation</h3>
+ * <p>
+ * Scheduled tasks are kept in a {@link TriggerQueue} ordered by the moment their trigger needs to be evaluated next,
+ * see {@link SchedulerConfig.TriggerQueueType}. A trigger check only evaluates the tasks that are due, after which
+ * each task is re-queued with the next evaluation time computed by its trigger. Triggers that cannot compute such a
+ * time are evaluated again on the next check.
+ * </p>
+ * <p>
+ * Carbon intensity aware triggers plan asynchronously, a trigger check never waits for carbon intensity data. Until
+ * the plan is available such a trigger uses the latest execution time allowed by its constraints, and it is evaluated
+ * again as soon as the plan completes.
+ * </p>
+ * <p>
+ * With {@link SchedulerConfig.PlanningMode#BATCH} all triggers share a {@link BatchPlanner}, which plans the jobs of a
+ * zone together within {@link SchedulerConfig#getPlanningSlotCapacity()}.
+ * </p>
+ * <p>
+ * By default the triggers are checked every second. With {@link SchedulerConfig.TriggerCheckMode#ADAPTIVE} the next
+ * check is scheduled at {@link TriggerQueue#nextCheckTime()} instead. It is brought forward when a job is scheduled
+ * or resumed, unscheduled and paused jobs are simply dropped by the pending check.
+ * </p>
+ *
  * <h3>Usage</h3>
  *
  * <pre>{@code
@@ -104,29 +139,39 @@ public class SimpleScheduler implements Scheduler {
     private static final Logger log = LoggerFactory.getLogger(SimpleScheduler.class);
     // milliseconds
     public static final long CHECK_PERIOD = 1000L;
+    // milliseconds, upper bound of an adaptive sleep to recover from system suspend and wall clock adjustments
+    static final long MAX_CHECK_DELAY = 60_000L;
 
     private CarbonIntensityDataFetcher dataFetcher;
+    // only with PlanningMode.BATCH
+    private BatchPlanner batchPlanner;
     private final Clock clock;
     private ScheduledExecutorService scheduledExecutor;
     private ScheduledFuture<?> scheduledFuture;
+    private final Object checkLock = new Object();
+    // epoch milliseconds of the pending adaptive check
+    private long scheduledCheckTime = Long.MAX_VALUE;
     private ExecutorService jobExecutor;
+    // only with JobExecutorType.VIRTUAL_THREADS, bounds the running job executions
+    private Semaphore jobPermits;
+    private AsyncEventDispatcher eventDispatcher;
     private volatile boolean running;
     private final ConcurrentMap<String, ScheduledTask> scheduledTasks;
+    private final TriggerQueue<ScheduledTask> triggerQueue;
     private final boolean enabled;
     private final SchedulerConfig schedulerConfig;
     private final JobInstrumenter jobInstrumenter;
-    private final List<EventListener> eventListeners;
     private final Events events;
 
     public SimpleScheduler(SchedulerConfig schedulerConfig) {
         this.clock = schedulerConfig.getClock();
-        this.events = new Events(this);
+        this.events = new Events();
         this.running = false;
         this.enabled = schedulerConfig.isEnabled();
         this.scheduledTasks = new ConcurrentHashMap<>();
+        this.triggerQueue = createTriggerQueue(schedulerConfig.getTriggerQueueType(), clock);
         this.schedulerConfig = schedulerConfig;
         this.jobInstrumenter = schedulerConfig.getJobInstrumenter();
-        this.eventListeners = new ArrayList<>();
 
         if (!schedulerConfig.isEnabled()) {
             log.info("Simple scheduler is disabled by config property and will not be started.");
@@ -138,7 +183,14 @@ public class SimpleScheduler implements Scheduler {
 
         log.info("CarbonIntensity API: {}", carbonIntensityApi.getApiName());
 
-        this.dataFetcher = new CarbonIntensityDataFetcherImpl(carbonIntensityApi, new CarbonIntensityFileApi());
+        var diskCache = schedulerConfig.getCacheDirectory() != null
+                ? new CarbonIntensityDiskCache(schedulerConfig.getCacheDirectory())
+                : null;
+        this.dataFetcher = new CarbonIntensityDataFetcherImpl(carbonIntensityApi, new CarbonIntensityFileApi(), clock,
+                schedulerConfig.getRefreshAhead(), schedulerConfig.getMaxStaleness(), diskCache);
+        if (schedulerConfig.getPlanningMode() == SchedulerConfig.PlanningMode.BATCH) {
+            this.batchPlanner = new BatchPlanner(dataFetcher, schedulerConfig.getPlanningSlotCapacity());
+        }
 
         if (StartMode.FORCED == schedulerConfig.getStartMode()) {
             log.info("Simple scheduler will be started, force scheduler start is enabled.");
@@ -157,9 +209,10 @@ public class SimpleScheduler implements Scheduler {
             final var constraints = GreenScheduledAnnotationParser.createConstraints(id, scheduled, clock);
             SimpleTrigger trigger = createTrigger(id, method.getMethodDescription(),
                     GreenScheduledAnnotationParser.parseOverdueGracePeriod(scheduled, schedulerConfig.getOverdueGracePeriod()),
-                    constraints);
+                    GreenScheduledAnnotationParser.parsePlanningResolution(scheduled), constraints);
             ScheduledInvoker invoker = initInvoker(method.getInvoker(), events,
-                    scheduled.concurrentExecution(), initSkipPredicate(scheduled.skipExecutionIf()), jobInstrumenter);
+                    scheduled.concurrentExecution(), initSkipPredicate(scheduled.skipExecutionIf()), jobInstrumenter,
+                    this::getJobQueueDepth);
             registerTask(trigger.id, new ScheduledTask(trigger, invoker, false));
         }
     }
@@ -180,6 +233,10 @@ public class SimpleScheduler implements Scheduler {
             ScheduledTask task = scheduledTasks.get(identity);
             if (task != null && task.isProgrammatic) {
                 if (scheduledTasks.remove(task.trigger.id) != null) {
+                    triggerQueue.cancel(task);
+                    if (batchPlanner != null) {
+                        batchPlanner.unregister(identity);
+                    }
                     return task.trigger;
                 }
             }
@@ -209,6 +266,12 @@ public class SimpleScheduler implements Scheduler {
             // This executor is used to check all registered triggers every second
             this.scheduledExecutor = new ScheduledThreadPoolExecutor(2, tf);
         }
+        if (this.jobExecutor == null && schedulerConfig.getJobExecutorType() == JobExecutorType.VIRTUAL_THREADS) {
+            this.jobExecutor = VirtualThreads.newThreadPerTaskExecutor("green-scheduler-job-executor-");
+            if (this.jobExecutor != null) {
+                this.jobPermits = new Semaphore(schedulerConfig.getJobQueueCapacity());
+            }
+        }
         if (this.jobExecutor == null) {
             ThreadFactory jtf = new ThreadFactory() {
 
@@ -228,17 +291,27 @@ public class SimpleScheduler implements Scheduler {
                 }
             };
             // This executor is used to run all jobs
-            this.jobExecutor = Executors.newFixedThreadPool(schedulerConfig.getJobExecutors(), jtf);
+            this.jobExecutor = new ThreadPoolExecutor(schedulerConfig.getJobExecutors(), schedulerConfig.getJobExecutors(),
+                    0L, TimeUnit.MILLISECONDS, new LinkedBlockingQueue<>(schedulerConfig.getJobQueueCapacity()), jtf);
+        }
+        if (this.eventDispatcher == null && schedulerConfig.getEventDispatchMode() == EventDispatchMode.ASYNCHRONOUS) {
+            this.eventDispatcher = new AsyncEventDispatcher(AsyncEventDispatcher.DEFAULT_CAPACITY);
+            events.setDispatcher(eventDispatcher);
         }
     }
 
     public void start() {
-        if (schedulerConfig.isEnabled() && (scheduledFuture == null || scheduledFuture.isDone())) {
+        if (schedulerConfig.isEnabled() && !isStarted()) {
             running = schedulerConfig.getStartMode() != StartMode.HALTED;
 
             // Init executors if needed.
             initExecutors();
 
+            if (isAdaptive()) {
+                rescheduleCheck(true);
+                return;
+            }
+
             // Try to compute the initial delay to execute the checks near to the whole second
             // Note that this does not guarantee anything, it's just best effort
             LocalDateTime now = LocalDateTime.now(clock);
@@ -251,14 +324,17 @@ public class SimpleScheduler implements Scheduler {
 
     public void stop() {
         log.info("Shutting down simple scheduler gracefully.");
-        if (scheduledFuture != null) {
-            scheduledFuture.cancel(false);
-            scheduledFuture = null;
-        }
         try {
-            if (scheduledExecutor != null) {
-                scheduledExecutor.shutdownNow();
-                scheduledExecutor = null;
+            synchronized (checkLock) {
+                if (scheduledFuture != null) {
+                    scheduledFuture.cancel(false);
+                    scheduledFuture = null;
+                }
+                scheduledCheckTime = Long.MAX_VALUE;
+                if (scheduledExecutor != null) {
+                    scheduledExecutor.shutdownNow();
+                    scheduledExecutor = null;
+                }
             }
         } catch (Exception e) {
             log.warn("Unable to shutdown the scheduler executor", e);
@@ -277,44 +353,188 @@ public class SimpleScheduler implements Scheduler {
                     log.warn("Got interrupted during wait on graceful shutdown of job executor, shutting down now.");
                 } finally {
                     jobExecutor = null;
+                    jobPermits = null;
                 }
             }
         } catch (Exception e) {
             log.warn("Unable to shutdown the job executor", e);
         }
+        if (eventDispatcher != null) {
+            // events fired from now on are delivered on the firing thread
+            events.setDispatcher(null);
+            eventDispatcher.close(schedulerConfig.getShutdownGracePeriod());
+            eventDispatcher = null;
+        }
         log.info("Simple scheduler shutdown.");
         running = false;
     }
 
     @Override
     public void addJobListener(EventListener listener) {
-        if (!this.eventListeners.contains(listener)) {
-            this.eventListeners.add(listener);
-        }
+        events.addListener(listener);
     }
 
     @Override
     public boolean removeJobListener(EventListener listener) {
-        return this.eventListeners.remove(listener);
+        return events.removeListener(listener);
     }
 
     List<EventListener> getEventListeners() {
-        return new ArrayList<>(this.eventListeners);
+        return events.getListeners();
     }
 
     void checkTriggers() {
+        try {
+            doCheckTriggers();
+        } finally {
+            rescheduleCheck(true);
+        }
+    }
+
+    private void doCheckTriggers() {
         if (!running) {
             log.trace("Skip all triggers - scheduler paused");
             return;
         }
         ZonedDateTime now = ZonedDateTime.now(clock);
         log.trace("Check triggers at {}", now);
-        for (ScheduledTask task : scheduledTasks.values()) {
+        for (ScheduledTask task : triggerQueue.pollDue(now.toInstant().toEpochMilli())) {
+            if (scheduledTasks.get(task.trigger.id) != task) {
+                // unscheduled in the meantime
+                continue;
+            }
+            if (task.trigger.isPaused()) {
+                // queued again when the job is resumed
+                continue;
+            }
             try {
-                task.execute(now, jobExecutor);
+                task.execute(now, this::submit);
             } catch (Exception e) {
                 log.warn("Unexpected exception while executing trigger for {}", task.trigger.getMethodDescription(), e);
             }
+            triggerQueue.schedule(task, task.nextCheckTime(now));
+            CompletableFuture<?> pendingPlan = task.trigger.pendingPlan();
+            if (pendingPlan != null) {
+                // registered after the task is queued so that an earlier plan is never overwritten
+                pendingPlan.whenComplete((executionTime, e) -> {
+                    triggerQueue.schedule(task, clock.millis());
+                    rescheduleCheck(false);
+                });
+            }
+        }
+    }
+
+    private void submit(ScheduledTask task, ZonedDateTime now, ZonedDateTime scheduledFireTime) {
+        Semaphore permits = jobPermits;
+        if (permits == null) {
+            try {
+                jobExecutor.execute(() -> task.doInvoke(now, scheduledFireTime));
+            } catch (RejectedExecutionException e) {
+                if (jobExecutor.isShutdown()) {
+                    throw e;
+                }
+                overflow(task, now, scheduledFireTime);
+            }
+            return;
+        }
+        if (!permits.tryAcquire()) {
+            overflow(task, now, scheduledFireTime);
+            return;
+        }
+        try {
+            jobExecutor.execute(() -> {
+                try {
+                    task.doInvoke(now, scheduledFireTime);
+                } finally {
+                    permits.release();
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            permits.release();
+            throw e;
+        }
+    }
+
+    private void overflow(ScheduledTask task, ZonedDateTime now, ZonedDateTime scheduledFireTime) {
+        switch (schedulerConfig.getJobOverflowPolicy()) {
+            case DELAY:
+                log.debug("Job queue is full, {} is delayed to the next check", task.trigger.getMethodDescription());
+                task.delayedFireTime = scheduledFireTime;
+                break;
+            case CALLER_RUNS:
+                task.doInvoke(now, scheduledFireTime);
+                break;
+            default:
+                log.warn("Job queue is full, {} is skipped", task.trigger.getMethodDescription());
+                events.fireJobExecutionSkipped(new SimpleScheduledExecution(now, scheduledFireTime, task.trigger),
+                        "The job queue is full");
+        }
+    }
+
+    /**
+     * Published to the {@link JobInstrumenter} of the scheduler with every job execution.
+     *
+     * @return number of job executions waiting for a job executor, with {@link JobExecutorType#VIRTUAL_THREADS} the
+     *         number of job executions running
+     */
+    int getJobQueueDepth() {
+        Semaphore permits = jobPermits;
+        if (permits != null) {
+            return schedulerConfig.getJobQueueCapacity() - permits.availablePermits();
+        }
+        ExecutorService executor = jobExecutor;
+        return executor instanceof ThreadPoolExecutor ? ((ThreadPoolExecutor) executor).getQueue().size() : 0;
+    }
+
+    private boolean isAdaptive() {
+        return schedulerConfig.getTriggerCheckMode() == SchedulerConfig.TriggerCheckMode.ADAPTIVE;
+    }
+
+    private boolean isStarted() {
+        if (isAdaptive()) {
+            // the pending check is cancelled while the scheduler has nothing to do
+            return scheduledExecutor != null;
+        }
+        return scheduledFuture != null && !scheduledFuture.isDone();
+    }
+
+    /**
+     * Schedules the next adaptive trigger check at the next check time of the trigger queue. It is a no-op in the
+     * fixed rate mode.
+     *
+     * @param force {@code true} to replace the pending check, {@code false} to only replace it if the queue is due earlier
+     */
+    private void rescheduleCheck(boolean force) {
+        if (!isAdaptive()) {
+            return;
+        }
+        synchronized (checkLock) {
+            if (scheduledExecutor == null) {
+                return;
+            }
+            long nextCheckTime = running ? triggerQueue.nextCheckTime() : Long.MAX_VALUE;
+            boolean pending = scheduledFuture != null && !scheduledFuture.isDone();
+            if (!force && pending && scheduledCheckTime <= nextCheckTime) {
+                return;
+            }
+            if (scheduledFuture != null) {
+                scheduledFuture.cancel(false);
+                scheduledFuture = null;
+            }
+            if (nextCheckTime == Long.MAX_VALUE) {
+                scheduledCheckTime = Long.MAX_VALUE;
+                log.trace("No trigger check scheduled - nothing to do");
+                return;
+            }
+            long now = clock.millis();
+            long delay = Math.min(Math.max(nextCheckTime - now, 0L), MAX_CHECK_DELAY);
+            // the time of the check actually scheduled, which is earlier than the queue asks for if the delay is capped
+            scheduledCheckTime = now + delay;
+            try {
+                scheduledFuture = scheduledExecutor.schedule(this::checkTriggers, delay, TimeUnit.MILLISECONDS);
+            } catch (RejectedExecutionException e) {
+                log.debug("Unable to schedule the next trigger check, the scheduler is shutting down");
+            }
         }
     }
 
@@ -324,6 +544,7 @@ public class SimpleScheduler implements Scheduler {
             log.warn("Scheduler is disabled and cannot be paused");
         } else {
             running = false;
+            rescheduleCheck(true);
             events.fireSchedulerPaused();
         }
     }
@@ -361,6 +582,7 @@ public class SimpleScheduler implements Scheduler {
             log.warn("Scheduler is disabled and cannot be resumed");
         } else {
             running = true;
+            rescheduleCheck(false);
             events.fireSchedulerResumed();
         }
     }
@@ -375,6 +597,8 @@ public class SimpleScheduler implements Scheduler {
         ScheduledTask task = scheduledTasks.get(identity);
         if (task != null) {
             task.trigger.setRunning(true);
+            triggerQueue.schedule(task, clock.millis());
+            rescheduleCheck(false);
             events.fireJobResumed(task.trigger);
         }
     }
@@ -402,31 +626,64 @@ public class SimpleScheduler implements Scheduler {
         return null;
     }
 
+    /**
+     * @param planningResolution resolution of the planner, {@code null} to use the default of the planner; ignored when
+     *        planning in batches
+     */
     SimpleTrigger createTrigger(String id, String methodDescription, Duration overdueGracePeriod,
-            PlanningConstraints constraints) {
+            PlanningResolution planningResolution, PlanningConstraints constraints) {
 
         if (constraints instanceof FixedWindowPlanningConstraints) {
             var fixedWindowConstraints = (FixedWindowPlanningConstraints) constraints;
-            CarbonIntensityPlanner<FixedWindowPlanningConstraints> fixedWindowPlanner = new FixedWindowPlanner(dataFetcher);
+            CarbonIntensityPlanner<FixedWindowPlanningConstraints> fixedWindowPlanner = batchPlanner != null
+                    ? batchPlanner.asPlannerOf(FixedWindowPlanningConstraints.class)
+                    : new FixedWindowPlanner(dataFetcher, schedulerConfig.getCarbonTolerance(),
+                            Objects.requireNonNullElseGet(planningResolution,
+                                    () -> PlanningResolution.of(FixedWindowPlanner.DEFAULT_RESOLUTION)));
             return new FixedWindowTrigger(id, methodDescription, overdueGracePeriod, fixedWindowPlanner,
-                    fixedWindowConstraints, clock);
+                    fixedWindowConstraints, clock, () -> dataFetcher.getDataVersion(fixedWindowConstraints.getZone()));
         } else if (constraints instanceof SuccessivePlanningConstraints) {
             var successiveConstraints = (SuccessivePlanningConstraints) constraints;
-            CarbonIntensityPlanner<SuccessivePlanningConstraints> successivePlanner = new SuccessivePlanner(dataFetcher);
+            CarbonIntensityPlanner<SuccessivePlanningConstraints> successivePlanner = batchPlanner != null
+                    ? batchPlanner.asPlannerOf(SuccessivePlanningConstraints.class)
+                    : new SuccessivePlanner(dataFetcher, schedulerConfig.getCarbonTolerance(),
+                            Objects.requireNonNullElseGet(planningResolution,
+                                    () -> PlanningResolution.of(SuccessivePlanner.DEFAULT_RESOLUTION)));
             final var start = ZonedDateTime.now(clock).truncatedTo(ChronoUnit.SECONDS);
             return new SuccessiveTrigger(id, clock, start, methodDescription, overdueGracePeriod, successivePlanner,
-                    successiveConstraints);
+                    successiveConstraints, () -> dataFetcher.getDataVersion(successiveConstraints.getZone()));
         }
         throw new IllegalArgumentException("Constraints type not implemented: " + constraints.getClass());
     }
 
+    static TriggerQueue<ScheduledTask> createTriggerQueue(SchedulerConfig.TriggerQueueType type, Clock clock) {
+        if (type == SchedulerConfig.TriggerQueueType.TIMING_WHEEL) {
+            return new TimingWheelTriggerQueue<>(CHECK_PERIOD, clock.millis());
+        }
+        return new PriorityTriggerQueue<>();
+    }
+
     ScheduledTask registerTask(String id, ScheduledTask scheduledTask) {
         start();
-        return scheduledTasks.putIfAbsent(id, scheduledTask);
+        ScheduledTask existing = scheduledTasks.putIfAbsent(id, scheduledTask);
+        if (existing == null) {
+            // evaluate the new trigger on the next check
+            triggerQueue.schedule(scheduledTask, clock.millis());
+            rescheduleCheck(false);
+        }
+        return existing;
     }
 
     public static ScheduledInvoker initInvoker(ScheduledInvoker invoker, Events events, ConcurrentExecution concurrentExecution,
             SkipPredicate skipPredicate, JobInstrumenter instrumenter) {
+        return initInvoker(invoker, events, concurrentExecution, skipPredicate, instrumenter, () -> 0);
+    }
+
+    /**
+     * @param jobQueueDepth the current depth of the job queue, published to the instrumenter
+     */
+    public static ScheduledInvoker initInvoker(ScheduledInvoker invoker, Events events, ConcurrentExecution concurrentExecution,
+            SkipPredicate skipPredicate, JobInstrumenter instrumenter, IntSupplier jobQueueDepth) {
         invoker = new StatusEmitterInvoker(invoker, events);
         if (concurrentExecution == ConcurrentExecution.SKIP) {
             invoker = new SkipConcurrentExecutionInvoker(invoker, events);
@@ -435,7 +692,7 @@ public class SimpleScheduler implements Scheduler {
             invoker = new SkipPredicateInvoker(invoker, skipPredicate, events);
         }
         if (instrumenter != null) {
-            invoker = new InstrumentedInvoker(invoker, instrumenter);
+            invoker = new InstrumentedInvoker(invoker, instrumenter, jobQueueDepth);
         }
         return invoker;
     }
@@ -455,11 +712,19 @@ public class SimpleScheduler implements Scheduler {
         }
     }
 
+    @FunctionalInterface
+    interface JobSubmitter {
+
+        void submit(ScheduledTask task, ZonedDateTime now, ZonedDateTime scheduledFireTime);
+    }
+
     static class ScheduledTask {
 
         final boolean isProgrammatic;
         final SimpleTrigger trigger;
         final ScheduledInvoker invoker;
+        // fire time of an execution rejected by a full job queue, only accessed by the trigger check
+        ZonedDateTime delayedFireTime;
 
         ScheduledTask(SimpleTrigger trigger, ScheduledInvoker invoker, boolean isProgrammatic) {
             this.trigger = trigger;
@@ -467,16 +732,42 @@ public class SimpleScheduler implements Scheduler {
             this.isProgrammatic = isProgrammatic;
         }
 
-        void execute(ZonedDateTime now, ExecutorService executorService) {
+        void execute(ZonedDateTime now, JobSubmitter submitter) {
             if (trigger.isPaused()) {
                 return;
             }
 
-            // evaluate if we need to fire
-            ZonedDateTime scheduledFireTime = trigger.evaluate(now);
+            ZonedDateTime scheduledFireTime = delayedFireTime;
+            if (scheduledFireTime != null) {
+                delayedFireTime = null;
+            } else {
+                // evaluate if we need to fire
+                scheduledFireTime = trigger.evaluate(now);
+            }
             if (scheduledFireTime != null) {
-                executorService.execute(() -> doInvoke(now, scheduledFireTime));
+                submitter.submit(this, now, scheduledFireTime);
+            }
+        }
+
+        /**
+         * @param now the time of the trigger check that evaluated this task
+         * @return epoch milliseconds at which the trigger needs to be evaluated again
+         */
+        long nextCheckTime(ZonedDateTime now) {
+            long nowMillis = now.toInstant().toEpochMilli();
+            if (delayedFireTime != null) {
+                return nowMillis + CHECK_PERIOD;
+            }
+            try {
+                ZonedDateTime next = trigger.nextEvaluationTime(now);
+                if (next != null && next.toInstant().toEpochMilli() > nowMillis) {
+                    return next.toInstant().toEpochMilli();
+                }
+            } catch (Exception e) {
+                log.warn("Unable to compute the next evaluation time for {}", trigger.getMethodDescription(), e);
             }
+            // evaluate again on the next check
+            return nowMillis + CHECK_PERIOD;
         }
 
         void doInvoke(ZonedDateTime now, ZonedDateTime scheduledFireTime) {
@@ -507,14 +798,16 @@ public class SimpleScheduler implements Scheduler {
         private final CarbonIntensityPlanner<SuccessivePlanningConstraints> successivePlanner;
         private final SuccessivePlanningConstraints constraints;
         private final Duration gracePeriod;
+        private final AsyncPlan plan;
 
         public SuccessiveTrigger(String id, Clock clock, ZonedDateTime start, String description, Duration gracePeriod,
                 CarbonIntensityPlanner<SuccessivePlanningConstraints> successivePlanner,
-                SuccessivePlanningConstraints constraints) {
+                SuccessivePlanningConstraints constraints, LongSupplier dataVersion) {
             super(id, start, calculateFallbackInterval(constraints), gracePeriod, description, clock);
             this.successivePlanner = successivePlanner;
             this.constraints = constraints;
             this.gracePeriod = gracePeriod;
+            this.plan = new AsyncPlan(dataVersion);
         }
 
         private static long calculateFallbackInterval(SuccessivePlanningConstraints constraints) {
@@ -522,10 +815,31 @@ public class SimpleScheduler implements Scheduler {
             return constraints.getMinimumGap().plus(constraints.getMaximumGap()).dividedBy(2).toMillis();
         }
 
+        /**
+         * Returns the planned execution time following the given fire time. The plan is computed asynchronously once per
+         * firing and data version, and shared by {@link #evaluate(ZonedDateTime)},
+         * {@link #nextEvaluationTime(ZonedDateTime)}, {@link #getNextFireTime()} and {@link #isOverdue()}. Until it is
+         * available the latest execution time allowed by the constraints is used.
+         *
+         * @param last the last fire time, or {@code null} before the first firing
+         * @return the planned or provisional execution time
+         */
+        ZonedDateTime plannedExecutionTime(ZonedDateTime last) {
+            return plan.executionTime(last, () -> {
+                if (last == null) {
+                    return successivePlanner.getNextExecutionTimeAsync(constraints);
+                }
+                return successivePlanner.getNextExecutionTimeAsync(DefaultSuccessivePlanningConstraints.from(constraints)
+                        .withLastExecutionTime(last)
+                        .build());
+            }, () -> last == null ? constraints.getInitialStartTime().plus(constraints.getInitialMaximumDelay())
+                    : last.plus(constraints.getMaximumGap()));
+        }
+
         @Override
         public Instant getNextFireTime() {
             if (successivePlanner.canSchedule(constraints)) {
-                return successivePlanner.getNextExecutionTime(constraints).toInstant();
+                return plannedExecutionTime(lastFireTime).toInstant();
             }
             // fallback to interval trigger
             return super.getNextFireTime();
@@ -542,15 +856,12 @@ public class SimpleScheduler implements Scheduler {
 
                 // first invocation
                 if (lastFireTime == null) {
-                    nextExecutionTime = successivePlanner.getNextExecutionTime(constraints);
+                    nextExecutionTime = plannedExecutionTime(null);
                 }
 
                 // sequential invocations
                 if (lastFireTime != null && now.plusSeconds(1).isAfter(lastFireTime.plus(constraints.getMinimumGap()))) {
-                    nextExecutionTime = successivePlanner
-                            .getNextExecutionTime(DefaultSuccessivePlanningConstraints.from(constraints)
-                                    .withLastExecutionTime(lastFireTime)
-                                    .build());
+                    nextExecutionTime = plannedExecutionTime(lastFireTime);
                 }
 
                 if (nextExecutionTime != null) {
@@ -567,6 +878,24 @@ public class SimpleScheduler implements Scheduler {
             return super.evaluate(now);
         }
 
+        @Override
+        ZonedDateTime nextEvaluationTime(ZonedDateTime now) {
+            if (successivePlanner.canSchedule(constraints)) {
+                if (now.isBefore(start)) {
+                    return start;
+                }
+                // the provisional execution time while planning, the trigger is evaluated again once planned
+                return plannedExecutionTime(lastFireTime).truncatedTo(ChronoUnit.SECONDS);
+            }
+            // fallback to interval trigger
+            return super.nextEvaluationTime(now);
+        }
+
+        @Override
+        CompletableFuture<?> pendingPlan() {
+            return plan.pending();
+        }
+
         @Override
         public boolean isOverdue() {
             if (successivePlanner.canSchedule(constraints)) {
@@ -622,6 +951,25 @@ public class SimpleScheduler implements Scheduler {
          */
         abstract ZonedDateTime evaluate(ZonedDateTime now);
 
+        /**
+         * Computes the earliest time at which {@link #evaluate(ZonedDateTime)} may fire. The trigger is not evaluated
+         * before that time.
+         *
+         * @param now The current date-time in the default time zone
+         * @return the next evaluation time, or {@code null} if the trigger needs to be evaluated on every check
+         */
+        ZonedDateTime nextEvaluationTime(ZonedDateTime now) {
+            return null;
+        }
+
+        /**
+         * @return the plan of the next execution time while it is being computed, {@code null} otherwise; the trigger
+         *         is evaluated again once it completes since the plan may be earlier than the next evaluation time
+         */
+        CompletableFuture<?> pendingPlan() {
+            return null;
+        }
+
         @Override
         public Instant getPreviousFireTime() {
             ZonedDateTime last = lastFireTime;
@@ -693,6 +1041,26 @@ public class SimpleScheduler implements Scheduler {
             }
         }
 
+        @Override
+        ZonedDateTime nextEvaluationTime(ZonedDateTime now) {
+            if (now.isBefore(this.start)) {
+                return this.start;
+            }
+            ZonedDateTime last = this.lastFireTime;
+            // the first execution follows the start of the trigger
+            return nextExecution(last != null ? last : this.start);
+        }
+
+        /**
+         * @param time the date-time to search from
+         * @return the next execution of the cron expression after the given time, truncated to seconds, or {@code null}
+         *         if there is none
+         */
+        ZonedDateTime nextExecution(ZonedDateTime time) {
+            return this.executionTime.nextExecution(this.zoned(time)).map(next -> next.truncatedTo(ChronoUnit.SECONDS))
+                    .orElse(null);
+        }
+
         public boolean isOverdue() {
             ZonedDateTime now = ZonedDateTime.now();
             if (now.isBefore(this.start)) {
@@ -734,23 +1102,36 @@ public class SimpleScheduler implements Scheduler {
 
         private final CarbonIntensityPlanner<FixedWindowPlanningConstraints> planner;
         private final Duration overdueGracePeriod;
+        private final AsyncPlan plan;
         private FixedWindowPlanningConstraints constraints;
 
         FixedWindowTrigger(String id, String description, Duration overdueGracePeriod,
                 CarbonIntensityPlanner<FixedWindowPlanningConstraints> planner,
                 FixedWindowPlanningConstraints constraints,
-                Clock clock) {
+                Clock clock, LongSupplier dataVersion) {
             super(id, constraints.getStart(), constraints.getFallbackCronExpression(),
                     overdueGracePeriod, description, clock);
             this.planner = planner;
             this.constraints = constraints;
             this.lastFireTime = start.minusSeconds(1); // Minus 1 second so that it will run if deployed during the window (and greenest window is at the start)
             this.overdueGracePeriod = overdueGracePeriod;
+            this.plan = new AsyncPlan(dataVersion);
+        }
+
+        /**
+         * Returns the planned execution time in the current window. The plan is computed asynchronously, until it is
+         * available the end of the window is used.
+         *
+         * @return the planned or provisional execution time
+         */
+        ZonedDateTime plannedExecutionTime() {
+            final var current = constraints;
+            return plan.executionTime(current, () -> planner.getNextExecutionTimeAsync(current), current::getEnd);
         }
 
         @Override
         public Instant getNextFireTime() {
-            return planner.getNextExecutionTime(constraints).toInstant();
+            return plannedExecutionTime().toInstant();
         }
 
         @Override
@@ -767,7 +1148,7 @@ public class SimpleScheduler implements Scheduler {
 
             // first invocation
             if (lastFireTime == null || now.isAfter(lastFireTime)) {
-                ZonedDateTime nextExecutionTime = planner.getNextExecutionTime(constraints);
+                ZonedDateTime nextExecutionTime = plannedExecutionTime();
                 if (nextExecutionTime != null) {
                     ZonedDateTime nextTruncated = nextExecutionTime.truncatedTo(ChronoUnit.SECONDS);
                     if (now.isAfter(nextTruncated) && (lastFireTime == null || lastFireTime.isBefore(nextTruncated))) {
@@ -784,6 +1165,28 @@ public class SimpleScheduler implements Scheduler {
             return null;
         }
 
+        @Override
+        ZonedDateTime nextEvaluationTime(ZonedDateTime now) {
+            if (!planner.canSchedule(constraints)) {
+                // fallback to cron trigger
+                return super.nextEvaluationTime(now);
+            }
+            if (!now.isAfter(constraints.getStart())) {
+                return constraints.getStart();
+            }
+            if (!now.isBefore(constraints.getEnd().plus(overdueGracePeriod))) {
+                // the window was missed, only the fallback cron schedule may fire
+                return nextExecution(now);
+            }
+            // the provisional execution time while planning, the trigger is evaluated again once planned
+            return plannedExecutionTime().truncatedTo(ChronoUnit.SECONDS);
+        }
+
+        @Override
+        CompletableFuture<?> pendingPlan() {
+            return plan.pending();
+        }
+
         @Override
         public boolean isOverdue() {
             return false;
@@ -839,6 +1242,15 @@ public class SimpleScheduler implements Scheduler {
             return null;
         }
 
+        @Override
+        ZonedDateTime nextEvaluationTime(ZonedDateTime now) {
+            ZonedDateTime last = lastFireTime;
+            if (last == null) {
+                return start;
+            }
+            return last.plus(Duration.ofMillis(interval));
+        }
+
         @Override
         public Instant getNextFireTime() {
             ZonedDateTime last = lastFireTime;
@@ -948,8 +1360,9 @@ public class SimpleScheduler implements Scheduler {
                 }
             };
 
-            SimpleTrigger trigger = createTrigger(identity, null, overdueGracePeriod,
+            SimpleTrigger trigger = createTrigger(identity, null, overdueGracePeriod, planningResolution,
                     DefaultSuccessivePlanningConstraints.builder()
+                            .withIdentity(identity)
                             .withInitialStartTime(ZonedDateTime.now(clock))
                             .withInitialMaximumDelay(initialMaximumDelay)
                             .withMinimumGap(minimumGap)
@@ -957,7 +1370,8 @@ public class SimpleScheduler implements Scheduler {
                             .withDuration(duration)
                             .withZone(zone)
                             .build());
-            invoker = initInvoker(invoker, events, concurrentExecution, skipPredicate, jobInstrumenter);
+            invoker = initInvoker(invoker, events, concurrentExecution, skipPredicate, jobInstrumenter,
+                    SimpleScheduler.this::getJobQueueDepth);
             ScheduledTask scheduledTask = new ScheduledTask(trigger, invoker, true);
             ScheduledTask existing = registerTask(trigger.id, scheduledTask);
             if (existing != null) {
@@ -0,0 +1,234 @@
+package io.carbonintensity.scheduler.runtime;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * A {@link TriggerQueue} backed by a hierarchical timing wheel.
+ * <p>
+ * The wheel consists of {@value #LEVELS} levels of {@value #WHEEL_SIZE} slots. A slot of the first level covers a
+ * single tick, a slot of every next level covers all the slots of the previous level. Elements are stored in the
+ * level that matches the distance to their check time and are moved down a level (cascaded) once the wheel reaches
+ * their slot. Elements beyond the range of the top level are kept in its furthest slot and are cascaded back into it
+ * until they are in range.
+ * </p>
+ * <p>
+ * Scheduling, cancelling and expiring an element costs {@code O(1)}, regardless of the number of scheduled elements.
+ * This makes the wheel suitable for very large numbers of short-lived programmatic jobs, at the cost of a coarser
+ * {@link #nextCheckTime()}.
+ * </p>
+ * <p>
+ * Polled elements keep their node until they are either scheduled again or cancelled, so recurring elements do not
+ * allocate.
+ * </p>
+ *
+ * @param <T> the type of the scheduled elements
+ * @see SchedulerConfig.TriggerQueueType#TIMING_WHEEL
+ */
+class TimingWheelTriggerQueue<T> implements TriggerQueue<T> {
+
+    static final int LEVELS = 4;
+    static final int WHEEL_SIZE = 64;
+    private static final int BITS = 6;
+    private static final int MASK = WHEEL_SIZE - 1;
+    private static final long RANGE = 1L << (BITS * LEVELS);
+
+    private final long tickMillis;
+    private final Node<T>[][] slots;
+    private final int[] levelSizes = new int[LEVELS];
+    private final Map<T, Node<T>> nodes = new HashMap<>();
+    private int size;
+    // the slot of the current tick on the first level may still hold elements that are not due yet
+    private long currentTick;
+
+    /**
+     * @param tickMillis the duration of a tick in milliseconds
+     * @param now epoch milliseconds at which the wheel starts
+     */
+    @SuppressWarnings("unchecked")
+    TimingWheelTriggerQueue(long tickMillis, long now) {
+        if (tickMillis < 1) {
+            throw new IllegalArgumentException("Tick must be at least 1 ms");
+        }
+        this.tickMillis = tickMillis;
+        this.slots = new Node[LEVELS][WHEEL_SIZE];
+        this.currentTick = Math.floorDiv(now, tickMillis);
+    }
+
+    @Override
+    public synchronized void schedule(T element, long checkTime) {
+        Node<T> node = nodes.get(element);
+        if (node != null) {
+            if (node.linked) {
+                unlink(node);
+            }
+        } else {
+            node = new Node<>(element);
+            nodes.put(element, node);
+        }
+        node.checkTime = checkTime;
+        link(node);
+    }
+
+    @Override
+    public synchronized void cancel(T element) {
+        Node<T> node = nodes.remove(element);
+        if (node != null && node.linked) {
+            unlink(node);
+        }
+    }
+
+    @Override
+    public synchronized List<T> pollDue(long now) {
+        List<T> due = new ArrayList<>();
+        long nowTick = Math.floorDiv(now, tickMillis);
+        expire(now, due);
+        while (currentTick < nowTick) {
+            if (size == 0) {
+                currentTick = nowTick;
+                break;
+            }
+            // skip the ticks of empty levels, the next non-empty level is cascaded on its next slot boundary
+            int level = 0;
+            while (level < LEVELS - 1 && levelSizes[level] == 0) {
+                level++;
+            }
+            int shift = BITS * level;
+            long nextTick = ((currentTick >> shift) + 1) << shift;
+            if (nextTick > nowTick) {
+                currentTick = nowTick;
+                break;
+            }
+            currentTick = nextTick;
+            cascade();
+            expire(now, due);
+        }
+        return due;
+    }
+
+    @Override
+    public synchronized long nextCheckTime() {
+        if (size == 0) {
+            return Long.MAX_VALUE;
+        }
+        Node<T> node = slots[0][(int) (currentTick & MASK)];
+        if (node != null) {
+            long min = Long.MAX_VALUE;
+            for (; node != null; node = node.next) {
+                min = Math.min(min, node.checkTime);
+            }
+            return min;
+        }
+        // lower bound: the earliest start of the first non-empty slot of each level
+        long min = Long.MAX_VALUE;
+        for (int level = 0; level < LEVELS; level++) {
+            if (levelSizes[level] == 0) {
+                continue;
+            }
+            int shift = BITS * level;
+            long block = currentTick >> shift;
+            for (int offset = 1; offset <= WHEEL_SIZE; offset++) {
+                if (slots[level][(int) ((block + offset) & MASK)] != null) {
+                    min = Math.min(min, ((block + offset) << shift) * tickMillis);
+                    break;
+                }
+            }
+        }
+        return min;
+    }
+
+    @Override
+    public synchronized int size() {
+        return size;
+    }
+
+    private void link(Node<T> node) {
+        long tick = Math.max(Math.floorDiv(node.checkTime, tickMillis), currentTick);
+        long delta = Math.min(tick - currentTick, RANGE - 1);
+        int level = 0;
+        while (level < LEVELS - 1 && delta >= 1L << (BITS * (level + 1))) {
+            level++;
+        }
+        int slot = (int) (((currentTick + delta) >> (BITS * level)) & MASK);
+        node.level = level;
+        node.slot = slot;
+        node.prev = null;
+        node.next = slots[level][slot];
+        if (node.next != null) {
+            node.next.prev = node;
+        }
+        slots[level][slot] = node;
+        node.linked = true;
+        levelSizes[level]++;
+        size++;
+    }
+
+    private void unlink(Node<T> node) {
+        if (node.prev != null) {
+            node.prev.next = node.next;
+        } else {
+            slots[node.level][node.slot] = node.next;
+        }
+        if (node.next != null) {
+            node.next.prev = node.prev;
+        }
+        node.prev = null;
+        node.next = null;
+        node.linked = false;
+        levelSizes[node.level]--;
+        size--;
+    }
+
+    /**
+     * Moves the elements of the upper level slots that start at the current tick down the wheel.
+     */
+    private void cascade() {
+        for (int level = LEVELS - 1; level > 0; level--) {
+            int shift = BITS * level;
+            if ((currentTick & ((1L << shift) - 1)) != 0) {
+                continue;
+            }
+            int slot = (int) ((currentTick >> shift) & MASK);
+            Node<T> node = slots[level][slot];
+            slots[level][slot] = null;
+            while (node != null) {
+                Node<T> next = node.next;
+                levelSizes[level]--;
+                size--;
+                link(node);
+                node = next;
+            }
+        }
+    }
+
+    /**
+     * Removes the due elements of the current tick, elements that are not due yet remain in the slot.
+     */
+    private void expire(long now, List<T> due) {
+        Node<T> node = slots[0][(int) (currentTick & MASK)];
+        while (node != null) {
+            Node<T> next = node.next;
+            if (node.checkTime <= now) {
+                unlink(node);
+                due.add(node.element);
+            }
+            node = next;
+        }
+    }
+
+    private static final class Node<T> {
+        final T element;
+        long checkTime;
+        int level;
+        int slot;
+        boolean linked;
+        Node<T> prev;
+        Node<T> next;
+
+        Node(T element) {
+            this.element = element;
+        }
+    }
+}
@@ -0,0 +1,53 @@
+package io.carbonintensity.scheduler.runtime;
+
+import java.util.List;
+
+/**
+ * Keeps scheduled elements ordered by the moment their trigger needs to be evaluated next.
+ * <p>
+ * The {@link SimpleScheduler} only evaluates the triggers that are returned by {@link #pollDue(long)}, so the
+ * cost of a trigger check depends on the number of due triggers rather than on the number of scheduled jobs.
+ * </p>
+ * <p>
+ * Implementations must be thread-safe. An element is contained at most once, scheduling an element that is
+ * already contained replaces its previous check time.
+ * </p>
+ *
+ * @param <T> the type of the scheduled elements
+ * @see SimpleScheduler
+ */
+interface TriggerQueue<T> {
+
+    /**
+     * Schedules the element to be returned by {@link #pollDue(long)} once the given time has been reached.
+     *
+     * @param element the element to schedule
+     * @param checkTime epoch milliseconds at which the element is due
+     */
+    void schedule(T element, long checkTime);
+
+    /**
+     * Removes the element from the queue. It is a no-op if the element is not scheduled.
+     *
+     * @param element the element to remove
+     */
+    void cancel(T element);
+
+    /**
+     * Removes and returns all elements that are due at the given time.
+     *
+     * @param now epoch milliseconds
+     * @return the due elements, never {@code null}
+     */
+    List<T> pollDue(long now);
+
+    /**
+     * @return epoch milliseconds before which no element is due, or {@link Long#MAX_VALUE} if the queue is empty
+     */
+    long nextCheckTime();
+
+    /**
+     * @return the number of scheduled elements
+     */
+    int size();
+}
@@ -0,0 +1,41 @@
+package io.carbonintensity.scheduler.runtime;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Access to virtual threads, which are only available as of Java 21. The scheduler is compiled for older releases, so
+ * the API is looked up reflectively.
+ */
+final class VirtualThreads {
+
+    private static final Logger log = LoggerFactory.getLogger(VirtualThreads.class);
+
+    private VirtualThreads() {
+    }
+
+    /**
+     * @param namePrefix prefix of the thread names, followed by a counter
+     * @return an executor that starts a new virtual thread for each task, or {@code null} if virtual threads are not
+     *         supported by the runtime
+     */
+    static ExecutorService newThreadPerTaskExecutor(String namePrefix) {
+        try {
+            Class<?> builderType = Class.forName("java.lang.Thread$Builder");
+            Object builder = Thread.class.getMethod("ofVirtual").invoke(null);
+            builder = builderType.getMethod("name", String.class, long.class).invoke(builder, namePrefix, 1L);
+            ThreadFactory threadFactory = (ThreadFactory) builderType.getMethod("factory").invoke(builder);
+            return (ExecutorService) Executors.class.getMethod("newThreadPerTaskExecutor", ThreadFactory.class)
+                    .invoke(null, threadFactory);
+        } catch (ReflectiveOperationException | RuntimeException e) {
+            // Java 19 and 20 expose the API, but throw an UnsupportedOperationException unless preview is enabled
+            log.warn("Virtual threads are not supported by Java {}, using platform threads to execute jobs",
+                    Runtime.version().feature());
+            return null;
+        }
+    }
+}
@@ -19,6 +19,7 @@ import com.cronutils.parser.CronParser;
 import io.carbonintensity.executionplanner.planner.fixedwindow.DefaultFixedWindowPlanningConstraints;
 import io.carbonintensity.executionplanner.planner.successive.DefaultSuccessivePlanningConstraints;
 import io.carbonintensity.executionplanner.spi.PlanningConstraints;
+import io.carbonintensity.executionplanner.strategy.PlanningResolution;
 import io.carbonintensity.scheduler.GreenScheduled;
 
 /**
@@ -31,6 +32,8 @@ import io.carbonintensity.scheduler.GreenScheduled;
  */
 public class GreenScheduledAnnotationParser {
 
+    static final String ADAPTIVE_PLANNING_RESOLUTION = "adaptive";
+
     private GreenScheduledAnnotationParser() {
     }
 
@@ -46,6 +49,25 @@ public class GreenScheduledAnnotationParser {
         }
     }
 
+    /**
+     * @return the resolution of {@link GreenScheduled#planningResolution()}, {@code null} to use the resolution of the
+     *         planner
+     */
+    public static PlanningResolution parsePlanningResolution(GreenScheduled scheduled) {
+        String planningResolution = scheduled.planningResolution();
+        if (planningResolution == null || planningResolution.isBlank()) {
+            return null;
+        }
+        if (planningResolution.equalsIgnoreCase(ADAPTIVE_PLANNING_RESOLUTION)) {
+            return PlanningResolution.adaptive();
+        }
+        try {
+            return PlanningResolution.of(parseDuration(planningResolution));
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Invalid planning resolution: " + planningResolution, e);
+        }
+    }
+
     public static Cron parseCronExpression(ZonedDateTime startTime, String dayOfMonth, String dayOfWeek) {
         CronDefinition cronDefinition = CronDefinitionBuilder.instanceDefinitionFor(CronType.QUARTZ);
         CronParser cronParser = new CronParser(cronDefinition);
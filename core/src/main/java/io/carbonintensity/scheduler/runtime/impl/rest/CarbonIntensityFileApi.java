@@ -1,20 +1,25 @@
 package io.carbonintensity.scheduler.runtime.impl.rest;
 
 import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.net.URL;
 import java.nio.file.Files;
 import java.nio.file.Paths;
+import java.time.Duration;
 import java.time.Instant;
 import java.time.ZonedDateTime;
 import java.time.temporal.ChronoUnit;
 import java.util.Objects;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 import java.util.stream.Stream;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import io.carbonintensity.executionplanner.runtime.impl.CarbonIntensity;
+import io.carbonintensity.executionplanner.runtime.impl.CarbonIntensityForecast;
 import io.carbonintensity.executionplanner.runtime.impl.ZonedCarbonIntensityPeriod;
 import io.carbonintensity.executionplanner.runtime.impl.rest.CarbonIntensityApiException;
 import io.carbonintensity.executionplanner.runtime.impl.rest.CarbonIntensityJsonParser;
@@ -23,12 +28,18 @@ import io.carbonintensity.executionplanner.spi.CarbonIntensityApi;
 /**
  * This implementation gets data from file system. Each zone has a directory with dataset
  * for each timezone.
+ * <p>
+ * Datasets are parsed once and kept in memory as immutable forecasts, indexed by zone and timezone. Each request only
+ * stamps the start, end and zone of the requested period onto the shared forecast.
+ * </p>
  */
 public class CarbonIntensityFileApi implements CarbonIntensityApi {
 
     private static final Logger logger = LoggerFactory.getLogger(CarbonIntensityFileApi.class);
     private static final String BASE_DIRECTORY = "fallback";
     private final CarbonIntensityJsonParser jsonParser = new CarbonIntensityJsonParser();
+    private final ConcurrentMap<String, Dataset> datasets = new ConcurrentHashMap<>();
+    private final ConcurrentMap<String, Dataset> parsedResources = new ConcurrentHashMap<>();
 
     private static String getTimezone(ZonedDateTime startTime) {
         return startTime.getZone()
@@ -45,12 +56,14 @@ public class CarbonIntensityFileApi implements CarbonIntensityApi {
         logger.debug("Getting fallback data for zone {} and timezone {}", zone, timezone);
 
         try {
-            var resource = getJsonFileUrl(zone, timezone);
-            var carbonIntensity = parseJsonFile(zonedPeriod, resource);
-            return CompletableFuture.completedFuture(carbonIntensity);
+            var dataset = getDataset(zone, timezone);
+            return CompletableFuture.completedFuture(dataset.toCarbonIntensity(zonedPeriod));
         } catch (IOException e) {
             logger.error("Failed to get data", e);
             return CompletableFuture.failedFuture(new CarbonIntensityApiException(e));
+        } catch (UncheckedIOException e) {
+            logger.error("Failed to get data", e.getCause());
+            return CompletableFuture.failedFuture(new CarbonIntensityApiException(e.getCause()));
         }
     }
 
@@ -59,18 +72,26 @@ public class CarbonIntensityFileApi implements CarbonIntensityApi {
         return Files.isDirectory(Paths.get(BASE_DIRECTORY));
     }
 
-    private CarbonIntensity parseJsonFile(ZonedCarbonIntensityPeriod zonedPeriod, URL jsonFilePath) throws IOException {
-        var carbonIntensity = jsonParser.parse(jsonFilePath.openStream());
-        enrichData(zonedPeriod, carbonIntensity);
-        return carbonIntensity;
+    private Dataset getDataset(String zone, String timezone) throws IOException {
+        var key = zone + "/" + timezone;
+        var dataset = datasets.get(key);
+        if (dataset == null) {
+            // a missing dataset is not cached, so that it is looked up again on the next request
+            var resource = getJsonFileUrl(zone, timezone);
+            dataset = parsedResources.computeIfAbsent(resource.toString(), name -> parseJsonFile(resource));
+            datasets.putIfAbsent(key, dataset);
+        }
+        return dataset;
     }
 
-    private static void enrichData(ZonedCarbonIntensityPeriod zonedPeriod, CarbonIntensity carbonIntensity) {
-        var start = truncateToHours(zonedPeriod.getStartTime());
-        var end = truncateToHours(zonedPeriod.getEndTime());
-        carbonIntensity.setStart(start);
-        carbonIntensity.setEnd(end);
-        carbonIntensity.setZone(zonedPeriod.getZone());
+    private Dataset parseJsonFile(URL jsonFilePath) {
+        logger.debug("Parsing fallback data {}", jsonFilePath);
+        try (var inputStream = jsonFilePath.openStream()) {
+            var carbonIntensity = jsonParser.parse(inputStream);
+            return new Dataset(carbonIntensity.getResolution(), carbonIntensity.getForecast());
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
     }
 
     private static Instant truncateToHours(ZonedDateTime zonedPeriod) {
@@ -91,4 +112,29 @@ public class CarbonIntensityFileApi implements CarbonIntensityApi {
     private URL getResource(String resourceName) {
         return this.getClass().getResource(resourceName);
     }
+
+    /**
+     * A parsed dataset, shared by all requests for the zones and timezones it applies to.
+     */
+    private static final class Dataset {
+        private final Duration resolution;
+        private final CarbonIntensityForecast forecast;
+
+        private Dataset(Duration resolution, CarbonIntensityForecast forecast) {
+            this.resolution = resolution;
+            this.forecast = forecast;
+        }
+
+        private CarbonIntensity toCarbonIntensity(ZonedCarbonIntensityPeriod zonedPeriod) {
+            var start = truncateToHours(zonedPeriod.getStartTime());
+            var carbonIntensity = new CarbonIntensity();
+            carbonIntensity.setStart(start);
+            carbonIntensity.setEnd(truncateToHours(zonedPeriod.getEndTime()));
+            carbonIntensity.setZone(zonedPeriod.getZone());
+            carbonIntensity.setResolution(resolution);
+            carbonIntensity.setData(
+                    forecast.withStartAndResolution(start.getEpochSecond(), forecast.getResolutionSeconds()).asList());
+            return carbonIntensity;
+        }
+    }
 }
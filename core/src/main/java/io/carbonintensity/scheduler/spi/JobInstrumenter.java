@@ -15,5 +15,13 @@ public interface JobInstrumenter {
 
         CompletionStage<Void> executeJob();
 
+        /**
+         * @return number of job executions waiting for a job executor when this job started, with virtual threads the
+         *         number of job executions running at that time, this one included
+         */
+        default int getJobQueueDepth() {
+            return 0;
+        }
+
     }
 }
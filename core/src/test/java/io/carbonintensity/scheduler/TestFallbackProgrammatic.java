@@ -86,6 +86,61 @@ class TestFallbackProgrammatic {
         Assertions.assertThat(skipCdl.getCount()).isZero();
     }
 
+    @Test
+    void testVirtualThreadsConcurrentSkip() {
+        scheduler.stop();
+        var schedulerConfig = new SchedulerConfig();
+        schedulerConfig.setCarbonIntensityApi(disabledApi);
+        schedulerConfig.setJobExecutorType(SchedulerConfig.JobExecutorType.VIRTUAL_THREADS);
+        scheduler = new SimpleScheduler(schedulerConfig);
+
+        CountDownLatch cdl = new CountDownLatch(1);
+        CountDownLatch skipCdl = new CountDownLatch(2);
+        scheduler.addJobListener(new Scheduler.EventListener() {
+            @Override
+            public void jobExecutionSkipped(ScheduledExecution execution, String detail) {
+                skipCdl.countDown();
+            }
+        });
+        scheduler.newJob("test")
+                .setConcurrentExecution(ConcurrentExecution.SKIP)
+                .setDuration(Duration.ofSeconds(3))
+                .setMinimumGap(Duration.ofSeconds(1))
+                .setMaximumGap(Duration.ofSeconds(1))
+                .setZone("NL")
+                .setTask(se -> task(se, cdl, 3))
+                .schedule();
+
+        Awaitility.waitAtMost(30, TimeUnit.SECONDS)
+                .until(() -> cdl.getCount() == 0 && skipCdl.getCount() == 0);
+        Assertions.assertThat(cdl.getCount()).isZero();
+        Assertions.assertThat(skipCdl.getCount()).isZero();
+    }
+
+    @Test
+    void testBatchPlanning() {
+        scheduler.stop();
+        var schedulerConfig = new SchedulerConfig();
+        schedulerConfig.setCarbonIntensityApi(disabledApi);
+        schedulerConfig.setPlanningMode(SchedulerConfig.PlanningMode.BATCH);
+        schedulerConfig.setPlanningSlotCapacity(1);
+        scheduler = new SimpleScheduler(schedulerConfig);
+
+        CountDownLatch cdl = new CountDownLatch(3);
+        scheduler.newJob("test")
+                .setDuration(Duration.ofSeconds(1))
+                .setMinimumGap(Duration.ofSeconds(1))
+                .setMaximumGap(Duration.ofSeconds(1))
+                .setZone("NL")
+                .setTask(se -> task(se, cdl, 0))
+                .schedule();
+
+        Awaitility.waitAtMost(30, TimeUnit.SECONDS)
+                .until(() -> cdl.getCount() == 0);
+        Assertions.assertThat(scheduler.unscheduleJob("test")).isNotNull();
+        Assertions.assertThat(scheduler.getScheduledJobs()).isEmpty();
+    }
+
     private void task(ScheduledExecution se, CountDownLatch cdl, long taskSeconds) {
         String id = se.getTrigger().getId() + "-" + jobId.getAndIncrement();
         log.info("Running {}, scheduledAt {}, startedAt {}", id, se.getScheduledFireTime(), se.getFireTime());
@@ -0,0 +1,143 @@
+package io.carbonintensity.scheduler.runtime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.awaitility.Awaitility;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import io.carbonintensity.executionplanner.planner.fixedwindow.DefaultFixedWindowPlanningConstraints;
+import io.carbonintensity.executionplanner.planner.fixedwindow.FixedWindowPlanningConstraints;
+import io.carbonintensity.executionplanner.spi.CarbonIntensityPlanner;
+import io.carbonintensity.scheduler.runtime.impl.annotation.GreenScheduledAnnotationParser;
+import io.carbonintensity.scheduler.test.helper.DisabledDummyCarbonIntensityApi;
+
+class TestAdaptiveTriggerCheck {
+
+    final ZonedDateTime start = ZonedDateTime.of(2024, 8, 24, 8, 0, 0, 0, ZoneOffset.UTC);
+    final ZonedDateTime end = start.plusHours(2);
+    final AtomicInteger checks = new AtomicInteger();
+    SimpleScheduler scheduler;
+
+    @AfterEach
+    public void afterEach() {
+        if (scheduler != null) {
+            scheduler.stop();
+        }
+    }
+
+    @Test
+    void givenJobScheduledWhilePaused_whenResumed_thenExecuteEverySecond() {
+        var schedulerConfig = new SchedulerConfig();
+        schedulerConfig.setCarbonIntensityApi(new DisabledDummyCarbonIntensityApi());
+        schedulerConfig.setTriggerCheckMode(SchedulerConfig.TriggerCheckMode.ADAPTIVE);
+        schedulerConfig.setStartMode(SchedulerConfig.StartMode.FORCED);
+        scheduler = new SimpleScheduler(schedulerConfig);
+
+        CountDownLatch cdl = new CountDownLatch(3);
+        scheduler.pause();
+        scheduler.newJob("test")
+                .setDuration(Duration.ofSeconds(1))
+                .setMinimumGap(Duration.ofSeconds(1))
+                .setMaximumGap(Duration.ofSeconds(1))
+                .setZone("NL")
+                .setTask(se -> cdl.countDown())
+                .schedule();
+        scheduler.resume();
+
+        Awaitility.waitAtMost(30, TimeUnit.SECONDS)
+                .until(() -> cdl.getCount() == 0);
+        assertThat(scheduler.unscheduleJob("test")).isNotNull();
+        assertThat(scheduler.getScheduledJobs()).isEmpty();
+    }
+
+    @Test
+    void givenPendingPlan_whenChecking_thenCheckAgainOncePlanned() {
+        ZonedDateTime now = start.plusMinutes(10);
+        var pending = new CompletableFuture<ZonedDateTime>();
+        var trigger = fixedWindowTrigger(now, pending);
+
+        register(now, trigger);
+        assertSingleCheck();
+
+        pending.complete(start.plusMinutes(30));
+        Awaitility.waitAtMost(Duration.ofSeconds(1)).until(() -> checks.get() == 2);
+        assertThat(trigger.nextEvaluationTime(now)).isEqualTo(start.plusMinutes(30));
+    }
+
+    @Test
+    void givenMissedWindow_whenChecking_thenCheckAtNextFallbackExecution() {
+        ZonedDateTime now = end.plusHours(1);
+        var trigger = fixedWindowTrigger(now, CompletableFuture.completedFuture(start.plusMinutes(30)));
+
+        register(now, trigger);
+        assertSingleCheck();
+        assertThat(trigger.nextEvaluationTime(now)).isEqualTo(start.plusDays(1));
+    }
+
+    @Test
+    void givenCronTrigger_whenChecking_thenCheckAtNextExecution() {
+        ZonedDateTime now = start.plusMinutes(10);
+        var trigger = new SimpleScheduler.CronTrigger("test", now,
+                GreenScheduledAnnotationParser.parseCronExpression(start, null, null), Duration.ofMinutes(1), "test",
+                Clock.fixed(now.toInstant(), ZoneOffset.UTC));
+
+        register(now, trigger);
+        assertSingleCheck();
+        assertThat(trigger.nextEvaluationTime(now)).isEqualTo(start.plusDays(1));
+    }
+
+    @SuppressWarnings("unchecked")
+    private SimpleScheduler.FixedWindowTrigger fixedWindowTrigger(ZonedDateTime now,
+            CompletableFuture<ZonedDateTime> plan) {
+        CarbonIntensityPlanner<FixedWindowPlanningConstraints> planner = mock(CarbonIntensityPlanner.class);
+        when(planner.canSchedule(any())).thenReturn(true);
+        when(planner.getNextExecutionTimeAsync(any())).thenReturn(plan);
+        var cron = GreenScheduledAnnotationParser.parseCronExpression(start, null, null);
+        var constraints = DefaultFixedWindowPlanningConstraints.builder()
+                .withIdentity("test")
+                .withDuration(Duration.ofMinutes(5))
+                .withZone("NL")
+                .withCronExpression(cron)
+                .withStartAndEnd(start, end)
+                .withFallbackCronExpression(cron)
+                .withTimeZoneId(ZoneOffset.UTC)
+                .build();
+        return new SimpleScheduler.FixedWindowTrigger("test", "test", Duration.ofMinutes(1), planner, constraints,
+                Clock.fixed(now.toInstant(), ZoneOffset.UTC), () -> 1L);
+    }
+
+    private void register(ZonedDateTime now, SimpleScheduler.SimpleTrigger trigger) {
+        var schedulerConfig = new SchedulerConfig();
+        schedulerConfig.setCarbonIntensityApi(new DisabledDummyCarbonIntensityApi());
+        schedulerConfig.setTriggerCheckMode(SchedulerConfig.TriggerCheckMode.ADAPTIVE);
+        schedulerConfig.setClock(Clock.fixed(now.toInstant(), ZoneOffset.UTC));
+        scheduler = new SimpleScheduler(schedulerConfig) {
+            @Override
+            void checkTriggers() {
+                checks.incrementAndGet();
+                super.checkTriggers();
+            }
+        };
+        scheduler.registerTask(trigger.getId(),
+                new SimpleScheduler.ScheduledTask(trigger, execution -> CompletableFuture.completedStage(null), true));
+    }
+
+    private void assertSingleCheck() {
+        Awaitility.waitAtMost(Duration.ofSeconds(1)).until(() -> checks.get() == 1);
+        // the trigger is not evaluated again before its next evaluation time
+        Awaitility.await().during(Duration.ofSeconds(3)).atMost(Duration.ofSeconds(4)).until(() -> checks.get() == 1);
+    }
+}
@@ -0,0 +1,138 @@
+package io.carbonintensity.scheduler.runtime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.awaitility.Awaitility;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import io.carbonintensity.scheduler.Scheduler;
+
+class TestEvents {
+
+    Events events = new Events();
+    AsyncEventDispatcher dispatcher;
+
+    @AfterEach
+    void tearDown() {
+        if (dispatcher != null) {
+            dispatcher.close(Duration.ofSeconds(1));
+        }
+    }
+
+    @Test
+    void givenListeners_whenAddingAndRemoving_thenKeepEachListenerOnce() {
+        var first = new RecordingListener();
+        var second = new RecordingListener();
+
+        events.addListener(first);
+        events.addListener(second);
+        events.addListener(first);
+        assertThat(events.getListeners()).containsExactly(first, second);
+
+        assertThat(events.removeListener(first)).isTrue();
+        assertThat(events.removeListener(first)).isFalse();
+        assertThat(events.getListeners()).containsExactly(second);
+    }
+
+    @Test
+    void givenNoDispatcher_whenFiring_thenDeliverOnFiringThread() {
+        var listener = new RecordingListener();
+        events.addListener(listener);
+
+        events.fireSchedulerPaused();
+
+        assertThat(listener.threads).containsExactly(Thread.currentThread().getName());
+    }
+
+    @Test
+    void givenDispatcher_whenFiring_thenDeliverInOrderOnDispatcherThread() {
+        var listener = new RecordingListener();
+        events.addListener(listener);
+        dispatcher = new AsyncEventDispatcher(AsyncEventDispatcher.DEFAULT_CAPACITY);
+        events.setDispatcher(dispatcher);
+
+        events.fireSchedulerPaused();
+        events.fireSchedulerResumed();
+
+        Awaitility.await().until(() -> listener.events.size() == 2);
+        assertThat(listener.events).containsExactly("paused", "resumed");
+        assertThat(listener.threads).containsOnly("green-scheduler-event-dispatcher");
+    }
+
+    @Test
+    void givenSlowListener_whenQueueIsFull_thenDeliverOnFiringThread() throws InterruptedException {
+        var blocked = new CountDownLatch(1);
+        var release = new CountDownLatch(1);
+        var listener = new RecordingListener() {
+            @Override
+            public void schedulerPaused() {
+                blocked.countDown();
+                await(release);
+            }
+        };
+        events.addListener(listener);
+        dispatcher = new AsyncEventDispatcher(1);
+        events.setDispatcher(dispatcher);
+
+        events.fireSchedulerPaused();
+        assertThat(blocked.await(5, TimeUnit.SECONDS)).isTrue();
+        events.fireSchedulerResumed(); // queued
+        events.fireSchedulerResumed(); // queue full
+
+        assertThat(listener.threads).containsExactly(Thread.currentThread().getName());
+        release.countDown();
+        Awaitility.await().until(() -> listener.events.size() == 2);
+    }
+
+    @Test
+    void givenClosedDispatcher_whenClosing_thenDeliverQueuedEvents() {
+        var listener = new RecordingListener();
+        events.addListener(listener);
+        dispatcher = new AsyncEventDispatcher(AsyncEventDispatcher.DEFAULT_CAPACITY);
+        events.setDispatcher(dispatcher);
+        for (int i = 0; i < 1000; i++) {
+            events.fireSchedulerResumed();
+        }
+
+        dispatcher.close(Duration.ofSeconds(5));
+
+        assertThat(listener.events).hasSize(1000);
+        assertThat(dispatcher.dispatch(() -> {
+        })).isFalse();
+    }
+
+    static class RecordingListener implements Scheduler.EventListener {
+        final List<String> events = new CopyOnWriteArrayList<>();
+        final List<String> threads = new CopyOnWriteArrayList<>();
+
+        @Override
+        public void schedulerPaused() {
+            record("paused");
+        }
+
+        @Override
+        public void schedulerResumed() {
+            record("resumed");
+        }
+
+        private void record(String event) {
+            events.add(event);
+            threads.add(Thread.currentThread().getName());
+        }
+
+        static void await(CountDownLatch latch) {
+            try {
+                latch.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+}
@@ -0,0 +1,140 @@
+package io.carbonintensity.scheduler.runtime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+
+import org.awaitility.Awaitility;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assumptions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+
+import io.carbonintensity.scheduler.ConcurrentExecution;
+import io.carbonintensity.scheduler.ScheduledExecution;
+import io.carbonintensity.scheduler.Scheduler;
+import io.carbonintensity.scheduler.test.helper.DisabledDummyCarbonIntensityApi;
+
+class TestJobOverflowPolicy {
+
+    SimpleScheduler scheduler;
+    final AtomicInteger skipped = new AtomicInteger();
+    final AtomicInteger maxQueueDepth = new AtomicInteger();
+    final AtomicInteger maxInstrumentedQueueDepth = new AtomicInteger();
+
+    @AfterEach
+    public void afterEach() {
+        if (scheduler != null) {
+            scheduler.stop();
+        }
+    }
+
+    @ParameterizedTest
+    @EnumSource(SchedulerConfig.JobExecutorType.class)
+    void givenFullJobQueue_whenSkipping_thenFireSkippedEvent(SchedulerConfig.JobExecutorType jobExecutorType) {
+        if (jobExecutorType == SchedulerConfig.JobExecutorType.VIRTUAL_THREADS) {
+            Assumptions.assumeTrue(Runtime.version().feature() >= 21, "Virtual threads require Java 21");
+        }
+        createScheduler(jobExecutorType, SchedulerConfig.JobOverflowPolicy.SKIP);
+
+        CountDownLatch cdl = new CountDownLatch(1);
+        AtomicInteger running = new AtomicInteger();
+        AtomicInteger maxRunning = new AtomicInteger();
+        scheduleEverySecond(Duration.ofSeconds(3), se -> {
+            maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+            try {
+                run(Duration.ofSeconds(3), cdl);
+            } finally {
+                running.decrementAndGet();
+            }
+        });
+
+        Awaitility.waitAtMost(30, TimeUnit.SECONDS)
+                .until(() -> cdl.getCount() == 0 && skipped.get() >= 2);
+        assertThat(maxRunning.get()).isEqualTo(1);
+        assertThat(maxQueueDepth.get()).isEqualTo(1);
+        if (jobExecutorType == SchedulerConfig.JobExecutorType.VIRTUAL_THREADS) {
+            // the running job execution holds the only permit
+            assertThat(maxInstrumentedQueueDepth.get()).isEqualTo(1);
+        }
+    }
+
+    @Test
+    void givenFullJobQueue_whenDelaying_thenExecuteOnLaterCheck() {
+        createScheduler(SchedulerConfig.JobExecutorType.PLATFORM_THREADS, SchedulerConfig.JobOverflowPolicy.DELAY);
+
+        CountDownLatch cdl = new CountDownLatch(3);
+        scheduleEverySecond(Duration.ofSeconds(2), se -> run(Duration.ofSeconds(2), cdl));
+
+        Awaitility.waitAtMost(30, TimeUnit.SECONDS)
+                .until(() -> cdl.getCount() == 0);
+        assertThat(skipped.get()).isZero();
+        assertThat(scheduler.getJobQueueDepth()).isLessThanOrEqualTo(1);
+    }
+
+    @Test
+    void givenFullJobQueue_whenCallerRuns_thenExecuteOnTriggerCheckThread() {
+        createScheduler(SchedulerConfig.JobExecutorType.PLATFORM_THREADS,
+                SchedulerConfig.JobOverflowPolicy.CALLER_RUNS);
+
+        CountDownLatch callerRunsCdl = new CountDownLatch(1);
+        scheduleEverySecond(Duration.ofSeconds(3), se -> {
+            if (Thread.currentThread().getName().startsWith("green-scheduler-trigger-check-")) {
+                callerRunsCdl.countDown();
+            }
+            run(Duration.ofSeconds(3), new CountDownLatch(1));
+        });
+
+        Awaitility.waitAtMost(30, TimeUnit.SECONDS)
+                .until(() -> callerRunsCdl.getCount() == 0);
+        assertThat(skipped.get()).isZero();
+    }
+
+    /**
+     * Creates a scheduler that runs a single job execution and queues one more.
+     */
+    private void createScheduler(SchedulerConfig.JobExecutorType jobExecutorType,
+            SchedulerConfig.JobOverflowPolicy jobOverflowPolicy) {
+        var schedulerConfig = new SchedulerConfig();
+        schedulerConfig.setCarbonIntensityApi(new DisabledDummyCarbonIntensityApi());
+        schedulerConfig.setJobExecutorType(jobExecutorType);
+        schedulerConfig.setJobExecutors(1);
+        schedulerConfig.setJobQueueCapacity(1);
+        schedulerConfig.setJobOverflowPolicy(jobOverflowPolicy);
+        schedulerConfig.setJobInstrumenter(context -> {
+            maxInstrumentedQueueDepth.accumulateAndGet(context.getJobQueueDepth(), Math::max);
+            return context.executeJob();
+        });
+        scheduler = new SimpleScheduler(schedulerConfig);
+        scheduler.addJobListener(new Scheduler.EventListener() {
+            @Override
+            public void jobExecutionSkipped(ScheduledExecution execution, String detail) {
+                if ("The job queue is full".equals(detail)) {
+                    maxQueueDepth.accumulateAndGet(scheduler.getJobQueueDepth(), Math::max);
+                    skipped.incrementAndGet();
+                }
+            }
+        });
+    }
+
+    private void scheduleEverySecond(Duration duration, Consumer<ScheduledExecution> task) {
+        scheduler.newJob("test")
+                .setConcurrentExecution(ConcurrentExecution.PROCEED)
+                .setDuration(duration)
+                .setMinimumGap(Duration.ofSeconds(1))
+                .setMaximumGap(Duration.ofSeconds(1))
+                .setZone("NL")
+                .setTask(task)
+                .schedule();
+    }
+
+    private void run(Duration duration, CountDownLatch cdl) {
+        Awaitility.await().pollDelay(duration).until(() -> true);
+        cdl.countDown();
+    }
+}
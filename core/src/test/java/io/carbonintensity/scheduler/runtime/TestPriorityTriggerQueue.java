@@ -0,0 +1,60 @@
+package io.carbonintensity.scheduler.runtime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class TestPriorityTriggerQueue {
+
+    TriggerQueue<String> queue;
+
+    @BeforeEach
+    public void setup() {
+        queue = new PriorityTriggerQueue<>();
+    }
+
+    @Test
+    void givenEmptyQueue_whenPolling_thenReturnNothing() {
+        assertThat(queue.pollDue(Long.MAX_VALUE)).isEmpty();
+        assertThat(queue.nextCheckTime()).isEqualTo(Long.MAX_VALUE);
+        assertThat(queue.size()).isZero();
+    }
+
+    @Test
+    void givenScheduledElements_whenPolling_thenReturnOnlyDueElementsInOrder() {
+        queue.schedule("c", 3000L);
+        queue.schedule("a", 1000L);
+        queue.schedule("b", 2000L);
+
+        assertThat(queue.nextCheckTime()).isEqualTo(1000L);
+        assertThat(queue.pollDue(999L)).isEmpty();
+        assertThat(queue.pollDue(2000L)).containsExactly("a", "b");
+        assertThat(queue.size()).isEqualTo(1);
+        assertThat(queue.nextCheckTime()).isEqualTo(3000L);
+    }
+
+    @Test
+    void givenRescheduledElement_whenPolling_thenUseLatestCheckTime() {
+        queue.schedule("a", 1000L);
+        queue.schedule("a", 5000L);
+
+        assertThat(queue.size()).isEqualTo(1);
+        assertThat(queue.nextCheckTime()).isEqualTo(5000L);
+        assertThat(queue.pollDue(4000L)).isEmpty();
+        assertThat(queue.pollDue(5000L)).containsExactly("a");
+    }
+
+    @Test
+    void givenCancelledElement_whenPolling_thenSkipElement() {
+        queue.schedule("a", 1000L);
+        queue.schedule("b", 2000L);
+        queue.cancel("a");
+        queue.cancel("unknown");
+
+        assertThat(queue.size()).isEqualTo(1);
+        assertThat(queue.nextCheckTime()).isEqualTo(2000L);
+        assertThat(queue.pollDue(2000L)).containsExactly("b");
+        assertThat(queue.size()).isZero();
+    }
+}
@@ -0,0 +1,99 @@
+package io.carbonintensity.scheduler.runtime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import io.carbonintensity.executionplanner.planner.successive.DefaultSuccessivePlanningConstraints;
+import io.carbonintensity.executionplanner.planner.successive.SuccessivePlanningConstraints;
+import io.carbonintensity.executionplanner.spi.CarbonIntensityPlanner;
+
+class TestSuccessiveTrigger {
+
+    final ZonedDateTime start = ZonedDateTime.of(2024, 8, 24, 8, 0, 0, 0, ZoneOffset.UTC);
+    final ZonedDateTime planned = start.plusMinutes(10);
+    final AtomicLong dataVersion = new AtomicLong(1L);
+    CarbonIntensityPlanner<SuccessivePlanningConstraints> planner;
+    SimpleScheduler.SuccessiveTrigger trigger;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    public void setup() {
+        planner = mock(CarbonIntensityPlanner.class);
+        when(planner.canSchedule(any())).thenReturn(true);
+        when(planner.getNextExecutionTimeAsync(any())).thenReturn(CompletableFuture.completedFuture(planned));
+        var constraints = DefaultSuccessivePlanningConstraints.builder()
+                .withIdentity("test")
+                .withInitialStartTime(start)
+                .withInitialMaximumDelay(Duration.ofHours(1))
+                .withDuration(Duration.ofMinutes(5))
+                .withMinimumGap(Duration.ofHours(1))
+                .withMaximumGap(Duration.ofHours(4))
+                .withZone("NL")
+                .build();
+        trigger = new SimpleScheduler.SuccessiveTrigger("test", Clock.fixed(start.toInstant(), ZoneOffset.UTC), start,
+                "test", Duration.ofMinutes(1), planner, constraints, dataVersion::get);
+    }
+
+    @Test
+    void givenSameFiringAndDataVersion_whenQueryingTrigger_thenPlanOnce() {
+        assertThat(trigger.getNextFireTime()).isEqualTo(planned.toInstant());
+        assertThat(trigger.isOverdue()).isFalse();
+        assertThat(trigger.nextEvaluationTime(start)).isEqualTo(planned);
+        assertThat(trigger.evaluate(start.plusMinutes(1))).isNull();
+
+        verify(planner, times(1)).getNextExecutionTimeAsync(any());
+    }
+
+    @Test
+    void givenNewDataVersion_whenQueryingTrigger_thenPlanAgain() {
+        trigger.getNextFireTime();
+        dataVersion.incrementAndGet();
+        trigger.getNextFireTime();
+
+        verify(planner, times(2)).getNextExecutionTimeAsync(any());
+    }
+
+    @Test
+    void givenFiredTrigger_whenQueryingTrigger_thenPlanFromLastFireTime() {
+        ZonedDateTime now = planned.plusSeconds(1);
+        assertThat(trigger.evaluate(now)).isEqualTo(planned);
+        trigger.getNextFireTime();
+        trigger.isOverdue();
+
+        verify(planner, times(2)).getNextExecutionTimeAsync(any());
+        verify(planner).getNextExecutionTimeAsync(argThat(constraints -> now.equals(constraints.getLastExecutionTime())));
+    }
+
+    @Test
+    void givenPendingPlan_whenQueryingTrigger_thenUseProvisionalTimeUntilPlanned() {
+        var pending = new CompletableFuture<ZonedDateTime>();
+        when(planner.getNextExecutionTimeAsync(any())).thenReturn(pending);
+        ZonedDateTime provisional = start.plusHours(1);
+
+        assertThat(trigger.getNextFireTime()).isEqualTo(provisional.toInstant());
+        assertThat(trigger.nextEvaluationTime(start)).isEqualTo(provisional);
+        assertThat(trigger.pendingPlan()).isNotNull();
+        assertThat(trigger.evaluate(start.plusMinutes(20))).isNull();
+
+        pending.complete(planned);
+        assertThat(trigger.pendingPlan()).isNull();
+        assertThat(trigger.nextEvaluationTime(start)).isEqualTo(planned);
+        assertThat(trigger.evaluate(start.plusMinutes(20))).isEqualTo(planned);
+        verify(planner, times(1)).getNextExecutionTimeAsync(any());
+    }
+}
@@ -0,0 +1,135 @@
+package io.carbonintensity.scheduler.runtime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+import java.util.Random;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.awaitility.Awaitility;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import io.carbonintensity.scheduler.test.helper.DisabledDummyCarbonIntensityApi;
+
+class TestTimingWheelTriggerQueue {
+
+    static final long TICK = 1000L;
+    TriggerQueue<String> queue;
+    SimpleScheduler scheduler;
+
+    @BeforeEach
+    public void setup() {
+        queue = new TimingWheelTriggerQueue<>(TICK, 0L);
+    }
+
+    @AfterEach
+    public void afterEach() {
+        if (scheduler != null) {
+            scheduler.stop();
+        }
+    }
+
+    @Test
+    void givenEmptyQueue_whenPolling_thenReturnNothing() {
+        assertThat(queue.pollDue(Long.MAX_VALUE / 2)).isEmpty();
+        assertThat(queue.nextCheckTime()).isEqualTo(Long.MAX_VALUE);
+        assertThat(queue.size()).isZero();
+    }
+
+    @Test
+    void givenScheduledElements_whenPolling_thenReturnOnlyDueElements() {
+        queue.schedule("a", 1500L);
+        queue.schedule("b", 70_000L);
+        queue.schedule("c", 5_000_000L);
+
+        assertThat(queue.pollDue(1499L)).isEmpty();
+        assertThat(queue.pollDue(1500L)).containsExactly("a");
+        assertThat(queue.pollDue(69_999L)).isEmpty();
+        assertThat(queue.pollDue(70_000L)).containsExactly("b");
+        assertThat(queue.pollDue(4_999_999L)).isEmpty();
+        assertThat(queue.pollDue(5_000_000L)).containsExactly("c");
+        assertThat(queue.size()).isZero();
+    }
+
+    @Test
+    void givenElementWithinCurrentTick_whenPollingLaterInTick_thenReturnElement() {
+        queue.pollDue(10_100L);
+        queue.schedule("a", 10_600L);
+        queue.schedule("b", 9_000L);
+
+        assertThat(queue.pollDue(10_200L)).containsExactly("b");
+        assertThat(queue.nextCheckTime()).isEqualTo(10_600L);
+        assertThat(queue.pollDue(10_600L)).containsExactly("a");
+    }
+
+    @Test
+    void givenElementBeyondWheelRange_whenPolling_thenReturnElementAtCheckTime() {
+        long farAway = TICK * (1L << 30);
+        queue.schedule("a", farAway);
+
+        assertThat(queue.nextCheckTime()).isLessThanOrEqualTo(farAway);
+        assertThat(queue.pollDue(farAway - 1)).isEmpty();
+        assertThat(queue.pollDue(farAway)).containsExactly("a");
+    }
+
+    @Test
+    void givenCancelledAndRescheduledElements_whenPolling_thenUseLatestState() {
+        queue.schedule("a", 1000L);
+        queue.schedule("b", 2000L);
+        queue.schedule("b", 300_000L);
+        queue.cancel("a");
+        queue.cancel("unknown");
+
+        assertThat(queue.size()).isEqualTo(1);
+        assertThat(queue.pollDue(299_999L)).isEmpty();
+        assertThat(queue.pollDue(300_000L)).containsExactly("b");
+        assertThat(queue.size()).isZero();
+    }
+
+    @Test
+    void givenRandomSchedule_whenPolling_thenBehaveLikePriorityQueue() {
+        TriggerQueue<String> reference = new PriorityTriggerQueue<>();
+        Random random = new Random(42);
+        long now = 0L;
+        for (int i = 0; i < 2000; i++) {
+            String element = "job-" + random.nextInt(500);
+            long checkTime = now + (long) (random.nextDouble() * random.nextDouble() * 20_000_000L);
+            if (random.nextInt(10) == 0) {
+                queue.cancel(element);
+                reference.cancel(element);
+            } else {
+                queue.schedule(element, checkTime);
+                reference.schedule(element, checkTime);
+            }
+            now += random.nextInt(50_000);
+            assertThat(queue.nextCheckTime()).isLessThanOrEqualTo(reference.nextCheckTime());
+            assertThat(queue.pollDue(now)).containsExactlyInAnyOrderElementsOf(reference.pollDue(now));
+            assertThat(queue.size()).isEqualTo(reference.size());
+        }
+    }
+
+    @Test
+    void givenTimingWheelScheduler_whenJobScheduled_thenExecuteEverySecond() {
+        var schedulerConfig = new SchedulerConfig();
+        schedulerConfig.setCarbonIntensityApi(new DisabledDummyCarbonIntensityApi());
+        schedulerConfig.setTriggerQueueType(SchedulerConfig.TriggerQueueType.TIMING_WHEEL);
+        scheduler = new SimpleScheduler(schedulerConfig);
+
+        CountDownLatch cdl = new CountDownLatch(3);
+        scheduler.newJob("test")
+                .setDuration(Duration.ofSeconds(1))
+                .setMinimumGap(Duration.ofSeconds(1))
+                .setMaximumGap(Duration.ofSeconds(1))
+                .setZone("NL")
+                .setTask(se -> cdl.countDown())
+                .schedule();
+
+        Awaitility.waitAtMost(30, TimeUnit.SECONDS)
+                .until(() -> cdl.getCount() == 0);
+        assertThat(scheduler.unscheduleJob("test")).isNotNull();
+        assertThat(scheduler.getScheduledJobs()).isEmpty();
+    }
+}
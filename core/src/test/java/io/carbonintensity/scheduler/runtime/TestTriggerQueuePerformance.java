@@ -0,0 +1,93 @@
+package io.carbonintensity.scheduler.runtime;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.text.DecimalFormat;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Disabled;
+import org.junit.jupiter.api.Test;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.results.RunResult;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Measures the cost of a single trigger check for an increasing number of scheduled jobs. Every tick one job is due,
+ * the other jobs are spread over the next {@value #HORIZON_TICKS} ticks. The per-tick cost of the timing wheel should
+ * not depend on the number of jobs.
+ */
+@State(Scope.Benchmark)
+public class TestTriggerQueuePerformance { //NOSONAR should be public for @state
+
+    private static final double MAX_DEVIATION = 0.75; // 75 % deviation allowed between 1k and 1M jobs, mostly cache misses
+    private static final long TICK = SimpleScheduler.CHECK_PERIOD;
+    private static final long HORIZON_TICKS = 8_000_000L; // about three months
+    private static final DecimalFormat DF = new DecimalFormat("0.000");
+
+    @Param({ "1000", "10000", "100000", "1000000" })
+    public int jobs;
+
+    @Param({ "PRIORITY_QUEUE", "TIMING_WHEEL" })
+    public SchedulerConfig.TriggerQueueType type;
+
+    private TriggerQueue<Integer> queue;
+    private long now;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        queue = type == SchedulerConfig.TriggerQueueType.TIMING_WHEEL ? new TimingWheelTriggerQueue<>(TICK, 0L)
+                : new PriorityTriggerQueue<>();
+        Random random = new Random(42);
+        queue.schedule(0, TICK);
+        for (int i = 1; i < jobs; i++) {
+            queue.schedule(i, (1 + (long) (random.nextDouble() * HORIZON_TICKS)) * TICK);
+        }
+        now = 0L;
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.Throughput)
+    public void benchmarkTick(Blackhole blackhole) {
+        now += TICK;
+        for (Integer job : queue.pollDue(now)) {
+            queue.schedule(job, now + (job == 0 ? TICK : HORIZON_TICKS * TICK));
+            blackhole.consume(job);
+        }
+    }
+
+    @Test
+    @Disabled
+    void runPerformanceBenchmarks() throws RunnerException {
+        Options opt = new OptionsBuilder()
+                .include(TestTriggerQueuePerformance.class.getSimpleName())
+                .build();
+        Collection<RunResult> runResults = new Runner(opt).run();
+        assertFalse(runResults.isEmpty());
+        Map<String, RunResult> wheelResults = runResults.stream()
+                .filter(result -> "TIMING_WHEEL".equals(result.getParams().getParam("type")))
+                .collect(Collectors.toMap(result -> result.getParams().getParam("jobs"), Function.identity()));
+        for (String jobs : List.of("10000", "100000", "1000000")) {
+            assertDeviationWithin(wheelResults.get(jobs), wheelResults.get("1000").getPrimaryResult().getScore(),
+                    MAX_DEVIATION);
+        }
+    }
+
+    private static void assertDeviationWithin(RunResult result, double referenceScore, double maxDeviation) {
+        double score = result.getPrimaryResult().getScore();
+        double deviation = Math.abs(score / referenceScore - 1);
+        String deviationString = DF.format(deviation * 100) + "%";
+        String maxDeviationString = DF.format(maxDeviation * 100) + "%";
+        String errorMessage = "Deviation " + deviationString + " exceeds maximum allowed deviation " + maxDeviationString;
+        assertTrue(deviation < maxDeviation, errorMessage);
+    }
+}
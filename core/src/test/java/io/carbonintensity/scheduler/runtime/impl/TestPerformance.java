@@ -19,14 +19,17 @@ import org.openjdk.jmh.runner.options.OptionsBuilder;
 
 import io.carbonintensity.executionplanner.runtime.impl.CarbonIntensity;
 import io.carbonintensity.executionplanner.runtime.impl.rest.CarbonIntensityJsonParser;
+import io.carbonintensity.executionplanner.strategy.PrefixSumStrategy;
 import io.carbonintensity.executionplanner.strategy.SingleJobStrategy;
 
 @State(Scope.Benchmark)
+@Fork(jvmArgsAppend = "-Dorg.slf4j.simpleLogger.log.io.carbonintensity=info") // debug logging would dominate the score
 public class TestPerformance { //NOSONAR should be public for @state
 
     private static final double MAX_DEVIATION = 0.10; // 10 % deviation allowed
     //    private static final double REFERENCE_SCORE = 8.704; // arjanl's macbook pro, original score for 24h window
     private static final double REFERENCE_SCORE = 18073.666; // arjanl's macbook pro, window granularity of 30 mins score for 24h window
+    private static final double MIN_PREFIX_SUM_SPEEDUP = 10; // prefix sums should be at least an order of magnitude faster
     private static final DecimalFormat DF = new DecimalFormat("0.000");
 
     private CarbonIntensity carbonIntensity;
@@ -48,6 +51,16 @@ public class TestPerformance { //NOSONAR should be public for @state
         singleJobStrategy.bestTimeslot(ws, we, d, carbonIntensity);
     }
 
+    @Benchmark
+    @BenchmarkMode(Mode.Throughput)
+    public void benchmarkPrefixSumStrategy() {
+        PrefixSumStrategy prefixSumStrategy = new PrefixSumStrategy();
+        ZonedDateTime ws = ZonedDateTime.parse("2024-08-27T00:00:00Z");
+        ZonedDateTime we = ZonedDateTime.parse("2024-08-28T00:00:00Z");
+        Duration d = Duration.ofSeconds(60);
+        prefixSumStrategy.bestTimeslot(ws, we, d, carbonIntensity);
+    }
+
     @Test
     @Disabled
     void runPerformanceBenchmarks() throws RunnerException {
@@ -56,9 +69,19 @@ public class TestPerformance { //NOSONAR should be public for @state
                 .build();
         Collection<RunResult> runResults = new Runner(opt).run();
         assertFalse(runResults.isEmpty());
-        for (RunResult runResult : runResults) {
-            assertDeviationWithin(runResult, REFERENCE_SCORE, MAX_DEVIATION);
-        }
+        RunResult singleJobResult = getResult(runResults, "benchmarkScheduler");
+        RunResult prefixSumResult = getResult(runResults, "benchmarkPrefixSumStrategy");
+        assertDeviationWithin(singleJobResult, REFERENCE_SCORE, MAX_DEVIATION);
+        double speedup = prefixSumResult.getPrimaryResult().getScore() / singleJobResult.getPrimaryResult().getScore();
+        assertTrue(speedup >= MIN_PREFIX_SUM_SPEEDUP, "Prefix sum speedup " + DF.format(speedup) + " is below "
+                + DF.format(MIN_PREFIX_SUM_SPEEDUP));
+    }
+
+    private static RunResult getResult(Collection<RunResult> runResults, String benchmark) {
+        return runResults.stream()
+                .filter(result -> result.getParams().getBenchmark().endsWith("." + benchmark))
+                .findFirst()
+                .orElseThrow();
     }
 
     private static void assertDeviationWithin(RunResult result, double referenceScore, double maxDeviation) {
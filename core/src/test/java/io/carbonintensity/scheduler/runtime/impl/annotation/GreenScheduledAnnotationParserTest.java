@@ -14,6 +14,7 @@ import org.mockito.Mockito;
 import io.carbonintensity.executionplanner.planner.fixedwindow.DefaultFixedWindowPlanningConstraints;
 import io.carbonintensity.executionplanner.planner.successive.DefaultSuccessivePlanningConstraints;
 import io.carbonintensity.executionplanner.spi.PlanningConstraints;
+import io.carbonintensity.executionplanner.strategy.PlanningResolution;
 import io.carbonintensity.scheduler.GreenScheduled;
 
 class GreenScheduledAnnotationParserTest {
@@ -98,4 +99,40 @@ class GreenScheduledAnnotationParserTest {
                 .isInstanceOf(IllegalArgumentException.class)
                 .hasMessageContaining("Invalid ISO 8601 duration format");
     }
+
+    @Test
+    void shouldParsePlanningResolutionCorrectly() {
+        GreenScheduled annotation = Mockito.mock(GreenScheduled.class);
+        Mockito.when(annotation.planningResolution()).thenReturn("5m");
+
+        PlanningResolution resolution = GreenScheduledAnnotationParser.parsePlanningResolution(annotation);
+        assertThat(resolution).isEqualTo(PlanningResolution.of(Duration.ofMinutes(5)));
+    }
+
+    @Test
+    void shouldParseAdaptivePlanningResolution() {
+        GreenScheduled annotation = Mockito.mock(GreenScheduled.class);
+        Mockito.when(annotation.planningResolution()).thenReturn("Adaptive");
+
+        PlanningResolution resolution = GreenScheduledAnnotationParser.parsePlanningResolution(annotation);
+        assertThat(resolution.isAdaptive()).isTrue();
+    }
+
+    @Test
+    void shouldReturnNoPlanningResolutionWhenNotSet() {
+        GreenScheduled annotation = Mockito.mock(GreenScheduled.class);
+        Mockito.when(annotation.planningResolution()).thenReturn("");
+
+        assertThat(GreenScheduledAnnotationParser.parsePlanningResolution(annotation)).isNull();
+    }
+
+    @Test
+    void shouldThrowExceptionForInvalidPlanningResolution() {
+        GreenScheduled annotation = Mockito.mock(GreenScheduled.class);
+        Mockito.when(annotation.planningResolution()).thenReturn("500ms");
+
+        assertThatThrownBy(() -> GreenScheduledAnnotationParser.parsePlanningResolution(annotation))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("Invalid planning resolution");
+    }
 }
@@ -4,6 +4,7 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
 
+import java.time.Duration;
 import java.time.ZonedDateTime;
 import java.time.temporal.ChronoUnit;
 
@@ -44,4 +45,18 @@ class TestCarbonIntensityFileApi {
         assertThat(data.getZone()).isEqualTo("xy");
     }
 
+    @Test
+    void whenRequestedTwice_thenShareDataStampedWithRequestedStart() {
+        var data = fileApi.getCarbonIntensity(zonedPeriod).join();
+        when(zonedPeriod.getStartTime()).thenReturn(startTime.plusDays(1));
+        when(zonedPeriod.getEndTime()).thenReturn(endTime.plusDays(1));
+        var nextData = fileApi.getCarbonIntensity(zonedPeriod).join();
+
+        assertThat(nextData).isNotSameAs(data);
+        assertThat(nextData.getData()).isEqualTo(data.getData());
+        assertThat(nextData.getStart()).isEqualTo(data.getStart().plus(Duration.ofDays(1)));
+        assertThat(nextData.getForecast().getStartEpochSecond()).isEqualTo(nextData.getStart().getEpochSecond());
+        assertThat(data.getForecast().getStartEpochSecond()).isEqualTo(data.getStart().getEpochSecond());
+    }
+
 }
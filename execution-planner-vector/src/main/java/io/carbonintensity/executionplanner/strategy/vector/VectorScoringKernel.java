@@ -0,0 +1,85 @@
+package io.carbonintensity.executionplanner.strategy.vector;
+
+import io.carbonintensity.executionplanner.strategy.ScoringKernel;
+import jdk.incubator.vector.DoubleVector;
+import jdk.incubator.vector.VectorMask;
+import jdk.incubator.vector.VectorOperators;
+import jdk.incubator.vector.VectorSpecies;
+
+/**
+ * Scores as many timeslots at once as fit in a vector of the platform, using the incubating Vector API.
+ * <p>
+ * The lowest score is found first and the index of the first timeslot with that score in a second pass, which keeps
+ * ties resolved like the {@link io.carbonintensity.executionplanner.strategy.ScalarScoringKernel}. Timeslots more than
+ * one period apart are loaded with a gather. The JVM must be started with {@code --add-modules jdk.incubator.vector},
+ * otherwise {@link ScoringKernel#load()} falls back to scalar scoring.
+ * </p>
+ */
+public final class VectorScoringKernel implements ScoringKernel {
+
+    private static final VectorSpecies<Double> SPECIES = DoubleVector.SPECIES_PREFERRED;
+
+    @Override
+    public int argmin(double[] values, int first, int last, int stride, double firstWeight, double lastWeight,
+            int count) {
+        int lanes = SPECIES.length();
+        int upper = SPECIES.loopBound(count);
+        int[] indexMap = stride == 1 ? null : indexMap(stride, lanes);
+
+        DoubleVector min = DoubleVector.broadcast(SPECIES, Double.POSITIVE_INFINITY);
+        for (int i = 0; i < upper; i += lanes) {
+            min = min.min(scores(values, first, last, stride, firstWeight, lastWeight, indexMap, i));
+        }
+        double best = min.reduceLanes(VectorOperators.MIN);
+        for (int i = upper; i < count; i++) {
+            best = Math.min(best, score(values, first, last, stride, firstWeight, lastWeight, i));
+        }
+
+        for (int i = 0; i < upper; i += lanes) {
+            VectorMask<Double> found = scores(values, first, last, stride, firstWeight, lastWeight, indexMap, i).eq(best);
+            if (found.anyTrue()) {
+                return i + found.firstTrue();
+            }
+        }
+        for (int i = upper; i < count; i++) {
+            if (score(values, first, last, stride, firstWeight, lastWeight, i) == best) {
+                return i;
+            }
+        }
+        return 0;
+    }
+
+    private static DoubleVector scores(double[] values, int first, int last, int stride, double firstWeight,
+            double lastWeight, int[] indexMap, int i) {
+        DoubleVector firsts;
+        DoubleVector lasts;
+        if (indexMap == null) {
+            firsts = DoubleVector.fromArray(SPECIES, values, first + i);
+            lasts = DoubleVector.fromArray(SPECIES, values, last + i);
+        } else {
+            firsts = DoubleVector.fromArray(SPECIES, values, first + i * stride, indexMap, 0);
+            lasts = DoubleVector.fromArray(SPECIES, values, last + i * stride, indexMap, 0);
+        }
+        return firsts.mul(firstWeight).add(lasts.mul(lastWeight));
+    }
+
+    private static double score(double[] values, int first, int last, int stride, double firstWeight,
+            double lastWeight, int i) {
+        return firstWeight * values[first + i * stride] + lastWeight * values[last + i * stride];
+    }
+
+    private static int[] indexMap(int stride, int lanes) {
+        int[] indexMap = new int[lanes];
+        for (int lane = 0; lane < lanes; lane++) {
+            indexMap[lane] = lane * stride;
+        }
+        return indexMap;
+    }
+
+    @Override
+    public String toString() {
+        return "VectorScoringKernel{" +
+                "species=" + SPECIES +
+                '}';
+    }
+}
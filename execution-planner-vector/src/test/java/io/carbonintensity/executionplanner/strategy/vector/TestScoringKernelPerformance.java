@@ -0,0 +1,100 @@
+package io.carbonintensity.executionplanner.strategy.vector;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Disabled;
+import org.junit.jupiter.api.Test;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.results.RunResult;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import io.carbonintensity.executionplanner.planner.Timeslot;
+import io.carbonintensity.executionplanner.runtime.impl.CarbonIntensity;
+import io.carbonintensity.executionplanner.runtime.impl.CarbonIntensityForecast;
+import io.carbonintensity.executionplanner.strategy.PrefixSumStrategy;
+import io.carbonintensity.executionplanner.strategy.ScalarScoringKernel;
+
+/**
+ * Compares finding the best timeslot of a two hour job in a window of a day with the scalar and the vector kernel, for
+ * forecasts of two days at a resolution of one and five minutes. Timeslots are generated at the resolution of the
+ * forecast, so every period starts a timeslot.
+ */
+@State(Scope.Benchmark)
+public class TestScoringKernelPerformance { //NOSONAR should be public for @state
+
+    @Param({ "1", "5" })
+    public int resolutionMinutes;
+
+    private final ZonedDateTime windowStart = ZonedDateTime.of(2024, 9, 20, 6, 0, 0, 0, ZoneOffset.UTC);
+    private final Duration duration = Duration.ofHours(2);
+    private CarbonIntensity carbonIntensity;
+    private PrefixSumStrategy scalar;
+    private PrefixSumStrategy vector;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        var random = new Random(42);
+        var resolution = Duration.ofMinutes(resolutionMinutes);
+        var values = new long[(int) (Duration.ofDays(2).toMinutes() / resolutionMinutes)];
+        for (int i = 0; i < values.length; i++) {
+            values[i] = 50_000 + random.nextInt(400_000);
+        }
+        var start = Instant.parse("2024-09-20T00:00:00Z");
+        carbonIntensity = new CarbonIntensity();
+        carbonIntensity.setStart(start);
+        carbonIntensity.setEnd(start.plus(Duration.ofDays(2)));
+        carbonIntensity.setResolution(resolution);
+        carbonIntensity.setZone("NL");
+        carbonIntensity.setData(new CarbonIntensityForecast(start.getEpochSecond(), resolution.getSeconds(), values, 3)
+                .asList());
+        scalar = new PrefixSumStrategy(resolution, 0, new ScalarScoringKernel());
+        vector = new PrefixSumStrategy(resolution, 0, new VectorScoringKernel());
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.Throughput)
+    public Timeslot benchmarkScalar() {
+        return scalar.bestTimeslot(windowStart, windowStart.plusDays(1), duration, carbonIntensity);
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.Throughput)
+    public Timeslot benchmarkVector() {
+        return vector.bestTimeslot(windowStart, windowStart.plusDays(1), duration, carbonIntensity);
+    }
+
+    @Test
+    @Disabled
+    void runPerformanceBenchmarks() throws RunnerException {
+        Options opt = new OptionsBuilder()
+                .include(TestScoringKernelPerformance.class.getSimpleName())
+                .jvmArgsAppend("--add-modules", "jdk.incubator.vector")
+                .build();
+        Collection<RunResult> runResults = new Runner(opt).run();
+        assertFalse(runResults.isEmpty());
+        Map<String, RunResult> results = runResults.stream()
+                .collect(Collectors.toMap(result -> result.getParams().getBenchmark()
+                        .replaceAll(".*\\.benchmark", "") + result.getParams().getParam("resolutionMinutes"),
+                        Function.identity()));
+        for (String resolution : List.of("1", "5")) {
+            assertTrue(results.get("Vector" + resolution).getPrimaryResult().getScore() > results.get("Scalar" + resolution)
+                    .getPrimaryResult().getScore(),
+                    "Vector kernel should have a higher throughput for " + resolution + " minutes");
+        }
+    }
+}
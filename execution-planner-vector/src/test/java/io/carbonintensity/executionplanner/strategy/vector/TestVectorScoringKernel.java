@@ -0,0 +1,49 @@
+package io.carbonintensity.executionplanner.strategy.vector;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+import io.carbonintensity.executionplanner.strategy.ScalarScoringKernel;
+import io.carbonintensity.executionplanner.strategy.ScoringKernel;
+
+class TestVectorScoringKernel {
+
+    private final ScoringKernel scalar = new ScalarScoringKernel();
+    private final ScoringKernel vector = new VectorScoringKernel();
+
+    @Test
+    void givenAddedVectorModule_whenLoadingKernel_thenUseVectorKernel() {
+        assertThat(ScoringKernel.load()).isInstanceOf(VectorScoringKernel.class);
+    }
+
+    @Test
+    void givenRandomValues_whenFindingLowestScore_thenMatchScalarKernel() {
+        var random = new Random(42);
+        for (int run = 0; run < 1000; run++) {
+            // few distinct values, so that ties are common
+            double[] values = random.doubles(300, 0, run % 2 == 0 ? 5 : 1_000_000).map(Math::floor).toArray();
+            int stride = 1 + random.nextInt(6);
+            int first = random.nextInt(10);
+            int last = first + random.nextInt(4);
+            int count = 1 + random.nextInt((values.length - 1 - last) / stride + 1);
+            double firstWeight = 1 + random.nextInt(3600);
+            double lastWeight = last == first ? 0 : 1 + random.nextInt(3600);
+
+            assertThat(vector.argmin(values, first, last, stride, firstWeight, lastWeight, count))
+                    .isEqualTo(scalar.argmin(values, first, last, stride, firstWeight, lastWeight, count));
+        }
+    }
+
+    @Test
+    void givenEqualScores_whenFindingLowestScore_thenReturnFirstTimeslot() {
+        double[] values = new double[64];
+        values[41] = -1;
+        values[61] = -1;
+
+        assertThat(vector.argmin(values, 1, 1, 1, 60, 0, 63)).isEqualTo(40);
+        assertThat(vector.argmin(values, 1, 1, 4, 60, 0, 16)).isEqualTo(10);
+    }
+}
@@ -33,12 +33,10 @@ public class CarbonIntensityPeriod implements Comparable<CarbonIntensityPeriod>
      * @return a list of Instants.
      */
     public static List<CarbonIntensityPeriod> of(CarbonIntensity carbonIntensity) {
-        return IntStream.range(0, carbonIntensity.getData().size())
-                .mapToObj(i -> {
-                    var moment = carbonIntensity.getStart().plusMillis(i * carbonIntensity.getResolution().toMillis());
-                    var value = carbonIntensity.getData().get(i);
-                    return new CarbonIntensityPeriod(moment, carbonIntensity.getResolution(), value);
-                })
+        var forecast = carbonIntensity.getForecast();
+        return IntStream.range(0, forecast.size())
+                .mapToObj(i -> new CarbonIntensityPeriod(Instant.ofEpochSecond(forecast.startOf(i)),
+                        carbonIntensity.getResolution(), forecast.decimalValue(i)))
                 .collect(Collectors.toList());
     }
 
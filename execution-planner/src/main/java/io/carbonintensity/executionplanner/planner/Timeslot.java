@@ -39,7 +39,8 @@ public class Timeslot {
 
     /**
      * Generate a list of timeslots for a given period of time.
-     * Currently for each starting second, a timeslot is generated.
+     * Currently for each starting second, a timeslot is generated. Use a {@link TimeslotCursor} to go through the
+     * timeslots without creating them all.
      *
      * @param ws the start of the window to start the job in
      * @param we the end of the window to start the job in
@@ -50,15 +51,10 @@ public class Timeslot {
      */
     public static List<Timeslot> getTimeslots(ZonedDateTime ws, ZonedDateTime we, Duration timeslotDuration,
             Duration resolution, CarbonIntensity carbonIntensity) {
-        List<CarbonIntensityPeriod> periods = CarbonIntensityPeriod.of(carbonIntensity);
-
         List<Timeslot> timeslots = new ArrayList<>();
-        ZonedDateTime s = ws;
-
-        while (!s.isAfter(we)) { // allow equal for 0 windows
-            ZonedDateTime e = s.plus(timeslotDuration);
-            timeslots.add(new Timeslot(s, e, calculateCarbonIntensity(periods, s, e)));
-            s = s.plus(resolution);
+        TimeslotCursor cursor = new TimeslotCursor(ws, we, timeslotDuration, resolution, carbonIntensity);
+        while (cursor.next()) {
+            timeslots.add(cursor.toTimeslot(cursor.start(), cursor.unscaledCarbonIntensity()));
         }
         return timeslots;
     }
@@ -0,0 +1,100 @@
+package io.carbonintensity.executionplanner.planner;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.ZonedDateTime;
+
+import io.carbonintensity.executionplanner.runtime.impl.CarbonIntensity;
+import io.carbonintensity.executionplanner.runtime.impl.CarbonIntensityForecast;
+import io.carbonintensity.executionplanner.strategy.CarbonIntensityIndex;
+
+/**
+ * Enumerates the timeslots of {@link Timeslot#getTimeslots} one at a time, without creating them.
+ * <p>
+ * Timeslots are enumerated in epoch seconds and their carbon intensity is calculated in unscaled values of the
+ * {@link CarbonIntensityForecast} by a {@link CarbonIntensityIndex}, with the same rounding as
+ * {@link Timeslot#calculateCarbonIntensity(java.util.List, ZonedDateTime, ZonedDateTime)}. A cursor allocates nothing
+ * while moving, only the timeslot that is picked needs to be created with {@link #toTimeslot(long, long)}. A cursor is
+ * not thread-safe.
+ * </p>
+ */
+public final class TimeslotCursor {
+
+    private final ZonedDateTime windowStart;
+    private final long from;
+    private final long to;
+    private final long step;
+    private final long duration;
+    private final int scale;
+    private final CarbonIntensityIndex index;
+    private long start;
+    private long carbonIntensity;
+
+    /**
+     * @param ws the start of the window to start the job in
+     * @param we the end of the window to start the job in
+     * @param timeslotDuration the duration of each timeslot
+     * @param resolution the resolution of generating timeslots, at least 1 second
+     * @param carbonIntensity the carbon intensity data
+     */
+    public TimeslotCursor(ZonedDateTime ws, ZonedDateTime we, Duration timeslotDuration, Duration resolution,
+            CarbonIntensity carbonIntensity) {
+        if (resolution.getSeconds() < 1) {
+            throw new IllegalArgumentException("Resolution must be at least 1 second");
+        }
+        this.windowStart = ws;
+        this.from = ws.toEpochSecond();
+        this.to = we.toEpochSecond();
+        this.step = resolution.getSeconds();
+        this.duration = timeslotDuration.getSeconds();
+        CarbonIntensityForecast forecast = carbonIntensity.getForecast();
+        this.scale = forecast.getScale();
+        this.index = new CarbonIntensityIndex(forecast);
+        this.start = from - step;
+    }
+
+    /**
+     * Moves to the next timeslot.
+     *
+     * @return {@code false} if there are no more timeslots
+     */
+    public boolean next() {
+        if (start + step > to) { // allow equal for 0 windows
+            return false;
+        }
+        start += step;
+        carbonIntensity = index.carbonIntensity(start, start + duration);
+        return true;
+    }
+
+    /**
+     * @return epoch second at which the current timeslot starts
+     */
+    public long start() {
+        return start;
+    }
+
+    /**
+     * @return the carbon intensity of the current timeslot, unscaled with the {@link #scale()} of the forecast
+     */
+    public long unscaledCarbonIntensity() {
+        return carbonIntensity;
+    }
+
+    /**
+     * @return the number of decimals of {@link #unscaledCarbonIntensity()}
+     */
+    public int scale() {
+        return scale;
+    }
+
+    /**
+     * @param start epoch second at which a timeslot of this cursor starts
+     * @param unscaledCarbonIntensity its unscaled carbon intensity
+     * @return the timeslot
+     */
+    public Timeslot toTimeslot(long start, long unscaledCarbonIntensity) {
+        ZonedDateTime s = windowStart.plusSeconds(start - from);
+        return new Timeslot(s, s.plusSeconds(duration), BigDecimal.valueOf(unscaledCarbonIntensity, scale()));
+    }
+}
@@ -0,0 +1,249 @@
+package io.carbonintensity.executionplanner.planner.batch;
+
+import java.time.Duration;
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+
+import io.carbonintensity.executionplanner.planner.Timeslot;
+import io.carbonintensity.executionplanner.planner.fixedwindow.FixedWindowPlanningConstraints;
+import io.carbonintensity.executionplanner.planner.successive.SuccessivePlanningConstraints;
+import io.carbonintensity.executionplanner.runtime.impl.CarbonIntensity;
+import io.carbonintensity.executionplanner.runtime.impl.CarbonIntensityDataFetcher;
+import io.carbonintensity.executionplanner.runtime.impl.ZonedCarbonIntensityPeriod;
+import io.carbonintensity.executionplanner.spi.CarbonIntensityPlanner;
+import io.carbonintensity.executionplanner.spi.PlanningConstraints;
+import io.carbonintensity.executionplanner.strategy.BatchPlan;
+import io.carbonintensity.executionplanner.strategy.BatchStrategy;
+
+/**
+ * A {@link CarbonIntensityPlanner} implementation that plans all jobs of a zone together, so that no more than a given
+ * number of them run at the same time.
+ *
+ * <p>
+ * Every job that asks for its next execution time is registered with its current window. The {@link BatchStrategy}
+ * places all registered jobs of the zone at once, which happens again only when the
+ * {@link CarbonIntensityDataFetcher#getDataVersion(String) data version} of the zone changes. Until then, a job that
+ * moves to a new window or is registered later on is placed around the planned jobs, and the other jobs keep their
+ * timeslot. Jobs are identified by {@link PlanningConstraints#getIdentity()}.
+ * </p>
+ *
+ * <p>
+ * Both {@link FixedWindowPlanningConstraints} and {@link SuccessivePlanningConstraints} are supported, use
+ * {@link #asPlannerOf(Class)} to share one batch planner between the triggers of both kinds.
+ * </p>
+ *
+ * @see CarbonIntensityPlanner
+ * @see BatchStrategy
+ * @see CarbonIntensityDataFetcher
+ */
+public class BatchPlanner implements CarbonIntensityPlanner<PlanningConstraints> {
+
+    public static final Duration DEFAULT_RESOLUTION = Duration.ofMinutes(5);
+
+    private final CarbonIntensityDataFetcher dataFetcher;
+    private final BatchStrategy strategy;
+    // guarded by this
+    private final Map<String, BatchStrategy.Job> jobs = new HashMap<>();
+    private final Map<String, String> zones = new HashMap<>();
+    private final Map<String, ZonePlan> plans = new HashMap<>();
+
+    /**
+     * @param dataFetcher the source of carbon intensity data
+     * @param slotCapacity maximum number of jobs of a zone planned to run at the same time
+     */
+    public BatchPlanner(CarbonIntensityDataFetcher dataFetcher, int slotCapacity) {
+        this(dataFetcher, DEFAULT_RESOLUTION, slotCapacity);
+    }
+
+    /**
+     * @param dataFetcher the source of carbon intensity data
+     * @param resolution the resolution of generating timeslots
+     * @param slotCapacity maximum number of jobs of a zone planned to run at the same time
+     */
+    public BatchPlanner(CarbonIntensityDataFetcher dataFetcher, Duration resolution, int slotCapacity) {
+        this.dataFetcher = dataFetcher;
+        this.strategy = new BatchStrategy(resolution, slotCapacity);
+    }
+
+    @Override
+    public boolean canSchedule(PlanningConstraints constraints) {
+        return constraints != null && constraints.getIdentity() != null
+                && (constraints instanceof FixedWindowPlanningConstraints
+                        || constraints instanceof SuccessivePlanningConstraints);
+    }
+
+    @Override
+    public ZonedDateTime getNextExecutionTime(PlanningConstraints constraints) {
+        final var job = register(constraints);
+        final var executionTime = plannedExecutionTime(constraints.getZone(), job,
+                dataFetcher.getDataVersion(constraints.getZone()));
+        if (executionTime != null) {
+            return executionTime;
+        }
+
+        final var carbonIntensity = dataFetcher.fetchCarbonIntensity(periodOf(constraints.getZone()));
+        return plan(constraints.getZone(), job, carbonIntensity);
+    }
+
+    @Override
+    public CompletableFuture<ZonedDateTime> getNextExecutionTimeAsync(PlanningConstraints constraints) {
+        final var job = register(constraints);
+        final var executionTime = plannedExecutionTime(constraints.getZone(), job,
+                dataFetcher.getDataVersion(constraints.getZone()));
+        if (executionTime != null) {
+            return CompletableFuture.completedFuture(executionTime);
+        }
+
+        return dataFetcher.fetchCarbonIntensityAsync(periodOf(constraints.getZone()))
+                .thenApply(carbonIntensity -> plan(constraints.getZone(), job, carbonIntensity));
+    }
+
+    /**
+     * Removes a job, so that it is no longer taken into account when planning the other jobs.
+     *
+     * @param identity identity of the job
+     * @return {@code true} if the job was registered
+     */
+    public synchronized boolean unregister(String identity) {
+        jobs.remove(identity);
+        String zone = zones.remove(identity);
+        if (zone == null) {
+            return false;
+        }
+        ZonePlan zonePlan = plans.get(zone);
+        if (zonePlan != null) {
+            zonePlan.plan.remove(identity);
+        }
+        return true;
+    }
+
+    /**
+     * @param type the kind of constraints planned by the returned planner
+     * @param <T> the kind of constraints
+     * @return a planner for the given kind of constraints that delegates to this batch planner
+     */
+    public <T extends PlanningConstraints> CarbonIntensityPlanner<T> asPlannerOf(Class<T> type) {
+        return new CarbonIntensityPlanner<>() {
+            @Override
+            public boolean canSchedule(T constraints) {
+                return BatchPlanner.this.canSchedule(constraints);
+            }
+
+            @Override
+            public ZonedDateTime getNextExecutionTime(T constraints) {
+                return BatchPlanner.this.getNextExecutionTime(constraints);
+            }
+
+            @Override
+            public CompletableFuture<ZonedDateTime> getNextExecutionTimeAsync(T constraints) {
+                return BatchPlanner.this.getNextExecutionTimeAsync(constraints);
+            }
+        };
+    }
+
+    private synchronized BatchStrategy.Job register(PlanningConstraints constraints) {
+        final var job = jobOf(constraints);
+        jobs.put(job.getIdentity(), job);
+        String previousZone = zones.put(job.getIdentity(), constraints.getZone());
+        if (previousZone != null && !previousZone.equals(constraints.getZone())) {
+            ZonePlan zonePlan = plans.get(previousZone);
+            if (zonePlan != null) {
+                zonePlan.plan.remove(job.getIdentity());
+            }
+        }
+        return job;
+    }
+
+    private synchronized ZonedDateTime plannedExecutionTime(String zone, BatchStrategy.Job job, long dataVersion) {
+        ZonePlan zonePlan = plans.get(zone);
+        if (zonePlan == null || zonePlan.dataVersion != dataVersion || dataVersion == CarbonIntensityDataFetcher.UNVERSIONED
+                || !zonePlan.plan.covers(job)) {
+            return null;
+        }
+        Timeslot timeslot = zonePlan.plan.timeslotOf(job);
+        if (timeslot == null) {
+            timeslot = zonePlan.plan.add(job);
+        }
+        return timeslot.start();
+    }
+
+    private synchronized ZonedDateTime plan(String zone, BatchStrategy.Job job, CarbonIntensity carbonIntensity) {
+        // read after the fetch, which may have put the data in the cache
+        final var dataVersion = dataFetcher.getDataVersion(zone);
+        ZonedDateTime executionTime = plannedExecutionTime(zone, job, dataVersion);
+        if (executionTime != null) {
+            // planned by another job of the zone in the meantime
+            return executionTime;
+        }
+        List<BatchStrategy.Job> zoneJobs = jobsOf(zone);
+        zoneJobs.removeIf(zoneJob -> zoneJob.getIdentity().equals(job.getIdentity()));
+        zoneJobs.add(job);
+        ZonePlan current = plans.get(zone);
+        // a window outside the current plan, the jobs planned with the same data keep their timeslot
+        BatchPlan previous = current != null && current.dataVersion == dataVersion
+                && dataVersion != CarbonIntensityDataFetcher.UNVERSIONED ? current.plan : null;
+        BatchPlan batchPlan = strategy.plan(zoneJobs, carbonIntensity, previous);
+        if (current == null || current.dataVersion <= dataVersion || dataVersion == CarbonIntensityDataFetcher.UNVERSIONED) {
+            plans.put(zone, new ZonePlan(dataVersion, batchPlan));
+        }
+        return batchPlan.timeslotOf(job).start();
+    }
+
+    private synchronized ZonedCarbonIntensityPeriod periodOf(String zone) {
+        ZonedDateTime start = null;
+        ZonedDateTime end = null;
+        for (BatchStrategy.Job job : jobsOf(zone)) {
+            ZonedDateTime jobEnd = job.getWindowEnd().plus(job.getDuration());
+            start = start == null || job.getWindowStart().isBefore(start) ? job.getWindowStart() : start;
+            end = end == null || jobEnd.isAfter(end) ? jobEnd : end;
+        }
+        return new ZonedCarbonIntensityPeriod.Builder()
+                .withStartTime(start)
+                .withEndTime(end)
+                .withZone(zone)
+                .build();
+    }
+
+    private List<BatchStrategy.Job> jobsOf(String zone) {
+        List<BatchStrategy.Job> zoneJobs = new ArrayList<>();
+        zones.forEach((identity, jobZone) -> {
+            if (jobZone.equals(zone)) {
+                zoneJobs.add(jobs.get(identity));
+            }
+        });
+        return zoneJobs;
+    }
+
+    static BatchStrategy.Job jobOf(PlanningConstraints constraints) {
+        if (constraints instanceof FixedWindowPlanningConstraints) {
+            var fixedWindow = (FixedWindowPlanningConstraints) constraints;
+            return new BatchStrategy.Job(constraints.getIdentity(), fixedWindow.getStart(), fixedWindow.getEnd(),
+                    constraints.getDuration());
+        }
+        if (constraints instanceof SuccessivePlanningConstraints) {
+            var successive = (SuccessivePlanningConstraints) constraints;
+            if (successive.getLastExecutionTime() == null) {
+                return new BatchStrategy.Job(constraints.getIdentity(), successive.getInitialStartTime(),
+                        successive.getInitialStartTime().plus(successive.getInitialMaximumDelay()), constraints.getDuration());
+            }
+            return new BatchStrategy.Job(constraints.getIdentity(),
+                    successive.getLastExecutionTime().plus(successive.getMinimumGap()),
+                    successive.getLastExecutionTime().plus(successive.getMaximumGap()), constraints.getDuration());
+        }
+        throw new IllegalArgumentException("Constraints type not supported: " + constraints.getClass());
+    }
+
+    private static final class ZonePlan {
+        private final long dataVersion;
+        private final BatchPlan plan;
+
+        private ZonePlan(long dataVersion, BatchPlan plan) {
+            this.dataVersion = dataVersion;
+            this.plan = plan;
+        }
+    }
+}
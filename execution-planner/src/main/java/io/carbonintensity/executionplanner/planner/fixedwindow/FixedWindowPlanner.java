@@ -2,11 +2,15 @@ package io.carbonintensity.executionplanner.planner.fixedwindow;
 
 import java.time.Duration;
 import java.time.ZonedDateTime;
+import java.util.concurrent.CompletableFuture;
 
+import io.carbonintensity.executionplanner.runtime.impl.CarbonIntensity;
 import io.carbonintensity.executionplanner.runtime.impl.CarbonIntensityDataFetcher;
 import io.carbonintensity.executionplanner.runtime.impl.ZonedCarbonIntensityPeriod;
 import io.carbonintensity.executionplanner.spi.CarbonIntensityPlanner;
-import io.carbonintensity.executionplanner.strategy.SingleJobStrategy;
+import io.carbonintensity.executionplanner.strategy.PlanningResolution;
+import io.carbonintensity.executionplanner.strategy.PlanningStrategy;
+import io.carbonintensity.executionplanner.strategy.PrefixSumStrategy;
 
 /**
  * A {@link CarbonIntensityPlanner} implementation that determines the best execution time
@@ -14,24 +18,52 @@ import io.carbonintensity.executionplanner.strategy.SingleJobStrategy;
  * the {@link CarbonIntensityDataFetcher}.
  *
  * <p>
- * The {@code FixedWindowPlanner} uses a {@link SingleJobStrategy} to identify the best
+ * The {@code FixedWindowPlanner} uses a {@link PrefixSumStrategy} to identify the best
  * time slot within a specified window that minimizes the carbon intensity impact. It fetches
  * the relevant carbon intensity data for the given window and determines the optimal time
  * for execution based on the constraints provided.
  * </p>
  *
+ * <p>
+ * {@link #getNextExecutionTimeAsync(FixedWindowPlanningConstraints)} plans once the data has been fetched
+ * asynchronously.
+ * </p>
+ *
  * @see CarbonIntensityPlanner
  * @see FixedWindowPlanningConstraints
- * @see SingleJobStrategy
+ * @see PrefixSumStrategy
  * @see CarbonIntensityDataFetcher
  * @see ZonedCarbonIntensityPeriod
  */
 public class FixedWindowPlanner implements CarbonIntensityPlanner<FixedWindowPlanningConstraints> {
 
+    public static final Duration DEFAULT_RESOLUTION = Duration.ofHours(1);
+
     private final CarbonIntensityDataFetcher dataFetcher;
+    private final PlanningStrategy strategy;
 
     public FixedWindowPlanner(CarbonIntensityDataFetcher dataFetcher) {
+        this(dataFetcher, 0);
+    }
+
+    /**
+     * @param dataFetcher the source of carbon intensity data
+     * @param carbonTolerance fraction by which the carbon intensity of the planned timeslot may exceed the best one to
+     *        spread jobs, see {@link PrefixSumStrategy#PrefixSumStrategy(Duration, double)}
+     */
+    public FixedWindowPlanner(CarbonIntensityDataFetcher dataFetcher, double carbonTolerance) {
+        this(dataFetcher, carbonTolerance, PlanningResolution.of(DEFAULT_RESOLUTION));
+    }
+
+    /**
+     * @param dataFetcher the source of carbon intensity data
+     * @param carbonTolerance fraction by which the carbon intensity of the planned timeslot may exceed the best one to
+     *        spread jobs, see {@link PrefixSumStrategy#PrefixSumStrategy(Duration, double)}
+     * @param resolution the resolution of generating timeslots
+     */
+    public FixedWindowPlanner(CarbonIntensityDataFetcher dataFetcher, double carbonTolerance, PlanningResolution resolution) {
         this.dataFetcher = dataFetcher;
+        this.strategy = resolution.createStrategy(carbonTolerance);
     }
 
     @Override
@@ -41,16 +73,26 @@ public class FixedWindowPlanner implements CarbonIntensityPlanner<FixedWindowPla
 
     @Override
     public ZonedDateTime getNextExecutionTime(FixedWindowPlanningConstraints constraints) {
+        final var carbonIntensity = dataFetcher.fetchCarbonIntensity(periodOf(constraints));
+        return plan(constraints, carbonIntensity);
+    }
+
+    @Override
+    public CompletableFuture<ZonedDateTime> getNextExecutionTimeAsync(FixedWindowPlanningConstraints constraints) {
+        return dataFetcher.fetchCarbonIntensityAsync(periodOf(constraints))
+                .thenApply(carbonIntensity -> plan(constraints, carbonIntensity));
+    }
 
-        final var period = new ZonedCarbonIntensityPeriod.Builder()
+    private static ZonedCarbonIntensityPeriod periodOf(FixedWindowPlanningConstraints constraints) {
+        return new ZonedCarbonIntensityPeriod.Builder()
                 .withStartTime(constraints.getStart())
                 .withEndTime(constraints.getEnd())
                 .withZone(constraints.getZone())
                 .build();
-        final var carbonIntensity = dataFetcher.fetchCarbonIntensity(period);
+    }
 
-        final var strategy = new SingleJobStrategy(Duration.ofHours(1));
+    private ZonedDateTime plan(FixedWindowPlanningConstraints constraints, CarbonIntensity carbonIntensity) {
         return strategy.bestTimeslot(constraints.getStart(), constraints.getEnd(), constraints.getDuration(),
-                carbonIntensity).start();
+                carbonIntensity, constraints.getIdentity()).start();
     }
 }
@@ -1,12 +1,16 @@
 package io.carbonintensity.executionplanner.planner.successive;
 
+import java.time.Duration;
 import java.time.ZonedDateTime;
+import java.util.concurrent.CompletableFuture;
 
 import io.carbonintensity.executionplanner.runtime.impl.CarbonIntensity;
 import io.carbonintensity.executionplanner.runtime.impl.CarbonIntensityDataFetcher;
 import io.carbonintensity.executionplanner.runtime.impl.ZonedCarbonIntensityPeriod;
 import io.carbonintensity.executionplanner.spi.CarbonIntensityPlanner;
-import io.carbonintensity.executionplanner.strategy.SingleJobStrategy;
+import io.carbonintensity.executionplanner.strategy.PlanningResolution;
+import io.carbonintensity.executionplanner.strategy.PlanningStrategy;
+import io.carbonintensity.executionplanner.strategy.PrefixSumStrategy;
 
 /**
  * A {@link CarbonIntensityPlanner} implementation that schedules tasks based on successive
@@ -16,21 +20,44 @@ import io.carbonintensity.executionplanner.strategy.SingleJobStrategy;
  * The {@code SuccessivePlanner} calculates the best execution time for tasks that need to be scheduled
  * successively, considering a gap between executions and ensuring that tasks are scheduled at the optimal
  * carbon intensity levels. It retrieves carbon intensity data from the {@link CarbonIntensityDataFetcher}
- * and uses the {@link SingleJobStrategy} to find the best time slot within the given constraints.
+ * and uses the {@link PrefixSumStrategy} to find the best time slot within the given constraints.
  * </p>
  *
  * @see CarbonIntensityPlanner
  * @see SuccessivePlanningConstraints
- * @see SingleJobStrategy
+ * @see PrefixSumStrategy
  * @see CarbonIntensityDataFetcher
  * @see ZonedCarbonIntensityPeriod
  */
 public class SuccessivePlanner implements CarbonIntensityPlanner<SuccessivePlanningConstraints> {
 
+    public static final Duration DEFAULT_RESOLUTION = Duration.ofMinutes(30);
+
     private final CarbonIntensityDataFetcher dataFetcher;
+    private final PlanningStrategy strategy;
 
     public SuccessivePlanner(CarbonIntensityDataFetcher dataFetcher) {
+        this(dataFetcher, 0);
+    }
+
+    /**
+     * @param dataFetcher the source of carbon intensity data
+     * @param carbonTolerance fraction by which the carbon intensity of the planned timeslot may exceed the best one to
+     *        spread jobs, see {@link PrefixSumStrategy#PrefixSumStrategy(Duration, double)}
+     */
+    public SuccessivePlanner(CarbonIntensityDataFetcher dataFetcher, double carbonTolerance) {
+        this(dataFetcher, carbonTolerance, PlanningResolution.of(DEFAULT_RESOLUTION));
+    }
+
+    /**
+     * @param dataFetcher the source of carbon intensity data
+     * @param carbonTolerance fraction by which the carbon intensity of the planned timeslot may exceed the best one to
+     *        spread jobs, see {@link PrefixSumStrategy#PrefixSumStrategy(Duration, double)}
+     * @param resolution the resolution of generating timeslots
+     */
+    public SuccessivePlanner(CarbonIntensityDataFetcher dataFetcher, double carbonTolerance, PlanningResolution resolution) {
         this.dataFetcher = dataFetcher;
+        this.strategy = resolution.createStrategy(carbonTolerance);
     }
 
     @Override
@@ -40,6 +67,27 @@ public class SuccessivePlanner implements CarbonIntensityPlanner<SuccessivePlann
 
     @Override
     public ZonedDateTime getNextExecutionTime(SuccessivePlanningConstraints constraints) {
+        CarbonIntensity carbonIntensity = dataFetcher.fetchCarbonIntensity(periodOf(constraints));
+        return plan(constraints, carbonIntensity);
+    }
+
+    @Override
+    public CompletableFuture<ZonedDateTime> getNextExecutionTimeAsync(SuccessivePlanningConstraints constraints) {
+        return dataFetcher.fetchCarbonIntensityAsync(periodOf(constraints))
+                .thenApply(carbonIntensity -> plan(constraints, carbonIntensity));
+    }
+
+    private static ZonedCarbonIntensityPeriod periodOf(SuccessivePlanningConstraints constraints) {
+        ZonedDateTime dayStart = constraints.getLastExecutionTime() != null ? constraints.getLastExecutionTime()
+                : constraints.getInitialStartTime();
+        return new ZonedCarbonIntensityPeriod.Builder()
+                .withStartTime(dayStart)
+                .withEndTime(dayStart.plusDays(1))
+                .withZone(constraints.getZone())
+                .build();
+    }
+
+    private ZonedDateTime plan(SuccessivePlanningConstraints constraints, CarbonIntensity carbonIntensity) {
         ZonedDateTime ws;
         ZonedDateTime we;
 
@@ -52,16 +100,8 @@ public class SuccessivePlanner implements CarbonIntensityPlanner<SuccessivePlann
             we = constraints.getLastExecutionTime().plus(constraints.getMaximumGap());
         }
 
-        ZonedDateTime dayStart = constraints.getLastExecutionTime() != null ? constraints.getLastExecutionTime() : ws;
-        var zonedPeriod = new ZonedCarbonIntensityPeriod.Builder()
-                .withStartTime(dayStart)
-                .withEndTime(dayStart.plusDays(1))
-                .withZone(constraints.getZone())
-                .build();
-        CarbonIntensity carbonIntensity = dataFetcher.fetchCarbonIntensity(zonedPeriod);
-
-        SingleJobStrategy initialStrategy = new SingleJobStrategy();
-        return initialStrategy.bestTimeslot(ws, we, constraints.getDuration(), carbonIntensity).start();
+        return strategy.bestTimeslot(ws, we, constraints.getDuration(), carbonIntensity, constraints.getIdentity())
+                .start();
     }
 
 }
@@ -3,11 +3,19 @@ package io.carbonintensity.executionplanner.runtime.impl;
 import java.math.BigDecimal;
 import java.time.Duration;
 import java.time.Instant;
+import java.util.AbstractList;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.RandomAccess;
 
 /**
  * The data from the carbon intensity API: a list of co2eq's per watt in timed blocks, with a start, end and a resolution.
+ * <p>
+ * Planners read the data through {@link #getForecast()}, a primitive view that is created once and kept until the data,
+ * start or resolution change. The list returned by {@link #getData()} can be modified, modifications through it are
+ * picked up by the next {@link #getForecast()}. A list passed to {@link #setData(List)} must only be modified through
+ * {@link #getData()} afterward.
+ * </p>
  */
 public class CarbonIntensity {
 
@@ -16,6 +24,8 @@ public class CarbonIntensity {
     private Instant start;
     private Instant end;
     private List<BigDecimal> data = new ArrayList<>();
+    private final List<BigDecimal> dataView = new DataView();
+    private CarbonIntensityForecast forecast;
 
     public Duration getResolution() {
         return resolution;
@@ -23,6 +33,7 @@ public class CarbonIntensity {
 
     public void setResolution(Duration resolution) {
         this.resolution = resolution;
+        this.forecast = null;
     }
 
     public String getZone() {
@@ -37,12 +48,36 @@ public class CarbonIntensity {
         return data != null && !data.isEmpty();
     }
 
+    /**
+     * @return a modifiable view of the data, {@code null} if there is no data
+     */
     public List<BigDecimal> getData() {
-        return data;
+        return data != null ? dataView : null;
     }
 
     public void setData(List<BigDecimal> data) {
         this.data = data;
+        this.forecast = null;
+    }
+
+    /**
+     * Returns the data as primitive forecast. Parsed data is already backed by a forecast and is not copied, other data
+     * is converted once.
+     *
+     * @return the forecast starting at {@link #getStart()} with periods of {@link #getResolution()}
+     */
+    public CarbonIntensityForecast getForecast() {
+        var current = forecast;
+        if (current == null) {
+            current = CarbonIntensityForecast.backing(data);
+            if (current == null) {
+                current = CarbonIntensityForecast.of(start, resolution, data);
+            }
+            current = current.withStartAndResolution(start != null ? start.getEpochSecond() : 0L,
+                    resolution != null ? resolution.getSeconds() : 0L);
+            forecast = current;
+        }
+        return current;
     }
 
     public Instant getStart() {
@@ -51,6 +86,7 @@ public class CarbonIntensity {
 
     public void setStart(Instant start) {
         this.start = start;
+        this.forecast = null;
     }
 
     public Instant getEnd() {
@@ -71,4 +107,50 @@ public class CarbonIntensity {
                 ", data=" + data +
                 '}';
     }
+
+    /**
+     * The data as returned by {@link #getData()}, a modification drops the forecast. Data backed by a forecast is
+     * copied on the first modification.
+     */
+    private final class DataView extends AbstractList<BigDecimal> implements RandomAccess {
+
+        @Override
+        public BigDecimal get(int index) {
+            return data.get(index);
+        }
+
+        @Override
+        public int size() {
+            return data.size();
+        }
+
+        @Override
+        public BigDecimal set(int index, BigDecimal element) {
+            BigDecimal previous = modifiableData().set(index, element);
+            forecast = null;
+            return previous;
+        }
+
+        @Override
+        public void add(int index, BigDecimal element) {
+            modifiableData().add(index, element);
+            forecast = null;
+            modCount++;
+        }
+
+        @Override
+        public BigDecimal remove(int index) {
+            BigDecimal removed = modifiableData().remove(index);
+            forecast = null;
+            modCount++;
+            return removed;
+        }
+
+        private List<BigDecimal> modifiableData() {
+            if (CarbonIntensityForecast.backing(data) != null) {
+                data = new ArrayList<>(data);
+            }
+            return data;
+        }
+    }
 }
@@ -1,20 +1,27 @@
 package io.carbonintensity.executionplanner.runtime.impl;
 
+import java.time.Clock;
 import java.time.Duration;
 import java.time.Instant;
 import java.time.temporal.ChronoUnit;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
 
 import com.github.benmanes.caffeine.cache.Cache;
 import com.github.benmanes.caffeine.cache.Caffeine;
 import com.github.benmanes.caffeine.cache.Expiry;
+import com.github.benmanes.caffeine.cache.Ticker;
 
 public class CarbonIntensityCache {
 
     public static final Duration DEFAULT_TTL_EMPTY_VALUES = Duration.ofHours(1);
     private final Duration emptyValueTTL;
     private final Cache<Key, CarbonIntensity> caffeine;
+    private final AtomicLong version = new AtomicLong();
+    private final ConcurrentMap<String, Long> zoneVersions = new ConcurrentHashMap<>();
 
     /**
      * Creates cache with default TTL for empty values.
@@ -29,8 +36,18 @@ public class CarbonIntensityCache {
      * @param emptyValueTTL Time to live for empty values.
      */
     public CarbonIntensityCache(Duration emptyValueTTL) {
+        this(emptyValueTTL, Clock.systemUTC());
+    }
+
+    /**
+     * Creates cache with given TTL for empty values, expiring values by the time of the given clock.
+     *
+     * @param emptyValueTTL Time to live for empty values.
+     * @param clock Clock the expiration times are compared with.
+     */
+    public CarbonIntensityCache(Duration emptyValueTTL, Clock clock) {
         this.emptyValueTTL = emptyValueTTL;
-        this.caffeine = createCache();
+        this.caffeine = createCache(clock);
     }
 
     public Optional<CarbonIntensity> get(Key key) {
@@ -38,31 +55,62 @@ public class CarbonIntensityCache {
     }
 
     public CarbonIntensity put(Key key, CarbonIntensity value) {
-        caffeine.put(key, value);
+        if (value.hasData()) {
+            // convert once, planners read the primitive forecast of cached values
+            value.getForecast();
+        }
+        var previous = caffeine.asMap().put(key, value);
+        if (previous == null || !isSameForecast(previous, value)) {
+            zoneVersions.put(key.zone, version.incrementAndGet());
+        }
         return value;
     }
 
-    private Cache<Key, CarbonIntensity> createCache() {
+    /**
+     * @param zone the zone
+     * @return a version that increases whenever a value of the zone is put in the cache that differs from the value it
+     *         replaces, {@code 0} if there is none
+     */
+    public long getVersion(String zone) {
+        return zone == null ? 0L : zoneVersions.getOrDefault(Key.normalize(zone), 0L);
+    }
+
+    private static boolean isSameForecast(CarbonIntensity previous, CarbonIntensity value) {
+        if (!Objects.equals(previous.getStart(), value.getStart()) || !Objects.equals(previous.getEnd(), value.getEnd())
+                || previous.hasData() != value.hasData()) {
+            return false;
+        }
+        return !value.hasData() || previous.getForecast().equals(value.getForecast());
+    }
+
+    private Cache<Key, CarbonIntensity> createCache(Clock clock) {
+        // the expiry compares the ticker with the end of the forecast, so it has to read epoch nanoseconds
+        Ticker ticker = () -> {
+            Instant now = clock.instant();
+            return Math.addExact(Math.multiplyExact(now.getEpochSecond(), 1_000_000_000L), now.getNano());
+        };
         return Caffeine.newBuilder()
+                .ticker(ticker)
                 // expire when carbon intensity data becomes useless.
                 // when we get no data, we retry in one hour.
                 .expireAfter(new Expiry<Key, CarbonIntensity>() {
                     @Override
                     public long expireAfterCreate(Key key, CarbonIntensity value, long currentTime) {
-                        if (value.getData().isEmpty()) {
+                        if (!value.hasData()) {
                             return emptyValueTTL.toNanos();
                         }
                         Instant current = Instant.ofEpochSecond(0L, currentTime);
 
                         // expire endTime of day.
                         var expirationTime = value.getEnd().plusSeconds(1);
-                        return Duration.between(current, expirationTime).toNanos();
+                        return Math.max(0L, Duration.between(current, expirationTime).toNanos());
                     }
 
                     @Override
                     public long expireAfterUpdate(Key key, CarbonIntensity value, long currentTime,
                             long currentDuration) {
-                        return currentDuration;
+                        // a refreshed forecast usually ends later than the one it replaces
+                        return expireAfterCreate(key, value, currentTime);
                     }
 
                     @Override
@@ -79,7 +127,11 @@ public class CarbonIntensityCache {
 
         public Key(Instant time, String zone) {
             this.time = time.truncatedTo(ChronoUnit.HOURS);
-            this.zone = zone.toLowerCase().trim();
+            this.zone = normalize(zone);
+        }
+
+        private static String normalize(String zone) {
+            return zone.toLowerCase().trim();
         }
 
         @Override
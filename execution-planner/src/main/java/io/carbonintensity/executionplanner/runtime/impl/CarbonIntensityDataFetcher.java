@@ -1,6 +1,36 @@
 package io.carbonintensity.executionplanner.runtime.impl;
 
+import java.util.concurrent.CompletableFuture;
+
 public interface CarbonIntensityDataFetcher {
 
+    /**
+     * Returned by {@link #getDataVersion(String)} when the fetcher does not keep track of changes to its data.
+     */
+    long UNVERSIONED = -1L;
+
     CarbonIntensity fetchCarbonIntensity(ZonedCarbonIntensityPeriod zonedPeriod);
+
+    /**
+     * Fetches carbon intensity data without blocking the caller. Planners call it from the trigger check of the
+     * scheduler, so it has no default implementation: wrapping the synchronous fetch would stall every trigger while
+     * the data is fetched. Implementations that can only fetch synchronously run the fetch on an executor of their own,
+     * for example with {@code CompletableFuture.supplyAsync(supplier, executor)}.
+     *
+     * @param zonedPeriod the period to fetch
+     * @return the carbon intensity data, completed once it is available
+     */
+    CompletableFuture<CarbonIntensity> fetchCarbonIntensityAsync(ZonedCarbonIntensityPeriod zonedPeriod);
+
+    /**
+     * Returns a version that changes whenever the carbon intensity data of a zone returned by
+     * {@link #fetchCarbonIntensity(ZonedCarbonIntensityPeriod)} may have changed. Planners use it to reuse results
+     * computed from an earlier fetch, and read it once that fetch completed.
+     *
+     * @param zone the zone of the data
+     * @return the current data version of the zone, or {@link #UNVERSIONED} if results must not be reused
+     */
+    default long getDataVersion(String zone) {
+        return UNVERSIONED;
+    }
 }
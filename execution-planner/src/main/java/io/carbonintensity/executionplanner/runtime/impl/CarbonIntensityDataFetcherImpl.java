@@ -1,20 +1,101 @@
 package io.carbonintensity.executionplanner.runtime.impl;
 
-import java.util.Optional;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
 import io.carbonintensity.executionplanner.spi.CarbonIntensityApi;
 
+/**
+ * Fetches carbon intensity data from the rest API, falling back to the fallback API, and caches the results.
+ * <p>
+ * Concurrent fetches of data that is not cached yet are coalesced: only one request per {@link CarbonIntensityCache.Key}
+ * is outstanding, the other callers share its result. {@link #fetchCarbonIntensityAsync(ZonedCarbonIntensityPeriod)}
+ * never waits for the rest API, not even for the fallback after a failed request.
+ * </p>
+ * <p>
+ * With a refresh-ahead window, the period that follows a cached forecast is fetched in the background once the forecast
+ * ends within that window, so it is cached before the forecast expires. Data that is not cached yet is served from the
+ * last forecast of the zone if it covers the whole period and is not older than the maximum staleness, while the data is
+ * fetched in the background. Without such a forecast the rest API is waited for, the fallback API is only used when it
+ * fails. Background fetches bump the {@link #getDataVersion(String) data version} of the zone, so planners plan again
+ * with the new data.
+ * </p>
+ * <p>
+ * With a {@link CarbonIntensityDiskCache}, rest API responses are also stored on disk, and a miss of the in-memory
+ * cache first looks for a stored forecast, read off the calling thread. A restarted application then plans without
+ * fetching data. Periods without a stored forecast are not looked up on disk again for an hour.
+ * </p>
+ */
 public class CarbonIntensityDataFetcherImpl implements CarbonIntensityDataFetcher {
 
     private static final Logger logger = LoggerFactory.getLogger(CarbonIntensityDataFetcherImpl.class);
-    private final CarbonIntensityCache cache = new CarbonIntensityCache();
+    private final CarbonIntensityCache cache;
+    private final ConcurrentMap<CarbonIntensityCache.Key, CompletableFuture<CarbonIntensity>> inFlight = new ConcurrentHashMap<>();
+    private final LongAdder requests = new LongAdder();
+    private final LongAdder coalescedRequests = new LongAdder();
+    private final ConcurrentMap<String, ZoneState> zones = new ConcurrentHashMap<>();
     private final CarbonIntensityApi restApi;
     private final CarbonIntensityApi fallbackApi;
+    private final Clock clock;
+    private final Duration refreshAhead;
+    private final Duration maxStaleness;
+    private final CarbonIntensityDiskCache diskCache;
+    // keys without a stored forecast, retried like empty values of the in-memory cache
+    private final Cache<CarbonIntensityCache.Key, Boolean> diskMisses = Caffeine.newBuilder()
+            .expireAfterWrite(CarbonIntensityCache.DEFAULT_TTL_EMPTY_VALUES)
+            .build();
+
+    /**
+     * Background refreshes of a zone are started at most once per interval.
+     */
+    static final Duration MIN_REFRESH_INTERVAL = Duration.ofMinutes(5);
 
+    /**
+     * Creates a fetcher that does not refresh in the background.
+     *
+     * @param restApi rest API
+     * @param fallbackApi API used when the rest API is not enabled or fails
+     */
     public CarbonIntensityDataFetcherImpl(CarbonIntensityApi restApi, CarbonIntensityApi fallbackApi) {
+        this(restApi, fallbackApi, Clock.systemUTC(), Duration.ZERO, Duration.ZERO);
+    }
+
+    /**
+     * @param restApi rest API
+     * @param fallbackApi API used when the rest API is not enabled or fails
+     * @param clock clock used to decide when to refresh
+     * @param refreshAhead refresh when the cached forecast ends within this window, {@link Duration#ZERO} to disable
+     * @param maxStaleness serve forecasts up to this age while fetching new data, {@link Duration#ZERO} to always wait
+     */
+    public CarbonIntensityDataFetcherImpl(CarbonIntensityApi restApi, CarbonIntensityApi fallbackApi, Clock clock,
+            Duration refreshAhead, Duration maxStaleness) {
+        this(restApi, fallbackApi, clock, refreshAhead, maxStaleness, null);
+    }
+
+    /**
+     * @param restApi rest API
+     * @param fallbackApi API used when the rest API is not enabled or fails
+     * @param clock clock used to decide when to refresh
+     * @param refreshAhead refresh when the cached forecast ends within this window, {@link Duration#ZERO} to disable
+     * @param maxStaleness serve forecasts up to this age while fetching new data, {@link Duration#ZERO} to always wait
+     * @param diskCache persistent cache of rest API responses, {@code null} to disable
+     */
+    public CarbonIntensityDataFetcherImpl(CarbonIntensityApi restApi, CarbonIntensityApi fallbackApi, Clock clock,
+            Duration refreshAhead, Duration maxStaleness, CarbonIntensityDiskCache diskCache) {
         this.fallbackApi = fallbackApi;
         if (restApi.isEnabled()) {
             this.restApi = restApi;
@@ -22,36 +103,254 @@ public class CarbonIntensityDataFetcherImpl implements CarbonIntensityDataFetche
             logger.warn("Rest API not configured. Using only fallback API.");
             this.restApi = this.fallbackApi;
         }
+        this.clock = Objects.requireNonNull(clock, "Clock cannot be null");
+        this.cache = new CarbonIntensityCache(CarbonIntensityCache.DEFAULT_TTL_EMPTY_VALUES, clock);
+        this.refreshAhead = requireNotNegative(refreshAhead, "Refresh ahead");
+        this.maxStaleness = requireNotNegative(maxStaleness, "Maximum staleness");
+        this.diskCache = diskCache;
     }
 
     public CarbonIntensity fetchCarbonIntensity(ZonedCarbonIntensityPeriod zonedPeriod) {
+        return await(fetchCarbonIntensityAsync(zonedPeriod));
+    }
+
+    @Override
+    public CompletableFuture<CarbonIntensity> fetchCarbonIntensityAsync(ZonedCarbonIntensityPeriod zonedPeriod) {
         logger.trace("Fetching data for zone {}", zonedPeriod);
-        var carbonIntensity = getFromCache(zonedPeriod);
+        var key = new CarbonIntensityCache.Key(zonedPeriod.getStartTime().toInstant(), zonedPeriod.getZone());
+        var carbonIntensity = cache.get(key);
         if (carbonIntensity.isPresent()) {
             logger.trace("Found carbonIntensity data in cache");
-            return carbonIntensity.get();
+            if (isRefreshDue(carbonIntensity.get())) {
+                refreshAhead(carbonIntensity.get(), zonedPeriod);
+            }
+            return CompletableFuture.completedFuture(carbonIntensity.get());
+        }
+        if (isStaleAllowed()) {
+            return fetchWhileRevalidating(key, zonedPeriod);
+        }
+        return request(key, zonedPeriod, false);
+    }
+
+    @Override
+    public long getDataVersion(String zone) {
+        return cache.getVersion(zone);
+    }
+
+    /**
+     * @return the number of requests sent to the rest API
+     */
+    public long getRequestCount() {
+        return requests.sum();
+    }
+
+    /**
+     * @return the number of fetches that waited for a pending request instead of sending their own
+     */
+    public long getCoalescedRequestCount() {
+        return coalescedRequests.sum();
+    }
+
+    private boolean isStaleAllowed() {
+        return !maxStaleness.isZero() && restApi != fallbackApi;
+    }
+
+    private boolean isRefreshDue(CarbonIntensity carbonIntensity) {
+        return !refreshAhead.isZero() && restApi != fallbackApi && carbonIntensity.getEnd() != null
+                && !clock.instant().isBefore(carbonIntensity.getEnd().minus(refreshAhead));
+    }
+
+    private CompletableFuture<CarbonIntensity> fetchWhileRevalidating(CarbonIntensityCache.Key key,
+            ZonedCarbonIntensityPeriod zonedPeriod) {
+        var state = zoneState(zonedPeriod.getZone());
+        var stale = state.latest;
+        if (stale != null && covers(stale, zonedPeriod) && !clock.instant().isAfter(state.fetchedAt.plus(maxStaleness))) {
+            refreshInBackground(key, zonedPeriod);
+            logger.debug("Serving last forecast of zone while fetching new data {}", zonedPeriod);
+            return CompletableFuture.completedFuture(stale);
+        }
+        // planners keep a provisional execution time until the data arrives, the fallback is only used on failure
+        logger.debug("No recent forecast, waiting for new data {}", zonedPeriod);
+        return request(key, zonedPeriod, false);
+    }
+
+    /**
+     * Fetches the period that follows the cached forecast, so it is cached before the forecast expires.
+     */
+    private void refreshAhead(CarbonIntensity cached, ZonedCarbonIntensityPeriod zonedPeriod) {
+        var start = cached.getEnd().atZone(zonedPeriod.getStartTime().getZone());
+        var nextPeriod = new ZonedCarbonIntensityPeriod.Builder()
+                .withStartTime(start)
+                .withEndTime(start.plus(Duration.between(zonedPeriod.getStartTime(), zonedPeriod.getEndTime())))
+                .withZone(zonedPeriod.getZone())
+                .build();
+        var nextKey = new CarbonIntensityCache.Key(nextPeriod.getStartTime().toInstant(), nextPeriod.getZone());
+        if (cache.get(nextKey).isEmpty()) {
+            refreshInBackground(nextKey, nextPeriod);
+        }
+    }
+
+    private void refreshInBackground(CarbonIntensityCache.Key key, ZonedCarbonIntensityPeriod zonedPeriod) {
+        var state = zoneState(zonedPeriod.getZone());
+        var now = clock.instant();
+        synchronized (state) {
+            if (now.isBefore(state.nextRefresh) || inFlight.containsKey(key)) {
+                return;
+            }
+            state.nextRefresh = now.plus(MIN_REFRESH_INTERVAL);
         }
+        logger.debug("Refreshing data from rest API in background {}", zonedPeriod);
+        request(key, zonedPeriod, true);
+    }
 
+    /**
+     * Sends a request to the rest API, unless a request for the same key is pending.
+     *
+     * @param key the cache key of the period
+     * @param zonedPeriod the period to fetch
+     * @param refresh {@code true} to replace cached data, keeping the last forecast of the zone if the request fails
+     * @return the pending request
+     */
+    private CompletableFuture<CarbonIntensity> request(CarbonIntensityCache.Key key,
+            ZonedCarbonIntensityPeriod zonedPeriod, boolean refresh) {
+        var request = new CompletableFuture<CarbonIntensity>();
+        var pending = inFlight.putIfAbsent(key, request);
+        if (pending != null) {
+            if (!refresh) {
+                coalescedRequests.increment();
+                logger.trace("Waiting for pending request {}", zonedPeriod);
+            }
+            return pending;
+        }
+        // the previous request may have completed in the meantime
+        var cached = refresh ? null : cache.get(key).orElse(null);
+        CompletableFuture<CarbonIntensity> response;
+        if (cached != null) {
+            response = CompletableFuture.completedFuture(cached);
+        } else {
+            response = loadFromDisk(key, zonedPeriod, refresh)
+                    .thenCompose(persisted -> persisted != null ? CompletableFuture.completedFuture(persisted)
+                            : fetchFromRestApi(zonedPeriod, refresh));
+        }
+        response.whenComplete((result, e) -> {
+            inFlight.remove(key, request);
+            if (e != null) {
+                request.completeExceptionally(e);
+            } else {
+                request.complete(result);
+            }
+        });
+        return request;
+    }
+
+    private CompletableFuture<CarbonIntensity> fetchFromRestApi(ZonedCarbonIntensityPeriod zonedPeriod,
+            boolean refresh) {
         logger.debug("Empty cache, fetching data from rest API {}", zonedPeriod);
-        var restResponse = restApi.getCarbonIntensity(zonedPeriod)
-                .exceptionally(e -> handleException(e, zonedPeriod))
-                .join();
+        requests.increment();
+        return sendRequest(zonedPeriod)
+                .handle((result, e) -> e == null ? CompletableFuture.completedFuture(persist(storeInCache(result)))
+                        : handleException(e, zonedPeriod, refresh))
+                .thenCompose(Function.identity());
+    }
 
-        return storeInCache(restResponse);
+    private CompletableFuture<CarbonIntensity> sendRequest(ZonedCarbonIntensityPeriod zonedPeriod) {
+        try {
+            return restApi.getCarbonIntensity(zonedPeriod);
+        } catch (RuntimeException e) {
+            return CompletableFuture.failedFuture(e);
+        }
+    }
+
+    private ZoneState zoneState(String zone) {
+        return zones.computeIfAbsent(zone.toLowerCase().trim(), z -> new ZoneState());
     }
 
-    private Optional<CarbonIntensity> getFromCache(ZonedCarbonIntensityPeriod zonedPeriod) {
+    private static boolean covers(CarbonIntensity carbonIntensity, ZonedCarbonIntensityPeriod zonedPeriod) {
         var start = zonedPeriod.getStartTime().toInstant();
-        return cache.get(new CarbonIntensityCache.Key(start, zonedPeriod.getZone()));
+        return carbonIntensity.getStart() != null && carbonIntensity.getEnd() != null
+                && !start.isBefore(carbonIntensity.getStart()) && start.isBefore(carbonIntensity.getEnd())
+                && !zonedPeriod.getEndTime().toInstant().isAfter(carbonIntensity.getEnd());
+    }
+
+    private static Duration requireNotNegative(Duration duration, String name) {
+        Objects.requireNonNull(duration, name + " cannot be null");
+        if (duration.isNegative()) {
+            throw new IllegalArgumentException(name + " cannot be negative");
+        }
+        return duration;
+    }
+
+    private static CarbonIntensity await(CompletableFuture<CarbonIntensity> pending) {
+        try {
+            return pending.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * @return the stored forecast covering the period, completed with {@code null} if there is none
+     */
+    private CompletableFuture<CarbonIntensity> loadFromDisk(CarbonIntensityCache.Key key,
+            ZonedCarbonIntensityPeriod zonedPeriod, boolean refresh) {
+        if (refresh || diskCache == null || restApi == fallbackApi || diskMisses.getIfPresent(key) != null) {
+            return CompletableFuture.completedFuture(null);
+        }
+        return CompletableFuture.supplyAsync(() -> {
+            var persisted = diskCache.load(zonedPeriod.getZone(), zonedPeriod.getStartTime().toInstant(),
+                    zonedPeriod.getEndTime().toInstant()).orElse(null);
+            if (persisted == null) {
+                diskMisses.put(key, Boolean.TRUE);
+                return null;
+            }
+            // cache for the requested hour, the forecast may have started earlier
+            return storeInCache(key, persisted);
+        });
+    }
+
+    private CarbonIntensity persist(CarbonIntensity carbonIntensity) {
+        if (diskCache != null && restApi != fallbackApi) {
+            diskCache.store(carbonIntensity);
+        }
+        return carbonIntensity;
     }
 
     private CarbonIntensity storeInCache(CarbonIntensity carbonIntensity) {
-        var start = carbonIntensity.getStart();
-        return cache.put(new CarbonIntensityCache.Key(start, carbonIntensity.getZone()), carbonIntensity);
+        return storeInCache(new CarbonIntensityCache.Key(carbonIntensity.getStart(), carbonIntensity.getZone()),
+                carbonIntensity);
+    }
+
+    private CarbonIntensity storeInCache(CarbonIntensityCache.Key key, CarbonIntensity carbonIntensity) {
+        if (carbonIntensity.hasData()) {
+            var state = zoneState(carbonIntensity.getZone());
+            synchronized (state) {
+                state.latest = carbonIntensity;
+                state.fetchedAt = clock.instant();
+            }
+        }
+        return cache.put(key, carbonIntensity);
     }
 
-    private CarbonIntensity handleException(Throwable e, ZonedCarbonIntensityPeriod zonedPeriod) {
+    private CompletableFuture<CarbonIntensity> handleException(Throwable e, ZonedCarbonIntensityPeriod zonedPeriod,
+            boolean refresh) {
+        var latest = zoneState(zonedPeriod.getZone()).latest;
+        if (refresh && latest != null) {
+            logger.warn("Failed to refresh data from rest API. Keeping last forecast", e);
+            return CompletableFuture.completedFuture(latest);
+        }
         logger.error("Failed to get data from rest API. Using fallback API", e);
-        return fallbackApi.getCarbonIntensity(zonedPeriod).join();
+        return fallbackApi.getCarbonIntensity(zonedPeriod).thenApply(this::storeInCache);
+    }
+
+    /**
+     * Last forecast fetched for a zone, served while newer data is fetched.
+     */
+    private static final class ZoneState {
+        private volatile CarbonIntensity latest;
+        private volatile Instant fetchedAt = Instant.MIN;
+        private Instant nextRefresh = Instant.MIN;
     }
 }
@@ -0,0 +1,154 @@
+package io.carbonintensity.executionplanner.runtime.impl;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeParseException;
+import java.util.Locale;
+import java.util.Objects;
+import java.util.Optional;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import io.carbonintensity.executionplanner.runtime.impl.rest.CarbonIntensityJsonParser;
+
+/**
+ * Persistent second-tier cache of carbon intensity forecasts, so that a restarted application can plan without
+ * fetching data.
+ * <p>
+ * Forecasts are stored as JSON files per zone and UTC day of their start, {@code <directory>/<zone>/<yyyy-MM-dd>.json}.
+ * Files are replaced atomically and only read on a miss of the in-memory cache. Files of a zone older than
+ * {@value #RETENTION_DAYS} days before the last stored forecast are removed.
+ * </p>
+ */
+public class CarbonIntensityDiskCache {
+
+    private static final Logger logger = LoggerFactory.getLogger(CarbonIntensityDiskCache.class);
+    static final int RETENTION_DAYS = 2;
+    private static final String EXTENSION = ".json";
+
+    private final Path directory;
+    private final CarbonIntensityJsonParser parser = new CarbonIntensityJsonParser();
+
+    /**
+     * @param directory the directory to store the forecasts in, created when the first forecast is stored
+     */
+    public CarbonIntensityDiskCache(Path directory) {
+        this.directory = Objects.requireNonNull(directory, "Directory cannot be null");
+    }
+
+    public Path getDirectory() {
+        return directory;
+    }
+
+    /**
+     * Loads the stored forecast of a zone that covers the given period.
+     *
+     * @param zone the zone
+     * @param start the start of the period the forecast must cover
+     * @param end the end of the period the forecast must cover
+     * @return the forecast, empty if none is stored or it cannot be read
+     */
+    public Optional<CarbonIntensity> load(String zone, Instant start, Instant end) {
+        var day = LocalDate.ofInstant(start, ZoneOffset.UTC);
+        // a forecast of the previous day may still cover the period
+        for (var candidate : new LocalDate[] { day, day.minusDays(1) }) {
+            var carbonIntensity = read(fileOf(zone, candidate));
+            // distinct zones can share a file name
+            if (carbonIntensity != null && isOf(carbonIntensity, zone) && covers(carbonIntensity, start, end)) {
+                logger.debug("Loaded carbon intensity of zone {} from {}", zone, directory);
+                return Optional.of(carbonIntensity);
+            }
+        }
+        return Optional.empty();
+    }
+
+    /**
+     * Stores a forecast, replacing the stored forecast of the same zone and day. Failures are logged and ignored.
+     *
+     * @param carbonIntensity the forecast
+     */
+    public void store(CarbonIntensity carbonIntensity) {
+        if (!carbonIntensity.hasData() || carbonIntensity.getStart() == null || carbonIntensity.getEnd() == null
+                || carbonIntensity.getZone() == null) {
+            return;
+        }
+        var day = LocalDate.ofInstant(carbonIntensity.getStart(), ZoneOffset.UTC);
+        var file = fileOf(carbonIntensity.getZone(), day);
+        try {
+            Files.createDirectories(file.getParent());
+            var temporaryFile = Files.createTempFile(file.getParent(), day.toString(), ".tmp");
+            try {
+                Files.writeString(temporaryFile, parser.toJson(carbonIntensity), StandardCharsets.UTF_8);
+                move(temporaryFile, file);
+            } finally {
+                Files.deleteIfExists(temporaryFile);
+            }
+            prune(file.getParent(), day.minusDays(RETENTION_DAYS));
+        } catch (IOException e) {
+            logger.warn("Unable to store carbon intensity in {}", file, e);
+        }
+    }
+
+    private CarbonIntensity read(Path file) {
+        try (InputStream inputStream = Files.newInputStream(file)) {
+            return parser.parse(inputStream);
+        } catch (NoSuchFileException e) {
+            return null;
+        } catch (IOException | RuntimeException e) {
+            logger.warn("Unable to read carbon intensity from {}", file, e);
+            return null;
+        }
+    }
+
+    private Path fileOf(String zone, LocalDate day) {
+        return directory.resolve(normalize(zone).replaceAll("[^a-z0-9_-]", "_")).resolve(day + EXTENSION);
+    }
+
+    private static String normalize(String zone) {
+        return zone.toLowerCase(Locale.ROOT).trim();
+    }
+
+    private static void move(Path source, Path target) throws IOException {
+        try {
+            Files.move(source, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (AtomicMoveNotSupportedException e) {
+            Files.move(source, target, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
+    private static void prune(Path zoneDirectory, LocalDate before) throws IOException {
+        try (DirectoryStream<Path> files = Files.newDirectoryStream(zoneDirectory, "*" + EXTENSION)) {
+            for (Path file : files) {
+                var name = file.getFileName().toString();
+                try {
+                    if (LocalDate.parse(name.substring(0, name.length() - EXTENSION.length())).isBefore(before)) {
+                        Files.deleteIfExists(file);
+                    }
+                } catch (DateTimeParseException e) {
+                    // not a forecast
+                }
+            }
+        }
+    }
+
+    private static boolean isOf(CarbonIntensity carbonIntensity, String zone) {
+        return carbonIntensity.getZone() != null && normalize(carbonIntensity.getZone()).equals(normalize(zone));
+    }
+
+    private static boolean covers(CarbonIntensity carbonIntensity, Instant start, Instant end) {
+        return carbonIntensity.hasData() && carbonIntensity.getStart() != null && carbonIntensity.getEnd() != null
+                && !start.isBefore(carbonIntensity.getStart()) && start.isBefore(carbonIntensity.getEnd())
+                && !end.isAfter(carbonIntensity.getEnd());
+    }
+}
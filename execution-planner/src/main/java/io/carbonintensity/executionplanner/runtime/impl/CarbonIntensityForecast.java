@@ -0,0 +1,229 @@
+package io.carbonintensity.executionplanner.runtime.impl;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.RandomAccess;
+
+/**
+ * An immutable, primitive representation of the data of a {@link CarbonIntensity}: consecutive periods of equal
+ * resolution starting at an epoch second, each with a fixed-point value.
+ * <p>
+ * Values are stored as unscaled {@code long}s that share a single decimal {@link #getScale() scale}, so the
+ * forecast holds no objects per period and values can be compared and summed exactly. {@link #asList()} exposes the
+ * values as {@link BigDecimal}s without copying them.
+ * </p>
+ *
+ * @see CarbonIntensity#getForecast()
+ */
+public final class CarbonIntensityForecast {
+
+    /**
+     * Maximum number of decimals kept, values with more decimals are rounded.
+     */
+    public static final int MAX_SCALE = 6;
+
+    private static final long[] NO_VALUES = new long[0];
+
+    private final long start;
+    private final long resolution;
+    private final long[] values;
+    private final int scale;
+
+    /**
+     * @param start epoch second at which the first period starts
+     * @param resolution the length of a period in seconds
+     * @param values the unscaled values, the array is not copied and must not be modified afterward
+     * @param scale the number of decimals of the values
+     */
+    public CarbonIntensityForecast(long start, long resolution, long[] values, int scale) {
+        if (values.length > 0 && resolution < 1) {
+            throw new IllegalArgumentException("Resolution must be at least 1 second");
+        }
+        if (scale < 0 || scale > MAX_SCALE) {
+            throw new IllegalArgumentException("Scale must be between 0 and " + MAX_SCALE);
+        }
+        this.start = start;
+        this.resolution = resolution;
+        this.values = values;
+        this.scale = scale;
+    }
+
+    /**
+     * Converts a list of values, the values are copied.
+     *
+     * @param start the start of the first period, {@code null} if unknown
+     * @param resolution the length of a period, may be {@code null} if there are no values
+     * @param data the values
+     * @return the forecast
+     */
+    public static CarbonIntensityForecast of(Instant start, Duration resolution, List<BigDecimal> data) {
+        int scale = 0;
+        for (BigDecimal value : data) {
+            scale = Math.max(scale, Math.min(value.scale(), MAX_SCALE));
+        }
+        long[] values = data.isEmpty() ? NO_VALUES : new long[data.size()];
+        for (int i = 0; i < values.length; i++) {
+            values[i] = unscaled(data.get(i), scale);
+        }
+        return new CarbonIntensityForecast(start != null ? start.getEpochSecond() : 0L,
+                resolution != null ? resolution.getSeconds() : 0L, values, scale);
+    }
+
+    /**
+     * @param value a value
+     * @param scale the number of decimals
+     * @return the value as unscaled {@code long} with the given scale, rounded half even
+     */
+    public static long unscaled(BigDecimal value, int scale) {
+        return value.setScale(scale, RoundingMode.HALF_EVEN).unscaledValue().longValueExact();
+    }
+
+    /**
+     * Returns the forecast behind a list returned by {@link #asList()}.
+     *
+     * @param data a list of values
+     * @return the forecast, or {@code null} if the list is not backed by a forecast
+     */
+    static CarbonIntensityForecast backing(List<BigDecimal> data) {
+        return data instanceof ValueList ? ((ValueList) data).forecast : null;
+    }
+
+    /**
+     * @param start epoch second at which the first period starts
+     * @param resolution the length of a period in seconds
+     * @return a forecast sharing the values of this forecast
+     */
+    public CarbonIntensityForecast withStartAndResolution(long start, long resolution) {
+        if (start == this.start && resolution == this.resolution) {
+            return this;
+        }
+        return new CarbonIntensityForecast(start, resolution, values, scale);
+    }
+
+    public int size() {
+        return values.length;
+    }
+
+    public boolean isEmpty() {
+        return values.length == 0;
+    }
+
+    public long getStartEpochSecond() {
+        return start;
+    }
+
+    /**
+     * @return epoch second at which the last period ends
+     */
+    public long getEndEpochSecond() {
+        return start + values.length * resolution;
+    }
+
+    public long getResolutionSeconds() {
+        return resolution;
+    }
+
+    public int getScale() {
+        return scale;
+    }
+
+    /**
+     * @param index the index of a period
+     * @return epoch second at which the period starts
+     */
+    public long startOf(int index) {
+        return start + index * resolution;
+    }
+
+    /**
+     * @param epochSecond a moment
+     * @return the index of the period containing the moment, or {@code -1} if it is outside the forecast
+     */
+    public int indexOf(long epochSecond) {
+        if (epochSecond < start || values.length == 0) {
+            return -1;
+        }
+        long index = (epochSecond - start) / resolution;
+        return index < values.length ? (int) index : -1;
+    }
+
+    /**
+     * @param index the index of a period
+     * @return the unscaled value of the period
+     */
+    public long unscaledValue(int index) {
+        return values[index];
+    }
+
+    /**
+     * @param index the index of a period
+     * @return the value of the period
+     */
+    public double value(int index) {
+        return values[index] / Math.pow(10, scale);
+    }
+
+    /**
+     * @param index the index of a period
+     * @return the value of the period
+     */
+    public BigDecimal decimalValue(int index) {
+        return BigDecimal.valueOf(values[index], scale);
+    }
+
+    /**
+     * @return an unmodifiable view of the values
+     */
+    public List<BigDecimal> asList() {
+        return new ValueList(this);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o)
+            return true;
+        if (o == null || getClass() != o.getClass())
+            return false;
+        CarbonIntensityForecast that = (CarbonIntensityForecast) o;
+        return start == that.start && resolution == that.resolution && scale == that.scale
+                && Arrays.equals(values, that.values);
+    }
+
+    @Override
+    public int hashCode() {
+        return 31 * Long.hashCode(start) + Arrays.hashCode(values);
+    }
+
+    @Override
+    public String toString() {
+        return "CarbonIntensityForecast{" +
+                "start=" + start +
+                ", resolution=" + resolution +
+                ", size=" + values.length +
+                ", scale=" + scale +
+                '}';
+    }
+
+    private static final class ValueList extends AbstractList<BigDecimal> implements RandomAccess {
+        private final CarbonIntensityForecast forecast;
+
+        private ValueList(CarbonIntensityForecast forecast) {
+            this.forecast = forecast;
+        }
+
+        @Override
+        public BigDecimal get(int index) {
+            return forecast.decimalValue(index);
+        }
+
+        @Override
+        public int size() {
+            return forecast.size();
+        }
+    }
+}
@@ -8,16 +8,15 @@ import java.nio.charset.Charset;
 import java.nio.charset.StandardCharsets;
 import java.time.Duration;
 import java.time.Instant;
-import java.util.ArrayList;
-import java.util.List;
+import java.util.Arrays;
 
 import jakarta.json.Json;
-import jakarta.json.JsonNumber;
-import jakarta.json.JsonObject;
+import jakarta.json.JsonException;
 import jakarta.json.JsonWriter;
 import jakarta.json.stream.JsonParser;
 
 import io.carbonintensity.executionplanner.runtime.impl.CarbonIntensity;
+import io.carbonintensity.executionplanner.runtime.impl.CarbonIntensityForecast;
 
 /**
  * A utility class to parse and serialize {@link CarbonIntensity} objects from and to JSON.
@@ -31,19 +30,45 @@ public final class CarbonIntensityJsonParser {
     private static final String FIELD_ZONE = "zone";
     private static final String FIELD_DATA = "data";
 
+    /**
+     * Parses a {@link CarbonIntensity} by walking the parser events. The data points are written straight into a
+     * primitive buffer backing a {@link CarbonIntensityForecast}, without building a JSON object tree.
+     *
+     * @param inputStream the JSON input
+     * @return the parsed carbon intensity, empty if the input is not a JSON object
+     */
     public CarbonIntensity parse(InputStream inputStream) {
         var result = new CarbonIntensity();
         try (JsonParser parser = Json.createParser(new InputStreamReader(inputStream, CHARSET))) {
-            if (parser.hasNext()) {
-                var event = parser.next();
-                if (event == JsonParser.Event.START_OBJECT) {
-                    var jsonWrapper = new JsonWrapper(parser.getObject());
-                    result.setStart(jsonWrapper.getInstant(FIELD_START));
-                    result.setEnd(jsonWrapper.getInstant(FIELD_END));
-                    result.setResolution(jsonWrapper.getDuration(FIELD_RESOLUTION));
-                    result.setZone(jsonWrapper.getString(FIELD_ZONE));
-                    result.setData(jsonWrapper.getBigDecimalList(FIELD_DATA));
+            if (parser.hasNext() && parser.next() == JsonParser.Event.START_OBJECT) {
+                var data = new ForecastBuffer();
+                while (parser.hasNext()) {
+                    var event = parser.next();
+                    if (event == JsonParser.Event.END_OBJECT) {
+                        break;
+                    }
+                    var field = parser.getString();
+                    switch (field) {
+                        case FIELD_START:
+                            result.setStart(toInstant(readString(parser)));
+                            break;
+                        case FIELD_END:
+                            result.setEnd(toInstant(readString(parser)));
+                            break;
+                        case FIELD_RESOLUTION:
+                            result.setResolution(toDuration(readString(parser)));
+                            break;
+                        case FIELD_ZONE:
+                            result.setZone(readString(parser));
+                            break;
+                        case FIELD_DATA:
+                            readData(parser, data);
+                            break;
+                        default:
+                            skipValue(parser);
+                    }
                 }
+                result.setData(data.toForecast(result.getStart(), result.getResolution()).asList());
             }
         }
         return result;
@@ -68,39 +93,117 @@ public final class CarbonIntensityJsonParser {
         }
     }
 
-    private static class JsonWrapper {
-        final JsonObject jsonObject;
+    private static String readString(JsonParser parser) {
+        var event = parser.next();
+        if (event == JsonParser.Event.VALUE_STRING) {
+            return parser.getString();
+        }
+        skipStructure(parser, event);
+        return null;
+    }
+
+    private static void readData(JsonParser parser, ForecastBuffer data) {
+        var event = parser.next();
+        if (event != JsonParser.Event.START_ARRAY) {
+            skipStructure(parser, event);
+            return;
+        }
+        while ((event = parser.next()) != JsonParser.Event.END_ARRAY) {
+            if (event != JsonParser.Event.VALUE_NUMBER) {
+                throw new JsonException("Expected a number in " + FIELD_DATA + " but found " + event);
+            }
+            // decoding the literal allocates less than JsonParser#isIntegralNumber() or JsonParser#getBigDecimal()
+            data.add(parser.getString());
+        }
+    }
 
-        private JsonWrapper(JsonObject jsonObject) {
-            this.jsonObject = jsonObject;
+    private static void skipValue(JsonParser parser) {
+        skipStructure(parser, parser.next());
+    }
+
+    private static void skipStructure(JsonParser parser, JsonParser.Event event) {
+        if (event == JsonParser.Event.START_OBJECT) {
+            parser.skipObject();
+        } else if (event == JsonParser.Event.START_ARRAY) {
+            parser.skipArray();
         }
+    }
 
-        Instant getInstant(String property) {
-            var value = getString(property);
-            return value != null && !value.isEmpty() ? Instant.parse(value) : null;
+    private static Instant toInstant(String value) {
+        return value != null && !value.isEmpty() ? Instant.parse(value) : null;
+    }
+
+    private static Duration toDuration(String value) {
+        return value != null && !value.isEmpty() ? Duration.parse(value) : null;
+    }
+
+    /**
+     * Growable buffer of unscaled values sharing a single scale. A value with more decimals than the buffered values
+     * rescales the buffer, up to {@link CarbonIntensityForecast#MAX_SCALE} decimals.
+     */
+    private static final class ForecastBuffer {
+        private static final long[] POWERS_OF_TEN = { 1L, 10L, 100L, 1_000L, 10_000L, 100_000L, 1_000_000L };
+
+        private long[] values = new long[64];
+        private int size;
+        private int scale;
+
+        /**
+         * Adds a number literal. Plain literals are decoded without creating a {@link BigDecimal}, literals
+         * with an exponent or too many digits fall back to one.
+         */
+        void add(String number) {
+            var negative = number.charAt(0) == '-';
+            long unscaled = 0;
+            int valueScale = -1;
+            for (int i = negative ? 1 : 0; i < number.length(); i++) {
+                var c = number.charAt(i);
+                if (c == '.' && valueScale < 0) {
+                    valueScale = 0;
+                } else if (c >= '0' && c <= '9' && unscaled < Long.MAX_VALUE / 100
+                        && valueScale < CarbonIntensityForecast.MAX_SCALE) {
+                    unscaled = unscaled * 10 + (c - '0');
+                    valueScale += valueScale >= 0 ? 1 : 0;
+                } else {
+                    add(new BigDecimal(number));
+                    return;
+                }
+            }
+            valueScale = Math.max(valueScale, 0);
+            if (valueScale > scale) {
+                rescale(valueScale);
+            }
+            var value = Math.multiplyExact(unscaled, POWERS_OF_TEN[scale - valueScale]);
+            append(negative ? -value : value);
         }
 
-        String getString(String property) {
-            return jsonObject.get(property) != null ? jsonObject.getString(property) : null;
+        void add(BigDecimal value) {
+            var valueScale = Math.min(Math.max(value.scale(), 0), CarbonIntensityForecast.MAX_SCALE);
+            if (valueScale > scale) {
+                rescale(valueScale);
+            }
+            append(CarbonIntensityForecast.unscaled(value, scale));
         }
 
-        Duration getDuration(String property) {
-            var value = getString(property);
-            return value != null && !value.isEmpty() ? Duration.parse(value) : null;
+        private void rescale(int newScale) {
+            var factor = POWERS_OF_TEN[newScale - scale];
+            for (int i = 0; i < size; i++) {
+                values[i] = Math.multiplyExact(values[i], factor);
+            }
+            scale = newScale;
         }
 
-        List<BigDecimal> getBigDecimalList(String property) {
-            var result = new ArrayList<BigDecimal>();
-            if (jsonObject.get(property) != null) {
-                var jsonArray = jsonObject.getJsonArray(property);
-                jsonArray.forEach(jsonValue -> {
-                    var jsonNumber = (JsonNumber) jsonValue;
-                    result.add(jsonNumber.bigDecimalValue());
-                });
+        private void append(long value) {
+            if (size == values.length) {
+                values = Arrays.copyOf(values, size * 2);
             }
-            return result;
+            values[size++] = value;
         }
 
+        CarbonIntensityForecast toForecast(Instant start, Duration resolution) {
+            return new CarbonIntensityForecast(start != null ? start.getEpochSecond() : 0L,
+                    resolution != null ? resolution.getSeconds() : 0L, Arrays.copyOf(values, size), scale);
+        }
     }
 
 }
@@ -1,10 +1,22 @@
 package io.carbonintensity.executionplanner.spi;
 
 import java.time.ZonedDateTime;
+import java.util.concurrent.CompletableFuture;
 
 public interface CarbonIntensityPlanner<T extends PlanningConstraints> {
 
     boolean canSchedule(T constraints);
 
     ZonedDateTime getNextExecutionTime(T constraints);
+
+    /**
+     * Plans the next execution time without waiting for carbon intensity data. The default implementation plans
+     * synchronously, planners that fetch data should override it.
+     *
+     * @param constraints the planning constraints
+     * @return the next execution time, completed once the carbon intensity data is available
+     */
+    default CompletableFuture<ZonedDateTime> getNextExecutionTimeAsync(T constraints) {
+        return CompletableFuture.completedFuture(getNextExecutionTime(constraints));
+    }
 }
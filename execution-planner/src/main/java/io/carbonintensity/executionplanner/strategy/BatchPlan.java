@@ -0,0 +1,185 @@
+package io.carbonintensity.executionplanner.strategy;
+
+import java.time.ZonedDateTime;
+import java.util.HashMap;
+import java.util.Map;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import io.carbonintensity.executionplanner.planner.Timeslot;
+
+/**
+ * Timeslots of the jobs placed by a {@link BatchStrategy}, together with the number of jobs planned in each slot of
+ * the covered period.
+ * <p>
+ * Jobs added after the plan was created are placed around the existing jobs, which are not moved. This class is not
+ * thread-safe.
+ * </p>
+ */
+public final class BatchPlan {
+
+    private static final Logger log = LoggerFactory.getLogger(BatchPlan.class);
+
+    private final CarbonIntensityIndex index;
+    private final long from;
+    private final long to;
+    private final long step;
+    private final int slotCapacity;
+    private final int[] occupancy;
+    private final Map<String, Placement> placements = new HashMap<>();
+
+    BatchPlan(CarbonIntensityIndex index, long from, long to, long step, int slotCapacity) {
+        this.index = index;
+        this.from = from;
+        this.to = to;
+        this.step = step;
+        this.slotCapacity = slotCapacity;
+        this.occupancy = new int[Math.toIntExact(Math.max(1, Math.floorDiv(to - from + step - 1, step)))];
+    }
+
+    /**
+     * @param job a job
+     * @return {@code true} if jobs with this window can be added to the plan
+     */
+    public boolean covers(BatchStrategy.Job job) {
+        return job.getWindowStart().toEpochSecond() >= from
+                && job.getWindowEnd().toEpochSecond() + job.getDuration().getSeconds() <= to;
+    }
+
+    /**
+     * @param job a job
+     * @return the timeslot of the job, {@code null} if it is not part of the plan or was planned with another window
+     */
+    public Timeslot timeslotOf(BatchStrategy.Job job) {
+        Placement placement = placements.get(job.getIdentity());
+        return placement != null && placement.job.equals(job) ? placement.timeslot : null;
+    }
+
+    /**
+     * Places a job in the greenest timeslot that has room for it, replacing an earlier placement of the same identity.
+     *
+     * @param job a job covered by this plan
+     * @return the timeslot of the job
+     * @throws IllegalArgumentException if the window of the job is not covered
+     */
+    public Timeslot add(BatchStrategy.Job job) {
+        if (!covers(job)) {
+            throw new IllegalArgumentException("Window of " + job + " is not covered by the plan");
+        }
+        remove(job.getIdentity());
+
+        long durationSeconds = job.getDuration().getSeconds();
+        long windowStart = job.getWindowStart().toEpochSecond();
+        long windowEnd = job.getWindowEnd().toEpochSecond();
+        long bestStart = windowStart;
+        long bestValue = Long.MAX_VALUE;
+        int bestOverload = Integer.MAX_VALUE;
+        for (long s = windowStart; s <= windowEnd; s += step) { // allow equal for 0 windows
+            int load = maxOccupancy(s, s + durationSeconds);
+            int overload = load < slotCapacity ? 0 : load;
+            if (overload > bestOverload) {
+                continue;
+            }
+            long value = index.carbonIntensity(s, s + durationSeconds);
+            if (overload < bestOverload || value < bestValue) {
+                bestStart = s;
+                bestValue = value;
+                bestOverload = overload;
+            }
+        }
+        if (bestOverload > 0) {
+            log.debug("No room left for {}, {} jobs are planned at the same time", job, bestOverload + 1);
+        }
+
+        return place(job, job.getWindowStart().plusSeconds(bestStart - windowStart), bestValue);
+    }
+
+    /**
+     * Places a job at the given start, regardless of the number of jobs planned at that time.
+     *
+     * @param job a job
+     * @param start the start of its timeslot
+     * @return {@code false} if the job is not covered by this plan
+     */
+    boolean add(BatchStrategy.Job job, ZonedDateTime start) {
+        if (!covers(job)) {
+            return false;
+        }
+        remove(job.getIdentity());
+        long s = start.toEpochSecond();
+        place(job, start, index.carbonIntensity(s, s + job.getDuration().getSeconds()));
+        return true;
+    }
+
+    private Timeslot place(BatchStrategy.Job job, ZonedDateTime start, long value) {
+        long s = start.toEpochSecond();
+        occupy(s, s + job.getDuration().getSeconds(), 1);
+        var timeslot = new Timeslot(start, start.plus(job.getDuration()), index.toCarbonIntensity(value));
+        placements.put(job.getIdentity(), new Placement(job, timeslot, s));
+        return timeslot;
+    }
+
+    /**
+     * @param identity identity of a job
+     * @return {@code true} if the job was part of the plan
+     */
+    public boolean remove(String identity) {
+        Placement placement = placements.remove(identity);
+        if (placement == null) {
+            return false;
+        }
+        occupy(placement.start, placement.start + placement.job.getDuration().getSeconds(), -1);
+        return true;
+    }
+
+    /**
+     * @return number of jobs in the plan
+     */
+    public int size() {
+        return placements.size();
+    }
+
+    /**
+     * @param start epoch second
+     * @return number of jobs planned to run at the given time
+     */
+    public int occupancyAt(long start) {
+        return maxOccupancy(start, start + 1);
+    }
+
+    private int maxOccupancy(long start, long end) {
+        int max = 0;
+        for (int i = firstSlot(start), last = lastSlot(start, end); i <= last; i++) {
+            max = Math.max(max, occupancy[i]);
+        }
+        return max;
+    }
+
+    private void occupy(long start, long end, int jobs) {
+        for (int i = firstSlot(start), last = lastSlot(start, end); i <= last; i++) {
+            occupancy[i] += jobs;
+        }
+    }
+
+    private int firstSlot(long start) {
+        return (int) Math.max(0, Math.floorDiv(start - from, step));
+    }
+
+    private int lastSlot(long start, long end) {
+        long last = Math.floorDiv(Math.max(end - 1, start) - from, step);
+        return (int) Math.min(last, occupancy.length - 1L);
+    }
+
+    private static final class Placement {
+        private final BatchStrategy.Job job;
+        private final Timeslot timeslot;
+        private final long start;
+
+        private Placement(BatchStrategy.Job job, Timeslot timeslot, long start) {
+            this.job = job;
+            this.timeslot = timeslot;
+            this.start = start;
+        }
+    }
+}
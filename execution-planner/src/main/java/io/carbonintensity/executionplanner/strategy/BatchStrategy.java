@@ -0,0 +1,155 @@
+package io.carbonintensity.executionplanner.strategy;
+
+import java.time.Duration;
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Objects;
+
+import io.carbonintensity.executionplanner.planner.Timeslot;
+import io.carbonintensity.executionplanner.runtime.impl.CarbonIntensity;
+
+/**
+ * Places several jobs of the same zone at once, so that no more than a given number of jobs run at the same time.
+ * <p>
+ * Finding the assignment with the lowest total carbon intensity is a scheduling problem that cannot be solved
+ * exactly in reasonable time, so jobs are placed greedily: the jobs with the smallest window first, and of those the
+ * longest jobs first, as they have the fewest alternatives. Each job gets the greenest timeslot that still has room
+ * for it. If no timeslot has room left the least occupied one is used, preferring the greenest.
+ * </p>
+ * <p>
+ * Timeslots are generated every resolution from the start of the window, like {@link PrefixSumStrategy} does, and
+ * their carbon intensity is calculated the same way.
+ * </p>
+ *
+ * @see BatchPlan
+ */
+public class BatchStrategy {
+
+    private final Duration resolution;
+    private final int slotCapacity;
+
+    /**
+     * @param resolution the resolution of generating timeslots, also the granularity at which concurrent jobs are counted
+     * @param slotCapacity maximum number of jobs planned to run at the same time
+     */
+    public BatchStrategy(Duration resolution, int slotCapacity) {
+        if (resolution.getSeconds() < 1) {
+            throw new IllegalArgumentException("Resolution must be at least 1 second");
+        }
+        if (slotCapacity < 1) {
+            throw new IllegalArgumentException("Slot capacity cannot be less than 1");
+        }
+        this.resolution = resolution;
+        this.slotCapacity = slotCapacity;
+    }
+
+    /**
+     * @param jobs the jobs to place, identities must be unique
+     * @param carbonIntensity carbon intensity data covering the windows of the jobs
+     * @return the plan, to which jobs can be added later on as long as their window is covered
+     */
+    public BatchPlan plan(Collection<Job> jobs, CarbonIntensity carbonIntensity) {
+        return plan(jobs, carbonIntensity, null);
+    }
+
+    /**
+     * @param jobs the jobs to place, identities must be unique
+     * @param carbonIntensity carbon intensity data covering the windows of the jobs
+     * @param previous a plan of the same data whose jobs keep their timeslot if their window did not change, or
+     *        {@code null}
+     * @return the plan, to which jobs can be added later on as long as their window is covered
+     */
+    public BatchPlan plan(Collection<Job> jobs, CarbonIntensity carbonIntensity, BatchPlan previous) {
+        long from = Long.MAX_VALUE;
+        long to = Long.MIN_VALUE;
+        for (Job job : jobs) {
+            from = Math.min(from, job.windowStart.toEpochSecond());
+            to = Math.max(to, job.windowEnd.toEpochSecond() + job.duration.getSeconds());
+        }
+        if (jobs.isEmpty()) {
+            from = to = carbonIntensity.getForecast().getStartEpochSecond();
+        }
+
+        var plan = new BatchPlan(new CarbonIntensityIndex(carbonIntensity.getForecast()), from, to, resolution.getSeconds(),
+                slotCapacity);
+        List<Job> ordered = new ArrayList<>(jobs);
+        ordered.sort(Comparator.comparing((Job job) -> Duration.between(job.windowStart, job.windowEnd))
+                .thenComparing(Job::getDuration, Comparator.reverseOrder())
+                .thenComparing(Job::getIdentity));
+        if (previous != null) {
+            // jobs already planned may have been handed out, keep them in place
+            ordered.removeIf(job -> {
+                Timeslot timeslot = previous.timeslotOf(job);
+                return timeslot != null && plan.add(job, timeslot.start());
+            });
+        }
+        for (Job job : ordered) {
+            plan.add(job);
+        }
+        return plan;
+    }
+
+    /**
+     * A job to place, started between the start and the end of its window.
+     */
+    public static final class Job {
+        private final String identity;
+        private final ZonedDateTime windowStart;
+        private final ZonedDateTime windowEnd;
+        private final Duration duration;
+
+        public Job(String identity, ZonedDateTime windowStart, ZonedDateTime windowEnd, Duration duration) {
+            this.identity = Objects.requireNonNull(identity, "Identity cannot be null");
+            this.windowStart = Objects.requireNonNull(windowStart, "Window start cannot be null");
+            this.windowEnd = Objects.requireNonNull(windowEnd, "Window end cannot be null");
+            this.duration = Objects.requireNonNull(duration, "Duration cannot be null");
+        }
+
+        public String getIdentity() {
+            return identity;
+        }
+
+        public ZonedDateTime getWindowStart() {
+            return windowStart;
+        }
+
+        public ZonedDateTime getWindowEnd() {
+            return windowEnd;
+        }
+
+        public Duration getDuration() {
+            return duration;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof Job)) {
+                return false;
+            }
+            Job job = (Job) o;
+            return identity.equals(job.identity) && windowStart.isEqual(job.windowStart)
+                    && windowEnd.isEqual(job.windowEnd) && duration.equals(job.duration);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(identity, windowStart.toEpochSecond(), windowEnd.toEpochSecond(), duration);
+        }
+
+        @Override
+        public String toString() {
+            return "Job{" +
+                    "identity='" + identity + '\'' +
+                    ", windowStart=" + windowStart +
+                    ", windowEnd=" + windowEnd +
+                    ", duration=" + duration +
+                    '}';
+        }
+    }
+}
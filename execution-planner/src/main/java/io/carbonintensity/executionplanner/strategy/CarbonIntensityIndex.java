@@ -0,0 +1,156 @@
+package io.carbonintensity.executionplanner.strategy;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+
+import io.carbonintensity.executionplanner.runtime.impl.CarbonIntensityForecast;
+
+/**
+ * Carbon intensity of a forecast per timeslot in unscaled values, like
+ * {@link io.carbonintensity.executionplanner.planner.Timeslot#calculateCarbonIntensity} calculates it. A period the
+ * timeslot covers entirely counts with its value, a period it overlaps partly with its rate per second, rounded half
+ * even to the scale of the forecast, times the overlapping seconds. The rates are rounded once per forecast, and
+ * {@link io.carbonintensity.executionplanner.planner.TimeslotCursor} scores timeslots through this index as well, so
+ * every strategy scores timeslots the same as {@link SingleJobStrategy} and resolves ties the same way.
+ */
+public final class CarbonIntensityIndex {
+    private final CarbonIntensityForecast forecast;
+    private final long start;
+    private final long periodSeconds;
+    private final long[] rates;
+    // the rates followed by the values for a ScoringKernel, null if scores would not be exact in doubles
+    private final double[] samples;
+
+    /**
+     * @param forecast the forecast, the rates of its periods are calculated once
+     */
+    public CarbonIntensityIndex(CarbonIntensityForecast forecast) {
+        this.forecast = forecast;
+        this.start = forecast.getStartEpochSecond();
+        this.periodSeconds = Math.max(forecast.getResolutionSeconds(), 1L);
+        int size = forecast.size();
+        this.rates = new long[size];
+        BigDecimal divisor = BigDecimal.valueOf(periodSeconds);
+        long maxValue = 0;
+        for (int i = 0; i < size; i++) {
+            rates[i] = BigDecimal.valueOf(forecast.unscaledValue(i), forecast.getScale())
+                    .divide(divisor, RoundingMode.HALF_EVEN)
+                    .unscaledValue()
+                    .longValueExact();
+            long value = Math.max(Math.abs(forecast.unscaledValue(i)), Math.abs(rates[i]) * periodSeconds);
+            maxValue = Math.max(maxValue, value);
+        }
+        // a score adds two values of at most a period each
+        this.samples = maxValue <= 1L << 52 ? new double[2 * size] : null;
+        for (int i = 0; samples != null && i < size; i++) {
+            samples[i] = rates[i];
+            samples[size + i] = forecast.unscaledValue(i);
+        }
+    }
+
+    /**
+     * @param forecast a forecast
+     * @return {@code true} if this index was built from the given forecast instance
+     */
+    boolean isOf(CarbonIntensityForecast forecast) {
+        return this.forecast == forecast;
+    }
+
+    /**
+     * @return number of periods of the forecast
+     */
+    int size() {
+        return forecast.size();
+    }
+
+    /**
+     * @return seconds of each period of the forecast, at least 1
+     */
+    long periodSeconds() {
+        return periodSeconds;
+    }
+
+    /**
+     * @param from epoch second at which the timeslot starts
+     * @param to epoch second at which the timeslot ends
+     * @return the unscaled carbon intensity of the periods containing the start and the end of the timeslot
+     */
+    public long carbonIntensity(long from, long to) {
+        if (to <= from) {
+            return 0;
+        }
+        long first = Math.floorDiv(from - start, periodSeconds);
+        long last = Math.floorDiv(to - start - 1, periodSeconds);
+        if (first == last) {
+            return overlap(first, to - from);
+        }
+        // periods in between are not weighted, see Timeslot.calculateCarbonIntensity
+        return overlap(first, start + (first + 1) * periodSeconds - from)
+                + overlap(last, to - start - last * periodSeconds);
+    }
+
+    private long overlap(long period, long seconds) {
+        if (period < 0 || period >= rates.length) {
+            return 0;
+        }
+        int i = (int) period;
+        return seconds == periodSeconds ? forecast.unscaledValue(i) : rates[i] * seconds;
+    }
+
+    /**
+     * Finds the timeslot with the lowest carbon intensity of a series of timeslots. When the timeslots start a whole
+     * number of periods apart and lie within the forecast, they are scored by the kernel.
+     *
+     * @param from epoch second at which the first timeslot starts
+     * @param step seconds between the starts of consecutive timeslots
+     * @param duration seconds of each timeslot
+     * @param count number of timeslots, at least 1
+     * @param kernel the kernel
+     * @return index of the first timeslot with the lowest carbon intensity
+     */
+    int bestOf(long from, long step, long duration, int count, ScoringKernel kernel) {
+        long offset = from - start;
+        if (samples != null && duration > 0 && step % periodSeconds == 0 && offset >= 0
+                && from + (count - 1) * step + duration <= forecast.getEndEpochSecond()) {
+            int first = (int) (offset / periodSeconds);
+            int last = (int) ((offset + duration - 1) / periodSeconds);
+            int stride = (int) (step / periodSeconds);
+            // overlap with the periods containing the start and the end, see carbonIntensity(long, long)
+            long firstWeight = first == last ? duration : (first + 1) * periodSeconds - offset;
+            long lastWeight = first == last ? 0 : offset + duration - last * periodSeconds;
+            return kernel.argmin(samples, sampleOf(first, firstWeight), sampleOf(last, lastWeight), stride,
+                    weightOf(firstWeight), weightOf(lastWeight), count);
+        }
+
+        int best = 0;
+        long bestValue = Long.MAX_VALUE;
+        for (int i = 0; i < count; i++) {
+            long s = from + i * step;
+            long value = carbonIntensity(s, s + duration);
+            if (value < bestValue) {
+                best = i;
+                bestValue = value;
+            }
+        }
+        return best;
+    }
+
+    /**
+     * @param unscaled a value returned by {@link #carbonIntensity(long, long)}
+     * @return the carbon intensity as calculated by {@link SingleJobStrategy}
+     */
+    BigDecimal toCarbonIntensity(long unscaled) {
+        return BigDecimal.valueOf(unscaled, forecast.getScale());
+    }
+
+    /**
+     * @return index in the samples of the rate of a period, or of its value if the timeslot covers it entirely
+     */
+    private int sampleOf(int period, long overlap) {
+        return overlap == periodSeconds ? rates.length + period : period;
+    }
+
+    private long weightOf(long overlap) {
+        return overlap == periodSeconds ? 1 : overlap;
+    }
+}
@@ -0,0 +1,85 @@
+package io.carbonintensity.executionplanner.strategy;
+
+import java.time.Duration;
+import java.util.Objects;
+
+/**
+ * The resolution at which timeslots are generated when planning a job, either a fixed duration or adaptive.
+ * <p>
+ * An adaptive resolution scans long windows coarsely and refines around the best timeslots at second granularity, see
+ * {@link PrefixSumStrategy#adaptive(double)}.
+ * </p>
+ */
+public final class PlanningResolution {
+
+    private static final PlanningResolution ADAPTIVE = new PlanningResolution(null);
+
+    // null if adaptive
+    private final Duration duration;
+
+    private PlanningResolution(Duration duration) {
+        this.duration = duration;
+    }
+
+    /**
+     * @param duration the duration between the starts of consecutive timeslots, at least 1 second
+     * @return a fixed resolution
+     */
+    public static PlanningResolution of(Duration duration) {
+        Objects.requireNonNull(duration, "Resolution cannot be null");
+        if (duration.getSeconds() < 1) {
+            throw new IllegalArgumentException("Resolution must be at least 1 second");
+        }
+        return new PlanningResolution(duration);
+    }
+
+    /**
+     * @return the adaptive resolution
+     */
+    public static PlanningResolution adaptive() {
+        return ADAPTIVE;
+    }
+
+    public boolean isAdaptive() {
+        return duration == null;
+    }
+
+    /**
+     * @return the duration between the starts of consecutive timeslots, {@code null} if adaptive
+     */
+    public Duration getDuration() {
+        return duration;
+    }
+
+    /**
+     * @param carbonTolerance fraction by which the carbon intensity of a timeslot may exceed the best one for jobs to be
+     *        spread over it, see {@link PrefixSumStrategy#PrefixSumStrategy(Duration, double)}
+     * @return a strategy generating timeslots at this resolution
+     */
+    public PlanningStrategy createStrategy(double carbonTolerance) {
+        return isAdaptive() ? PrefixSumStrategy.adaptive(carbonTolerance)
+                : new PrefixSumStrategy(duration, carbonTolerance);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        PlanningResolution that = (PlanningResolution) o;
+        return Objects.equals(duration, that.duration);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hashCode(duration);
+    }
+
+    @Override
+    public String toString() {
+        return isAdaptive() ? "adaptive" : duration.toString();
+    }
+}
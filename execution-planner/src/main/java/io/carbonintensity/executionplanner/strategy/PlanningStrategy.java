@@ -2,10 +2,40 @@ package io.carbonintensity.executionplanner.strategy;
 
 import java.time.Duration;
 import java.time.ZonedDateTime;
+import java.util.List;
 
 import io.carbonintensity.executionplanner.planner.Timeslot;
 import io.carbonintensity.executionplanner.runtime.impl.CarbonIntensity;
 
 public interface PlanningStrategy {
     Timeslot bestTimeslot(ZonedDateTime ws, ZonedDateTime we, Duration duration, CarbonIntensity carbonIntensity);
+
+    /**
+     * Finds the best timeslot for a given job. Strategies may use the identity to place jobs with the same window in
+     * different, almost as green, timeslots.
+     *
+     * @param identity identity of the job, see
+     *        {@link io.carbonintensity.executionplanner.spi.PlanningConstraints#getIdentity()}
+     * @return the best timeslot, {@code null} if there is none
+     */
+    default Timeslot bestTimeslot(ZonedDateTime ws, ZonedDateTime we, Duration duration, CarbonIntensity carbonIntensity,
+            String identity) {
+        return bestTimeslot(ws, we, duration, carbonIntensity);
+    }
+
+    /**
+     * Finds the timeslots with the lowest carbon intensity that do not overlap, as alternatives to the best timeslot.
+     * Strategies that do not rank timeslots return only the best timeslot.
+     *
+     * @param count maximum number of timeslots to return, at least 1
+     * @return the timeslots ordered from the lowest carbon intensity, the first one is the best timeslot
+     */
+    default List<Timeslot> bestTimeslots(ZonedDateTime ws, ZonedDateTime we, Duration duration,
+            CarbonIntensity carbonIntensity, int count) {
+        if (count < 1) {
+            throw new IllegalArgumentException("Number of timeslots must be at least 1");
+        }
+        Timeslot best = bestTimeslot(ws, we, duration, carbonIntensity);
+        return best == null ? List.of() : List.of(best);
+    }
 }
@@ -0,0 +1,298 @@
+package io.carbonintensity.executionplanner.strategy;
+
+import java.time.Duration;
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import io.carbonintensity.executionplanner.planner.Timeslot;
+import io.carbonintensity.executionplanner.runtime.impl.CarbonIntensity;
+import io.carbonintensity.executionplanner.runtime.impl.CarbonIntensityForecast;
+
+/**
+ * Places a single job in the best spot in the given window, like {@link SingleJobStrategy}.
+ * <p>
+ * The {@link CarbonIntensityForecast} is indexed once, after which the carbon intensity of any timeslot is calculated
+ * from the two periods containing its start and end. Finding the best timeslot costs {@code O(timeslots)} instead of
+ * {@code O(timeslots x periods)}, and only the winning {@link Timeslot} is created.
+ * </p>
+ * <p>
+ * The same timeslots are evaluated as by {@link SingleJobStrategy}, with the same weighting of only the periods that
+ * contain the start and the end of a timeslot and the same rounding of the rate per second of partly overlapped
+ * periods, so both strategies pick the same timeslot.
+ * </p>
+ * <p>
+ * With a carbon tolerance, jobs are spread over all timeslots whose carbon intensity is at most that fraction above the
+ * best one, so that jobs with the same window do not all start at the same second. Each job picks one of these
+ * timeslots by a hash of its identity. The choice is deterministic, a job keeps its timeslot across restarts and
+ * instances as long as the forecast does not change.
+ * </p>
+ * <p>
+ * Timeslots that start a whole number of forecast periods apart are scored by a {@link ScoringKernel}, by default the
+ * one returned by {@link ScoringKernel#load()}.
+ * </p>
+ * <p>
+ * An {@link #adaptive(double) adaptive} strategy picks the resolution per window. Windows of up to an hour are scanned
+ * at second granularity. Longer windows are scanned coarsely first, after which the surroundings of the best
+ * {@value #REFINED_CANDIDATES} coarse timeslots are scanned at second granularity. The coarse resolution is at most a
+ * forecast period, so no period is skipped, and balances both scans: a window of a day is scanned every 2 minutes.
+ * Refining is a heuristic, a greener timeslot between two coarse timeslots that are not among the best can be missed.
+ * </p>
+ */
+public class PrefixSumStrategy implements PlanningStrategy {
+
+    private static final Logger log = LoggerFactory.getLogger(PrefixSumStrategy.class);
+
+    /**
+     * Seconds of the longest window an adaptive strategy scans at second granularity right away
+     */
+    static final long PRECISE_WINDOW_SECONDS = 3600;
+    /**
+     * Number of coarse timeslots an adaptive strategy refines around
+     */
+    static final int REFINED_CANDIDATES = 3;
+
+    private final Duration resolution;
+    private final double carbonTolerance;
+    private final ScoringKernel kernel;
+    // resolution is null if adaptive
+    private final boolean adaptive;
+    private volatile CarbonIntensityIndex index;
+
+    /**
+     * Default constructor, uses a resolution of 30 minutes to find timeslots
+     */
+    public PrefixSumStrategy() {
+        this(Duration.ofMinutes(30));
+    }
+
+    public PrefixSumStrategy(Duration resolution) {
+        this(resolution, 0);
+    }
+
+    /**
+     * @param resolution the resolution of generating timeslots
+     * @param carbonTolerance fraction by which the carbon intensity of a timeslot may exceed the best one for jobs to be
+     *        spread over it, {@code 0} places every job in the best timeslot
+     */
+    public PrefixSumStrategy(Duration resolution, double carbonTolerance) {
+        this(resolution, carbonTolerance, ScoringKernel.load());
+    }
+
+    /**
+     * @param resolution the resolution of generating timeslots
+     * @param carbonTolerance fraction by which the carbon intensity of a timeslot may exceed the best one for jobs to be
+     *        spread over it, {@code 0} places every job in the best timeslot
+     * @param kernel the kernel scoring the timeslots
+     */
+    public PrefixSumStrategy(Duration resolution, double carbonTolerance, ScoringKernel kernel) {
+        this(resolution, carbonTolerance, kernel, false);
+    }
+
+    private PrefixSumStrategy(Duration resolution, double carbonTolerance, ScoringKernel kernel, boolean adaptive) {
+        if (!adaptive && resolution.getSeconds() < 1) {
+            throw new IllegalArgumentException("Resolution must be at least 1 second");
+        }
+        if (!(carbonTolerance >= 0) || Double.isInfinite(carbonTolerance)) {
+            throw new IllegalArgumentException("Carbon tolerance must be a finite number of at least 0");
+        }
+        this.resolution = resolution;
+        this.carbonTolerance = carbonTolerance;
+        this.kernel = Objects.requireNonNull(kernel, "Kernel cannot be null");
+        this.adaptive = adaptive;
+    }
+
+    /**
+     * Creates a strategy that picks the resolution per window, see {@link PrefixSumStrategy}.
+     *
+     * @param carbonTolerance fraction by which the carbon intensity of a timeslot may exceed the best one for jobs to be
+     *        spread over it, {@code 0} places every job in the best timeslot
+     * @return the strategy
+     */
+    public static PrefixSumStrategy adaptive(double carbonTolerance) {
+        return adaptive(carbonTolerance, ScoringKernel.load());
+    }
+
+    /**
+     * @param carbonTolerance fraction by which the carbon intensity of a timeslot may exceed the best one for jobs to be
+     *        spread over it, {@code 0} places every job in the best timeslot
+     * @param kernel the kernel scoring the timeslots
+     * @return a strategy that picks the resolution per window
+     */
+    public static PrefixSumStrategy adaptive(double carbonTolerance, ScoringKernel kernel) {
+        return new PrefixSumStrategy(null, carbonTolerance, kernel, true);
+    }
+
+    @Override
+    public Timeslot bestTimeslot(ZonedDateTime ws, ZonedDateTime we, Duration duration, CarbonIntensity carbonIntensity) {
+        return bestTimeslot(ws, we, duration, carbonIntensity, null);
+    }
+
+    @Override
+    public Timeslot bestTimeslot(ZonedDateTime ws, ZonedDateTime we, Duration duration, CarbonIntensity carbonIntensity,
+            String identity) {
+        CarbonIntensityIndex current = indexOf(carbonIntensity.getForecast());
+        if (carbonTolerance > 0 && identity != null && !we.isBefore(ws)) {
+            return spreadTimeslot(current, ws, we, duration, identity);
+        }
+
+        if (we.isBefore(ws)) {
+            log.warn("No timeslots found!  {}", current.size());
+            return null;
+        }
+
+        long durationSeconds = duration.getSeconds();
+        long windowStart = ws.toEpochSecond();
+        long windowEnd = we.toEpochSecond();
+        long step = stepOf(current, windowEnd - windowStart);
+        long bestStart;
+        if (adaptive && step > 1) {
+            bestStart = refinedStart(current, windowStart, windowEnd, step, durationSeconds);
+        } else {
+            int count = Math.toIntExact((windowEnd - windowStart) / step + 1); // allow equal for 0 windows
+            bestStart = windowStart + current.bestOf(windowStart, step, durationSeconds, count, kernel) * step;
+        }
+        long bestValue = current.carbonIntensity(bestStart, bestStart + durationSeconds);
+        ZonedDateTime best = ws.plusSeconds(bestStart - windowStart);
+
+        Timeslot timeslot = new Timeslot(best, best.plus(duration), current.toCarbonIntensity(bestValue));
+        log.debug("Found best timeslot of {} job between {} - {} at {} (CI: {})", duration, ws, we, timeslot.start(),
+                timeslot.carbonIntensity());
+        return timeslot;
+    }
+
+    /**
+     * Finds the timeslots with the lowest carbon intensity that do not overlap, see {@link TimeslotRanking}. An adaptive
+     * strategy ranks the timeslots at the coarse resolution only, so its first timeslot can differ from
+     * {@link #bestTimeslot}.
+     */
+    @Override
+    public List<Timeslot> bestTimeslots(ZonedDateTime ws, ZonedDateTime we, Duration duration,
+            CarbonIntensity carbonIntensity, int count) {
+        if (count < 1) {
+            throw new IllegalArgumentException("Number of timeslots must be at least 1");
+        }
+        CarbonIntensityIndex current = indexOf(carbonIntensity.getForecast());
+        long durationSeconds = duration.getSeconds();
+        long windowStart = ws.toEpochSecond();
+        long windowEnd = we.toEpochSecond();
+        long step = stepOf(current, windowEnd - windowStart);
+        var ranking = new TimeslotRanking(durationSeconds, step, count, (windowEnd - windowStart) / step + 1);
+        for (long s = windowStart; s <= windowEnd; s += step) { // allow equal for 0 windows
+            ranking.offer(s, current.carbonIntensity(s, s + durationSeconds));
+        }
+        ranking.select();
+
+        List<Timeslot> timeslots = new ArrayList<>(ranking.size());
+        for (int i = 0; i < ranking.size(); i++) {
+            ZonedDateTime start = ws.plusSeconds(ranking.startAt(i) - windowStart);
+            timeslots.add(new Timeslot(start, start.plus(duration), current.toCarbonIntensity(ranking.valueAt(i))));
+        }
+        log.debug("Found {} timeslots of {} job between {} - {}", timeslots.size(), duration, ws, we);
+        return timeslots;
+    }
+
+    private Timeslot spreadTimeslot(CarbonIntensityIndex current, ZonedDateTime ws, ZonedDateTime we, Duration duration,
+            String identity) {
+        long durationSeconds = duration.getSeconds();
+        long windowStart = ws.toEpochSecond();
+        long step = stepOf(current, we.toEpochSecond() - windowStart);
+        int count = Math.toIntExact((we.toEpochSecond() - windowStart) / step + 1);
+        long bestStart = windowStart + current.bestOf(windowStart, step, durationSeconds, count, kernel) * step;
+        long bestValue = current.carbonIntensity(bestStart, bestStart + durationSeconds);
+
+        // timeslots are scored again rather than kept, so that planning allocates the same for any window
+        long threshold = bestValue + (long) (Math.abs(bestValue) * carbonTolerance);
+        int candidates = 0;
+        for (int i = 0; i < count; i++) {
+            long s = windowStart + i * step;
+            if (current.carbonIntensity(s, s + durationSeconds) <= threshold) {
+                candidates++;
+            }
+        }
+        int pick = Math.floorMod(spread(identity), candidates);
+        int i = 0;
+        long value;
+        for (;; i++) {
+            long s = windowStart + i * step;
+            value = current.carbonIntensity(s, s + durationSeconds);
+            if (value <= threshold && pick-- == 0) {
+                break;
+            }
+        }
+
+        ZonedDateTime start = ws.plusSeconds(i * step);
+        Timeslot timeslot = new Timeslot(start, start.plus(duration), current.toCarbonIntensity(value));
+        log.debug("Spread {} job {} between {} - {} at {} (CI: {}), {} timeslots are within {} of the best", duration,
+                identity, ws, we, timeslot.start(), timeslot.carbonIntensity(), candidates, carbonTolerance);
+        return timeslot;
+    }
+
+    /**
+     * @return seconds between the starts of consecutive timeslots, the coarse resolution if adaptive
+     */
+    private long stepOf(CarbonIntensityIndex current, long windowSeconds) {
+        if (!adaptive) {
+            return resolution.getSeconds();
+        }
+        if (windowSeconds <= PRECISE_WINDOW_SECONDS) {
+            return 1;
+        }
+        // scanning window / step coarse timeslots costs as much as refining 2 x step seconds around each candidate
+        long balanced = (long) Math.sqrt((double) windowSeconds / (2 * REFINED_CANDIDATES));
+        return Math.max(1, Math.min(balanced, current.periodSeconds()));
+    }
+
+    /**
+     * @return epoch second at which the best timeslot starts, found at second granularity around the best coarse
+     *         timeslots
+     */
+    private long refinedStart(CarbonIntensityIndex current, long windowStart, long windowEnd, long step, long duration) {
+        // neighbouring coarse timeslots are refined as one candidate
+        var candidates = new TimeslotRanking(2 * step, step, REFINED_CANDIDATES, (windowEnd - windowStart) / step + 1);
+        for (long s = windowStart; s <= windowEnd; s += step) {
+            candidates.offer(s, current.carbonIntensity(s, s + duration));
+        }
+        candidates.select();
+
+        long bestStart = windowStart;
+        long bestValue = Long.MAX_VALUE;
+        for (int i = 0; i < candidates.size(); i++) {
+            long from = Math.max(windowStart, candidates.startAt(i) - step + 1);
+            long to = Math.min(windowEnd, candidates.startAt(i) + step - 1);
+            long start = from + current.bestOf(from, 1, duration, Math.toIntExact(to - from + 1), kernel);
+            long value = current.carbonIntensity(start, start + duration);
+            if (value < bestValue || (value == bestValue && start < bestStart)) {
+                bestStart = start;
+                bestValue = value;
+            }
+        }
+        return bestStart;
+    }
+
+    /**
+     * @return a well distributed hash of the identity, {@link String#hashCode()} differs in the last bits only for
+     *         identities like {@code job-1} and {@code job-2}
+     */
+    static int spread(String identity) {
+        int h = identity.hashCode();
+        h ^= h >>> 16;
+        h *= 0x85ebca6b;
+        h ^= h >>> 13;
+        h *= 0xc2b2ae35;
+        return h ^ (h >>> 16);
+    }
+
+    private CarbonIntensityIndex indexOf(CarbonIntensityForecast forecast) {
+        CarbonIntensityIndex current = index;
+        if (current == null || !current.isOf(forecast)) {
+            current = new CarbonIntensityIndex(forecast);
+            index = current;
+        }
+        return current;
+    }
+}
@@ -0,0 +1,27 @@
+package io.carbonintensity.executionplanner.strategy;
+
+/**
+ * Scores timeslots one at a time, used when no other {@link ScoringKernel} is available.
+ */
+public final class ScalarScoringKernel implements ScoringKernel {
+
+    @Override
+    public int argmin(double[] values, int first, int last, int stride, double firstWeight, double lastWeight,
+            int count) {
+        int best = 0;
+        double bestScore = Double.POSITIVE_INFINITY;
+        for (int i = 0, f = first, l = last; i < count; i++, f += stride, l += stride) {
+            double score = firstWeight * values[f] + lastWeight * values[l];
+            if (score < bestScore) {
+                best = i;
+                bestScore = score;
+            }
+        }
+        return best;
+    }
+
+    @Override
+    public String toString() {
+        return "ScalarScoringKernel";
+    }
+}
@@ -0,0 +1,51 @@
+package io.carbonintensity.executionplanner.strategy;
+
+import java.util.ServiceConfigurationError;
+import java.util.ServiceLoader;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Scores a series of timeslots over the values of a forecast and finds the one with the lowest score.
+ * <p>
+ * A timeslot is scored by the period containing its start and the period containing its end, each a weighted value of
+ * the period, which is how {@link PrefixSumStrategy} scores timeslots. Consecutive timeslots start the same number of
+ * periods apart, so the score of timeslot {@code i} is
+ * {@code firstWeight * values[first + i * stride] + lastWeight * values[last + i * stride]}.
+ * </p>
+ * <p>
+ * {@link #load()} uses the kernel registered as a {@link ServiceLoader service}, such as the one of the
+ * {@code execution-planner-vector} module, and falls back to {@link ScalarScoringKernel}.
+ * </p>
+ */
+public interface ScoringKernel {
+
+    /**
+     * @param values values of the periods, the scores must be exact in {@code double}s
+     * @param first index of the period containing the start of the first timeslot
+     * @param last index of the period containing the end of the first timeslot
+     * @param stride number of periods between the starts of consecutive timeslots, at least 1
+     * @param firstWeight weight of the period containing the start of a timeslot
+     * @param lastWeight weight of the period containing the end of a timeslot
+     * @param count number of timeslots, at least 1
+     * @return index of the first timeslot with the lowest score
+     */
+    int argmin(double[] values, int first, int last, int stride, double firstWeight, double lastWeight, int count);
+
+    /**
+     * @return the registered kernel, or {@link ScalarScoringKernel} if there is none or it cannot run on this JVM
+     */
+    static ScoringKernel load() {
+        Logger log = LoggerFactory.getLogger(ScoringKernel.class);
+        try {
+            for (ScoringKernel kernel : ServiceLoader.load(ScoringKernel.class, ScoringKernel.class.getClassLoader())) {
+                log.debug("Scoring timeslots with {}", kernel);
+                return kernel;
+            }
+        } catch (ServiceConfigurationError | LinkageError e) {
+            log.warn("Unable to load scoring kernel, scoring timeslots without it: {}", e.toString());
+        }
+        return new ScalarScoringKernel();
+    }
+}
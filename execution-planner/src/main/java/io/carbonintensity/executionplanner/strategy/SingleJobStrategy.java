@@ -1,15 +1,13 @@
 package io.carbonintensity.executionplanner.strategy;
 
-import static io.carbonintensity.executionplanner.planner.Timeslot.getTimeslots;
-
 import java.time.Duration;
 import java.time.ZonedDateTime;
-import java.util.List;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import io.carbonintensity.executionplanner.planner.Timeslot;
+import io.carbonintensity.executionplanner.planner.TimeslotCursor;
 import io.carbonintensity.executionplanner.runtime.impl.CarbonIntensity;
 
 /**
@@ -36,21 +34,23 @@ public class SingleJobStrategy implements PlanningStrategy {
     @Override
     public Timeslot bestTimeslot(ZonedDateTime ws, ZonedDateTime we, Duration duration, CarbonIntensity carbonIntensity) {
 
-        // create timeslots and calculate carbon intensity
-        List<Timeslot> timeslots = getTimeslots(ws, we, duration, resolution, carbonIntensity);
-
-        if (timeslots.isEmpty()) {
+        // go through the timeslots and only create the best one
+        TimeslotCursor cursor = new TimeslotCursor(ws, we, duration, resolution, carbonIntensity);
+        if (!cursor.next()) {
             log.warn("No timeslots found!  {}", carbonIntensity.getData().size());
             return null;
         }
 
-        Timeslot best = null;
-        for (Timeslot t : timeslots) {
-            if (best == null || t.carbonIntensity().compareTo(best.carbonIntensity()) < 0) {
-                best = t;
+        long bestStart = cursor.start();
+        long bestCarbonIntensity = cursor.unscaledCarbonIntensity();
+        while (cursor.next()) {
+            if (cursor.unscaledCarbonIntensity() < bestCarbonIntensity) {
+                bestStart = cursor.start();
+                bestCarbonIntensity = cursor.unscaledCarbonIntensity();
             }
         }
 
+        Timeslot best = cursor.toTimeslot(bestStart, bestCarbonIntensity);
         log.debug("Found best timeslot of {} job between {} - {} at {} (CI: {})", duration, ws, we, best.start(),
                 best.carbonIntensity());
         return best;
@@ -0,0 +1,136 @@
+package io.carbonintensity.executionplanner.strategy;
+
+/**
+ * Picks the timeslots with the lowest fixed-point carbon intensity out of timeslots of equal duration whose starts are
+ * a whole number of steps apart, such that no two picked timeslots overlap.
+ * <p>
+ * Every offered timeslot is scored, the best ones are kept as candidates in a bounded heap with the worst one at the
+ * root. Once all timeslots are offered, the candidates are picked greedily from the lowest carbon intensity, skipping
+ * the ones that overlap a timeslot picked before. A picked timeslot overlaps at most {@code 2 x (duration - 1) / step
+ * + 1} candidates, so keeping that many candidates per requested timeslot picks the same timeslots as considering all
+ * of them. Of timeslots with equal carbon intensity the earliest wins, like in {@link PrefixSumStrategy#bestTimeslot}.
+ * </p>
+ */
+final class TimeslotRanking {
+
+    private final long duration;
+    private final int count;
+    private final long[] starts;
+    private final long[] values;
+    private int size;
+
+    /**
+     * @param duration seconds of each timeslot
+     * @param step seconds between the starts of the offered timeslots
+     * @param count maximum number of timeslots to pick
+     * @param timeslots number of timeslots that will be offered
+     */
+    TimeslotRanking(long duration, long step, int count, long timeslots) {
+        this.duration = duration;
+        this.count = count;
+        // candidates that overlap a timeslot, the timeslot itself included
+        long overlapping = 2 * (Math.max(0, duration - 1) / step) + 1;
+        long capacity = overlapping < timeslots ? Math.min(timeslots, count * overlapping) : timeslots;
+        this.starts = new long[(int) Math.max(0, capacity)];
+        this.values = new long[starts.length];
+    }
+
+    /**
+     * @param start epoch second at which the timeslot starts
+     * @param value the fixed-point carbon intensity of the timeslot
+     */
+    void offer(long start, long value) {
+        if (size < starts.length) {
+            set(size, start, value);
+            siftUp(size++);
+        } else if (size > 0 && isWorse(0, start, value)) {
+            set(0, start, value);
+            siftDown(0, size);
+        }
+    }
+
+    /**
+     * Picks the timeslots that do not overlap from the lowest carbon intensity, after which no timeslots can be offered
+     * anymore.
+     */
+    void select() {
+        for (int end = size - 1; end > 0; end--) {
+            swap(0, end);
+            siftDown(0, end);
+        }
+        int picked = 0;
+        for (int i = 0; i < size && picked < count; i++) {
+            if (!overlapsPicked(starts[i], picked)) {
+                set(picked++, starts[i], values[i]);
+            }
+        }
+        size = picked;
+    }
+
+    /**
+     * @return number of timeslots kept, picked once {@link #select()} is called
+     */
+    int size() {
+        return size;
+    }
+
+    long startAt(int rank) {
+        return starts[rank];
+    }
+
+    long valueAt(int rank) {
+        return values[rank];
+    }
+
+    private boolean overlapsPicked(long start, int picked) {
+        for (int i = 0; i < picked; i++) {
+            if (Math.abs(starts[i] - start) < duration) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private void set(int i, long start, long value) {
+        starts[i] = start;
+        values[i] = value;
+    }
+
+    private boolean isWorse(int i, long start, long value) {
+        return values[i] > value || (values[i] == value && starts[i] > start);
+    }
+
+    private void siftUp(int i) {
+        while (i > 0) {
+            int parent = (i - 1) / 2;
+            if (!isWorse(i, starts[parent], values[parent])) {
+                return;
+            }
+            swap(i, parent);
+            i = parent;
+        }
+    }
+
+    private void siftDown(int i, int end) {
+        while (true) {
+            int worst = i;
+            for (int child = 2 * i + 1; child <= 2 * i + 2 && child < end; child++) {
+                if (isWorse(child, starts[worst], values[worst])) {
+                    worst = child;
+                }
+            }
+            if (worst == i) {
+                return;
+            }
+            swap(i, worst);
+            i = worst;
+        }
+    }
+
+    private void swap(int i, int j) {
+        long start = starts[i];
+        long value = values[i];
+        set(i, starts[j], values[j]);
+        set(j, start, value);
+    }
+}
@@ -5,6 +5,8 @@ import static java.time.Duration.ofMinutes;
 import static java.time.Duration.ofSeconds;
 import static org.assertj.core.api.Assertions.assertThat;
 
+import java.math.BigDecimal;
+import java.time.Instant;
 import java.time.ZonedDateTime;
 import java.util.List;
 
@@ -72,4 +74,55 @@ class TestTimeslot {
         // should give exactly one slot
         assertThat(timeslots).hasSize(1);
     }
+
+    @Test
+    void testCarbonIntensityOfRegularPeriods() {
+        List<CarbonIntensityPeriod> periods = CarbonIntensityPeriod.of(carbonIntensity);
+        ZonedDateTime start = ZonedDateTime.parse("2024-08-27T13:00:00Z");
+
+        // a timeslot on period boundaries, weighting the first and the last period only
+        assertThat(Timeslot.calculateCarbonIntensity(periods, start, start.plusHours(3)))
+                .isEqualByComparingTo("85735.65");
+        assertThat(Timeslot.calculateCarbonIntensity(periods, start.minusDays(2), start.minusDays(1)))
+                .isEqualByComparingTo(BigDecimal.ZERO);
+    }
+
+    @Test
+    void testCarbonIntensityOfIrregularPeriods() {
+        Instant midnight = Instant.parse("2024-08-27T00:00:00Z");
+        // unsorted, with a gap and periods of different resolutions
+        List<CarbonIntensityPeriod> periods = List.of(
+                new CarbonIntensityPeriod(midnight.plus(ofHours(3)), ofMinutes(30), BigDecimal.valueOf(1800)),
+                new CarbonIntensityPeriod(midnight, ofHours(1), BigDecimal.valueOf(3600)),
+                new CarbonIntensityPeriod(midnight.plus(ofHours(1)), ofHours(1), BigDecimal.valueOf(7200)));
+        ZonedDateTime day = ZonedDateTime.parse("2024-08-27T00:00:00Z");
+
+        assertThat(Timeslot.calculateCarbonIntensity(periods, day.plusMinutes(30), day.plusMinutes(90)))
+                .isEqualByComparingTo("5400");
+        assertThat(Timeslot.calculateCarbonIntensity(periods, day.plusMinutes(150), day.plusMinutes(195)))
+                .isEqualByComparingTo("900");
+        assertThat(Timeslot.calculateCarbonIntensity(periods, day.plusHours(1), day.plusHours(3)))
+                .isEqualByComparingTo("7200");
+        assertThat(Timeslot.calculateCarbonIntensity(periods, day.plusHours(4), day.plusHours(5)))
+                .isEqualByComparingTo(BigDecimal.ZERO);
+    }
+
+    @Test
+    void testCursorMatchesCalculatedCarbonIntensity() {
+        List<CarbonIntensityPeriod> periods = CarbonIntensityPeriod.of(carbonIntensity);
+        ZonedDateTime ws = ZonedDateTime.parse("2024-08-26T23:00:00Z");
+        ZonedDateTime we = ZonedDateTime.parse("2024-08-28T01:00:00Z");
+
+        for (var duration : List.of(ofSeconds(0), ofSeconds(45), ofMinutes(60), ofMinutes(150))) {
+            TimeslotCursor cursor = new TimeslotCursor(ws, we, duration, ofMinutes(7), carbonIntensity);
+            int timeslots = 0;
+            while (cursor.next()) {
+                Timeslot timeslot = cursor.toTimeslot(cursor.start(), cursor.unscaledCarbonIntensity());
+                assertThat(timeslot.carbonIntensity())
+                        .isEqualByComparingTo(Timeslot.calculateCarbonIntensity(periods, timeslot.start(), timeslot.end()));
+                timeslots++;
+            }
+            assertThat(timeslots).isEqualTo(26 * 60 / 7 + 1);
+        }
+    }
 }
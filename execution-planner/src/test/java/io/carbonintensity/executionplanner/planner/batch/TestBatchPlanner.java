@@ -0,0 +1,107 @@
+package io.carbonintensity.executionplanner.planner.batch;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.Duration;
+import java.time.ZonedDateTime;
+import java.util.HashMap;
+import java.util.Map;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import io.carbonintensity.executionplanner.planner.fixedwindow.FixedWindowPlanningConstraints;
+import io.carbonintensity.executionplanner.planner.successive.DefaultSuccessivePlanningConstraints;
+import io.carbonintensity.executionplanner.planner.successive.SuccessivePlanningConstraints;
+import io.carbonintensity.executionplanner.runtime.impl.CarbonIntensity;
+import io.carbonintensity.executionplanner.runtime.impl.CarbonIntensityDataFetcher;
+import io.carbonintensity.executionplanner.runtime.impl.rest.CarbonIntensityJsonParser;
+import io.carbonintensity.executionplanner.spi.CarbonIntensityPlanner;
+
+class TestBatchPlanner {
+
+    private static final ZonedDateTime START = ZonedDateTime.parse("2024-08-27T08:00:00Z");
+
+    CarbonIntensityDataFetcher dataFetcher;
+    CarbonIntensity carbonIntensity;
+
+    @BeforeEach
+    void setUp() {
+        carbonIntensity = new CarbonIntensityJsonParser()
+                .parse(ClassLoader.getSystemResourceAsStream("day-ahead-20240824-Z.json"));
+        dataFetcher = mock(CarbonIntensityDataFetcher.class);
+        when(dataFetcher.getDataVersion(any())).thenReturn(1L);
+        when(dataFetcher.fetchCarbonIntensity(any())).thenReturn(carbonIntensity);
+    }
+
+    @Test
+    void givenManyJobs_whenPlanning_thenPlanOncePerDataVersionWithinCapacity() {
+        var planner = new BatchPlanner(dataFetcher, 2);
+        CarbonIntensityPlanner<SuccessivePlanningConstraints> successivePlanner = planner
+                .asPlannerOf(SuccessivePlanningConstraints.class);
+
+        Map<ZonedDateTime, Integer> jobsPerStart = new HashMap<>();
+        for (int i = 0; i < 6; i++) {
+            ZonedDateTime executionTime = successivePlanner.getNextExecutionTime(constraints("job-" + i));
+            assertThat(executionTime).isBetween(START, START.plusHours(6));
+            jobsPerStart.merge(executionTime, 1, Integer::sum);
+        }
+        // the same job is not planned again
+        ZonedDateTime first = successivePlanner.getNextExecutionTime(constraints("job-0"));
+
+        assertThat(jobsPerStart.values()).allMatch(jobs -> jobs <= 2);
+        assertThat(jobsPerStart).containsKey(first);
+        verify(dataFetcher, times(1)).fetchCarbonIntensity(any());
+    }
+
+    @Test
+    void givenNewDataVersion_whenPlanning_thenPlanAllJobsAgain() {
+        var planner = new BatchPlanner(dataFetcher, 1);
+        planner.getNextExecutionTime(constraints("job-0"));
+        planner.getNextExecutionTime(constraints("job-1"));
+
+        when(dataFetcher.getDataVersion(any())).thenReturn(2L);
+        planner.getNextExecutionTime(constraints("job-0"));
+        planner.getNextExecutionTime(constraints("job-1"));
+
+        verify(dataFetcher, times(2)).fetchCarbonIntensity(any());
+    }
+
+    @Test
+    void givenUnregisteredJob_whenPlanning_thenFreeItsTimeslot() {
+        var planner = new BatchPlanner(dataFetcher, 1);
+        ZonedDateTime executionTime = planner.getNextExecutionTime(constraints("job-0"));
+
+        assertThat(planner.unregister("job-0")).isTrue();
+        assertThat(planner.unregister("job-0")).isFalse();
+
+        assertThat(planner.getNextExecutionTime(constraints("job-1"))).isEqualTo(executionTime);
+    }
+
+    @Test
+    void givenConstraints_whenCheckingSchedule_thenRequireIdentity() {
+        var planner = new BatchPlanner(dataFetcher, 1);
+
+        assertThat(planner.canSchedule(constraints("job"))).isTrue();
+        assertThat(planner.canSchedule(constraints(null))).isFalse();
+        assertThat(planner.canSchedule(null)).isFalse();
+        assertThat(planner.asPlannerOf(FixedWindowPlanningConstraints.class).canSchedule(null)).isFalse();
+    }
+
+    private static SuccessivePlanningConstraints constraints(String identity) {
+        return DefaultSuccessivePlanningConstraints.builder()
+                .withIdentity(identity)
+                .withInitialStartTime(START)
+                .withInitialMaximumDelay(Duration.ofHours(6))
+                .withMinimumGap(Duration.ofHours(1))
+                .withMaximumGap(Duration.ofHours(2))
+                .withDuration(Duration.ofMinutes(30))
+                .withZone("NL")
+                .build();
+    }
+}
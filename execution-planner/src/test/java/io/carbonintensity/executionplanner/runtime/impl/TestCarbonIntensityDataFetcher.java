@@ -1,18 +1,33 @@
 package io.carbonintensity.executionplanner.runtime.impl;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import java.math.BigDecimal;
+import java.nio.file.Path;
+import java.time.Clock;
 import java.time.Duration;
 import java.time.ZonedDateTime;
+import java.util.List;
+import java.util.Optional;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
@@ -67,4 +82,192 @@ class TestCarbonIntensityDataFetcher {
         verify(fallbackApi).getCarbonIntensity(zonedPeriod);
     }
 
+    @Test
+    void givenSlowRestApi_whenFetchingAsync_thenDoNotWait() {
+        var response = new CompletableFuture<CarbonIntensity>();
+        when(restApi.getCarbonIntensity(zonedPeriod)).thenReturn(response);
+        when(fallbackApi.getCarbonIntensity(zonedPeriod)).thenReturn(CompletableFuture.completedFuture(carbonIntensity));
+
+        var result = dataFetcher.fetchCarbonIntensityAsync(zonedPeriod);
+        assertThat(result).isNotDone();
+
+        response.completeExceptionally(new CarbonIntensityApiException("Failure intentionally."));
+        assertThat(result).isCompletedWithValue(carbonIntensity);
+        assertThat(dataFetcher.fetchCarbonIntensityAsync(zonedPeriod)).isCompletedWithValue(carbonIntensity);
+    }
+
+    @Test
+    void givenPendingRequest_whenFetchingConcurrently_thenCoalesceRequests() throws Exception {
+        var response = new CompletableFuture<CarbonIntensity>();
+        when(restApi.getCarbonIntensity(zonedPeriod)).thenReturn(response);
+        var fetcher = (CarbonIntensityDataFetcherImpl) dataFetcher;
+        ExecutorService executor = Executors.newFixedThreadPool(5);
+        try {
+            List<Future<CarbonIntensity>> results = IntStream.range(0, 5)
+                    .mapToObj(i -> executor.submit(() -> fetcher.fetchCarbonIntensity(zonedPeriod)))
+                    .collect(Collectors.toList());
+            await().until(() -> fetcher.getCoalescedRequestCount() == 4);
+            response.complete(carbonIntensity);
+
+            for (Future<CarbonIntensity> result : results) {
+                assertThat(result.get()).isSameAs(carbonIntensity);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+        assertThat(fetcher.getRequestCount()).isEqualTo(1);
+        verify(restApi).getCarbonIntensity(zonedPeriod);
+    }
+
+    @Test
+    void givenNoForecast_whenFetchingWithStaleAllowed_thenWaitForRestApi() {
+        var response = new CompletableFuture<CarbonIntensity>();
+        when(restApi.getCarbonIntensity(zonedPeriod)).thenReturn(response);
+        var fetcher = refreshingFetcher(fixedClock(startTime));
+
+        var pending = fetcher.fetchCarbonIntensityAsync(zonedPeriod);
+        assertThat(pending).isNotDone();
+        long dataVersion = fetcher.getDataVersion(zonedPeriod.getZone());
+        response.complete(carbonIntensity);
+
+        assertThat(pending).isCompletedWithValue(carbonIntensity);
+        assertThat(fetcher.getDataVersion(zonedPeriod.getZone())).isGreaterThan(dataVersion);
+        assertThat(fetcher.fetchCarbonIntensity(zonedPeriod)).isSameAs(carbonIntensity);
+        verify(restApi).getCarbonIntensity(zonedPeriod);
+        verify(fallbackApi, never()).getCarbonIntensity(any());
+    }
+
+    @Test
+    void givenNoForecastAndFailingRestApi_whenFetchingWithStaleAllowed_thenUseFallback() {
+        when(restApi.getCarbonIntensity(zonedPeriod))
+                .thenReturn(CompletableFuture.failedFuture(new CarbonIntensityApiException("Failure intentionally.")));
+        when(fallbackApi.getCarbonIntensity(zonedPeriod)).thenReturn(CompletableFuture.completedFuture(carbonIntensity));
+        var fetcher = refreshingFetcher(fixedClock(startTime));
+
+        assertThat(fetcher.fetchCarbonIntensity(zonedPeriod)).isSameAs(carbonIntensity);
+        verify(fallbackApi).getCarbonIntensity(zonedPeriod);
+    }
+
+    @Test
+    void givenRecentForecast_whenFetchingUncachedPeriod_thenServeForecastWhileFetching() {
+        when(restApi.getCarbonIntensity(zonedPeriod)).thenReturn(CompletableFuture.completedFuture(carbonIntensity));
+        var nextPeriod = new ZonedCarbonIntensityPeriod.Builder()
+                .withStartTime(startTime.plusHours(1))
+                .withEndTime(endTime)
+                .withZone("nl")
+                .build();
+        when(restApi.getCarbonIntensity(nextPeriod)).thenReturn(new CompletableFuture<>());
+        var clock = fixedClock(startTime);
+        var fetcher = refreshingFetcher(clock);
+        fetcher.fetchCarbonIntensity(zonedPeriod);
+
+        when(clock.instant()).thenReturn(startTime.plusHours(1).toInstant());
+        assertThat(fetcher.fetchCarbonIntensity(nextPeriod)).isSameAs(carbonIntensity);
+        verify(restApi).getCarbonIntensity(nextPeriod);
+
+        // too old to serve, wait for the pending request
+        when(clock.instant()).thenReturn(startTime.plusHours(7).toInstant());
+        assertThat(fetcher.fetchCarbonIntensityAsync(nextPeriod)).isNotDone();
+    }
+
+    @Test
+    void givenRecentForecastEndingWithinPeriod_whenFetchingUncachedPeriod_thenWaitForRestApi() {
+        when(restApi.getCarbonIntensity(zonedPeriod)).thenReturn(CompletableFuture.completedFuture(carbonIntensity));
+        var laterPeriod = new ZonedCarbonIntensityPeriod.Builder()
+                .withStartTime(startTime.plusHours(1))
+                .withEndTime(endTime.plusHours(1))
+                .withZone("nl")
+                .build();
+        when(restApi.getCarbonIntensity(laterPeriod)).thenReturn(new CompletableFuture<>());
+        var fetcher = refreshingFetcher(fixedClock(startTime));
+        fetcher.fetchCarbonIntensity(zonedPeriod);
+
+        assertThat(fetcher.fetchCarbonIntensityAsync(laterPeriod)).isNotDone();
+        verify(restApi).getCarbonIntensity(laterPeriod);
+    }
+
+    @Test
+    void givenForecastEndingWithinRefreshWindow_whenFetching_thenFetchNextPeriodInBackground() {
+        when(restApi.getCarbonIntensity(zonedPeriod)).thenReturn(CompletableFuture.completedFuture(carbonIntensity));
+        var nextForecast = new CarbonIntensity();
+        nextForecast.setStart(endTime.toInstant());
+        nextForecast.setZone(zonedPeriod.getZone());
+        nextForecast.setResolution(Duration.ofHours(1));
+        nextForecast.setEnd(endTime.plusDays(1).toInstant());
+        nextForecast.getData().add(BigDecimal.valueOf(2));
+        when(restApi.getCarbonIntensity(argThat(period -> period.getStartTime().isEqual(endTime))))
+                .thenReturn(CompletableFuture.completedFuture(nextForecast));
+        var clock = fixedClock(startTime);
+        var fetcher = refreshingFetcher(clock);
+        fetcher.fetchCarbonIntensity(zonedPeriod);
+
+        assertThat(fetcher.fetchCarbonIntensity(zonedPeriod)).isSameAs(carbonIntensity);
+        assertThat(fetcher.getRequestCount()).isEqualTo(1);
+
+        when(clock.instant()).thenReturn(endTime.minusMinutes(30).toInstant());
+        assertThat(fetcher.fetchCarbonIntensity(zonedPeriod)).isSameAs(carbonIntensity);
+        assertThat(fetcher.fetchCarbonIntensity(zonedPeriod)).isSameAs(carbonIntensity);
+        verify(restApi, times(1)).getCarbonIntensity(zonedPeriod);
+        assertThat(fetcher.getRequestCount()).isEqualTo(2);
+
+        // the next period is cached once the first forecast has ended
+        when(clock.instant()).thenReturn(endTime.plusMinutes(10).toInstant());
+        var nextPeriod = new ZonedCarbonIntensityPeriod.Builder()
+                .withStartTime(endTime)
+                .withEndTime(endTime.plusDays(1))
+                .withZone("nl")
+                .build();
+        assertThat(fetcher.fetchCarbonIntensity(nextPeriod)).isSameAs(nextForecast);
+        assertThat(fetcher.getRequestCount()).isEqualTo(2);
+    }
+
+    @Test
+    void givenPersistedForecast_whenFetchingAfterRestart_thenDoNotCallRestApi(@TempDir Path directory) {
+        when(restApi.getCarbonIntensity(zonedPeriod)).thenReturn(CompletableFuture.completedFuture(carbonIntensity));
+        var clock = fixedClock(startTime);
+        new CarbonIntensityDataFetcherImpl(restApi, fallbackApi, clock, Duration.ZERO, Duration.ZERO,
+                new CarbonIntensityDiskCache(directory)).fetchCarbonIntensity(zonedPeriod);
+
+        var restarted = new CarbonIntensityDataFetcherImpl(restApi, fallbackApi, clock, Duration.ZERO, Duration.ZERO,
+                new CarbonIntensityDiskCache(directory));
+        var later = new ZonedCarbonIntensityPeriod.Builder()
+                .withStartTime(startTime.plusHours(2))
+                .withEndTime(endTime)
+                .withZone("nl")
+                .build();
+
+        assertThat(restarted.fetchCarbonIntensity(later).getData())
+                .usingElementComparator(BigDecimal::compareTo)
+                .containsExactlyElementsOf(carbonIntensity.getData());
+        assertThat(restarted.getRequestCount()).isZero();
+        assertThat(restarted.getDataVersion("nl")).isEqualTo(1);
+        verify(restApi, times(1)).getCarbonIntensity(any());
+    }
+
+    @Test
+    void givenNoPersistedForecast_whenFetchingAgain_thenDoNotReadDiskAgain() {
+        // the forecast starts an hour earlier, so the requested period is not cached in memory
+        carbonIntensity.setStart(startTime.minusHours(1).toInstant());
+        when(restApi.getCarbonIntensity(zonedPeriod)).thenReturn(CompletableFuture.completedFuture(carbonIntensity));
+        var diskCache = mock(CarbonIntensityDiskCache.class);
+        when(diskCache.load(any(), any(), any())).thenReturn(Optional.empty());
+        var fetcher = new CarbonIntensityDataFetcherImpl(restApi, fallbackApi, fixedClock(startTime), Duration.ZERO,
+                Duration.ZERO, diskCache);
+
+        fetcher.fetchCarbonIntensity(zonedPeriod);
+        fetcher.fetchCarbonIntensity(zonedPeriod);
+
+        assertThat(fetcher.getRequestCount()).isEqualTo(2);
+        verify(diskCache, times(1)).load(any(), any(), any());
+    }
+
+    private CarbonIntensityDataFetcherImpl refreshingFetcher(Clock clock) {
+        return new CarbonIntensityDataFetcherImpl(restApi, fallbackApi, clock, Duration.ofHours(1), Duration.ofHours(6));
+    }
+
+    private static Clock fixedClock(ZonedDateTime time) {
+        var clock = mock(Clock.class);
+        when(clock.instant()).thenReturn(time.toInstant());
+        return clock;
+    }
 }
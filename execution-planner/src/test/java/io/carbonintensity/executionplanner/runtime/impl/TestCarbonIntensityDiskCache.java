@@ -0,0 +1,100 @@
+package io.carbonintensity.executionplanner.runtime.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class TestCarbonIntensityDiskCache {
+
+    @TempDir
+    Path directory;
+
+    CarbonIntensityDiskCache diskCache;
+    Instant start = Instant.parse("2024-08-24T20:00:00Z");
+
+    @BeforeEach
+    void setUp() {
+        diskCache = new CarbonIntensityDiskCache(directory);
+    }
+
+    @Test
+    void givenStoredForecast_whenLoading_thenReturnForecastCoveringPeriod() {
+        diskCache.store(carbonIntensity(start));
+
+        var loaded = diskCache.load("NL", start.plus(Duration.ofHours(5)), start.plus(Duration.ofDays(1)));
+
+        assertThat(loaded).isPresent();
+        assertThat(loaded.get().getStart()).isEqualTo(start);
+        assertThat(loaded.get().getEnd()).isEqualTo(start.plus(Duration.ofDays(1)));
+        assertThat(loaded.get().getZone()).isEqualTo("nl");
+        assertThat(loaded.get().getData()).usingElementComparator(BigDecimal::compareTo)
+                .containsExactly(new BigDecimal("100.5"), new BigDecimal("99.25"));
+        assertThat(directory.resolve("nl").resolve("2024-08-24.json")).exists();
+    }
+
+    @Test
+    void givenStoredForecast_whenLoadingOutsideForecast_thenReturnEmpty() {
+        diskCache.store(carbonIntensity(start));
+
+        assertThat(diskCache.load("nl", start.minusSeconds(1), start.plus(Duration.ofHours(1)))).isEmpty();
+        assertThat(diskCache.load("nl", start.plus(Duration.ofDays(1)), start.plus(Duration.ofDays(2)))).isEmpty();
+        assertThat(diskCache.load("de", start, start.plus(Duration.ofHours(1)))).isEmpty();
+    }
+
+    @Test
+    void givenStoredForecast_whenLoadingPeriodEndingAfterForecast_thenReturnEmpty() {
+        diskCache.store(carbonIntensity(start));
+
+        assertThat(diskCache.load("nl", start.plus(Duration.ofHours(5)), start.plus(Duration.ofHours(25)))).isEmpty();
+    }
+
+    @Test
+    void givenZonesSharingFile_whenLoading_thenReturnForecastOfRequestedZoneOnly() {
+        var carbonIntensity = carbonIntensity(start);
+        carbonIntensity.setZone("nl.1");
+        diskCache.store(carbonIntensity);
+
+        assertThat(directory.resolve("nl_1").resolve("2024-08-24.json")).exists();
+        assertThat(diskCache.load("nl_1", start, start.plus(Duration.ofHours(1)))).isEmpty();
+        assertThat(diskCache.load("NL.1", start, start.plus(Duration.ofHours(1)))).isPresent();
+    }
+
+    @Test
+    void givenCorruptFile_whenLoading_thenReturnEmpty() throws IOException {
+        Files.createDirectories(directory.resolve("nl"));
+        Files.writeString(directory.resolve("nl").resolve("2024-08-24.json"), "{ corrupt");
+
+        assertThat(diskCache.load("nl", start, start.plus(Duration.ofHours(1)))).isEmpty();
+    }
+
+    @Test
+    void givenOldForecasts_whenStoring_thenRemoveOldFiles() {
+        diskCache.store(carbonIntensity(start.minus(Duration.ofDays(3))));
+        diskCache.store(carbonIntensity(start.minus(Duration.ofDays(1))));
+        diskCache.store(carbonIntensity(start));
+
+        assertThat(directory.resolve("nl").resolve("2024-08-21.json")).doesNotExist();
+        assertThat(directory.resolve("nl").resolve("2024-08-23.json")).exists();
+        assertThat(directory.resolve("nl").resolve("2024-08-24.json")).exists();
+    }
+
+    private static CarbonIntensity carbonIntensity(Instant start) {
+        var carbonIntensity = new CarbonIntensity();
+        carbonIntensity.setStart(start);
+        carbonIntensity.setEnd(start.plus(Duration.ofDays(1)));
+        carbonIntensity.setResolution(Duration.ofHours(12));
+        carbonIntensity.setZone("nl");
+        carbonIntensity.setData(List.of(new BigDecimal("100.5"), new BigDecimal("99.25")));
+        return carbonIntensity;
+    }
+}
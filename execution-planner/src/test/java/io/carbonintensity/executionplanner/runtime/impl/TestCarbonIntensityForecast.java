@@ -0,0 +1,93 @@
+package io.carbonintensity.executionplanner.runtime.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+class TestCarbonIntensityForecast {
+
+    final Instant start = Instant.parse("2024-08-24T00:00:00Z");
+    final List<BigDecimal> data = List.of(new BigDecimal("100.5"), new BigDecimal("99.25"), new BigDecimal("101"));
+
+    @Test
+    void givenData_whenConverting_thenValuesShareLargestScale() {
+        var forecast = CarbonIntensityForecast.of(start, Duration.ofHours(1), data);
+
+        assertThat(forecast.size()).isEqualTo(3);
+        assertThat(forecast.getScale()).isEqualTo(2);
+        assertThat(forecast.unscaledValue(0)).isEqualTo(10050L);
+        assertThat(forecast.value(1)).isEqualTo(99.25);
+        assertThat(forecast.asList()).usingElementComparator(BigDecimal::compareTo).containsExactlyElementsOf(data);
+    }
+
+    @Test
+    void givenTooManyDecimals_whenConverting_thenRoundHalfEven() {
+        var forecast = CarbonIntensityForecast.of(start, Duration.ofHours(1),
+                List.of(new BigDecimal("1.00000025"), new BigDecimal("1.00000035")));
+
+        assertThat(forecast.getScale()).isEqualTo(CarbonIntensityForecast.MAX_SCALE);
+        assertThat(forecast.asList()).containsExactly(new BigDecimal("1.000000"), new BigDecimal("1.000000"));
+    }
+
+    @Test
+    void givenForecast_whenIndexing_thenReturnPeriodContainingMoment() {
+        var forecast = CarbonIntensityForecast.of(start, Duration.ofHours(1), data);
+        long epochSecond = start.getEpochSecond();
+
+        assertThat(forecast.getEndEpochSecond()).isEqualTo(epochSecond + 3 * 3600);
+        assertThat(forecast.startOf(2)).isEqualTo(epochSecond + 2 * 3600);
+        assertThat(forecast.indexOf(epochSecond - 1)).isEqualTo(-1);
+        assertThat(forecast.indexOf(epochSecond)).isZero();
+        assertThat(forecast.indexOf(epochSecond + 3599)).isZero();
+        assertThat(forecast.indexOf(epochSecond + 3600)).isEqualTo(1);
+        assertThat(forecast.indexOf(forecast.getEndEpochSecond())).isEqualTo(-1);
+    }
+
+    @Test
+    void givenListOfForecast_whenSetAsData_thenForecastIsNotConverted() {
+        var forecast = CarbonIntensityForecast.of(start, Duration.ofHours(1), data);
+        var carbonIntensity = new CarbonIntensity();
+        carbonIntensity.setStart(start);
+        carbonIntensity.setResolution(Duration.ofHours(1));
+        carbonIntensity.setData(forecast.asList());
+
+        assertThat(carbonIntensity.getForecast()).isSameAs(forecast);
+
+        carbonIntensity.setStart(start.plusSeconds(3600));
+        var moved = carbonIntensity.getForecast();
+        assertThat(moved.getStartEpochSecond()).isEqualTo(start.getEpochSecond() + 3600);
+        assertThat(moved.asList()).isEqualTo(forecast.asList());
+        assertThat(carbonIntensity.getForecast()).isSameAs(moved);
+    }
+
+    @Test
+    void givenForecast_whenModifyingDataInPlace_thenConvertAgain() {
+        var forecast = CarbonIntensityForecast.of(start, Duration.ofHours(1), data);
+        var carbonIntensity = new CarbonIntensity();
+        carbonIntensity.setStart(start);
+        carbonIntensity.setResolution(Duration.ofHours(1));
+        carbonIntensity.setData(forecast.asList());
+        carbonIntensity.getForecast();
+
+        carbonIntensity.getData().set(0, BigDecimal.TEN);
+
+        assertThat(carbonIntensity.getForecast().decimalValue(0)).isEqualByComparingTo(BigDecimal.TEN);
+        assertThat(carbonIntensity.getForecast().size()).isEqualTo(data.size());
+        assertThat(forecast.decimalValue(0)).isEqualByComparingTo(data.get(0));
+    }
+
+    @Test
+    void givenInvalidResolution_whenCreating_thenThrow() {
+        long[] values = { 1L };
+        assertThatThrownBy(() -> new CarbonIntensityForecast(0L, 0L, values, 0))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> new CarbonIntensityForecast(0L, 60L, values, CarbonIntensityForecast.MAX_SCALE + 1))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
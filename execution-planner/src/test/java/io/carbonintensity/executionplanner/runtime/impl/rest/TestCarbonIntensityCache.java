@@ -2,9 +2,14 @@ package io.carbonintensity.executionplanner.runtime.impl.rest;
 
 import static org.assertj.core.api.AssertionsForClassTypes.assertThat;
 import static org.awaitility.Awaitility.waitAtMost;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
 
+import java.math.BigDecimal;
+import java.time.Clock;
 import java.time.Duration;
 import java.time.Instant;
+import java.time.ZoneOffset;
 import java.util.concurrent.TimeUnit;
 
 import org.junit.jupiter.api.BeforeEach;
@@ -54,4 +59,66 @@ class TestCarbonIntensityCache {
         assertThat(cache.get(key)).isNotPresent();
     }
 
+    @Test
+    void whenPuttingValue_thenIncrementVersionOfZone() {
+        var key = new CarbonIntensityCache.Key(startTime, zone);
+        long version = cache.getVersion(zone);
+        cache.get(key);
+        assertThat(cache.getVersion(zone)).isEqualTo(version);
+        cache.put(key, carbonIntensity);
+        assertThat(cache.getVersion(zone)).isGreaterThan(version);
+        assertThat(cache.getVersion(" " + zone.toUpperCase())).isEqualTo(cache.getVersion(zone));
+    }
+
+    @Test
+    void whenPuttingValueOfOtherZone_thenKeepVersion() {
+        cache.put(new CarbonIntensityCache.Key(startTime, zone), carbonIntensity);
+        long version = cache.getVersion(zone);
+        cache.put(new CarbonIntensityCache.Key(startTime, "other-" + zone), carbonIntensity);
+        assertThat(cache.getVersion(zone)).isEqualTo(version);
+    }
+
+    @Test
+    void givenCachedValue_whenPuttingEqualValue_thenKeepVersion() {
+        cache = new CarbonIntensityCache(Duration.ofHours(1), Clock.fixed(startTime, ZoneOffset.UTC));
+        var key = new CarbonIntensityCache.Key(startTime, zone);
+        cache.put(key, forecast(startTime.plus(Duration.ofHours(2))));
+        long version = cache.getVersion(zone);
+        cache.put(key, forecast(startTime.plus(Duration.ofHours(2))));
+        assertThat(cache.getVersion(zone)).isEqualTo(version);
+
+        var changed = forecast(startTime.plus(Duration.ofHours(2)));
+        changed.getData().set(0, BigDecimal.TEN);
+        cache.put(key, changed);
+        assertThat(cache.getVersion(zone)).isGreaterThan(version);
+        version = cache.getVersion(zone);
+        cache.put(key, forecast(startTime.plus(Duration.ofDays(1))));
+        assertThat(cache.getVersion(zone)).isGreaterThan(version);
+    }
+
+    @Test
+    void givenRefreshedValue_whenOriginalForecastEnded_thenReturnRefreshedValue() {
+        var clock = mock(Clock.class);
+        when(clock.instant()).thenReturn(startTime);
+        cache = new CarbonIntensityCache(Duration.ofHours(1), clock);
+        var key = new CarbonIntensityCache.Key(startTime, zone);
+        cache.put(key, forecast(startTime.plus(Duration.ofHours(2))));
+        var refreshed = forecast(startTime.plus(Duration.ofDays(1)));
+        cache.put(key, refreshed);
+
+        when(clock.instant()).thenReturn(startTime.plus(Duration.ofHours(3)));
+        assertThat(cache.get(key)).isPresent().hasValue(refreshed);
+        when(clock.instant()).thenReturn(startTime.plus(Duration.ofDays(2)));
+        assertThat(cache.get(key)).isNotPresent();
+    }
+
+    private CarbonIntensity forecast(Instant end) {
+        var forecast = new CarbonIntensity();
+        forecast.setStart(startTime);
+        forecast.setZone(zone);
+        forecast.setResolution(Duration.ofHours(1));
+        forecast.setEnd(end);
+        forecast.getData().add(BigDecimal.ONE);
+        return forecast;
+    }
 }
@@ -1,6 +1,7 @@
 package io.carbonintensity.executionplanner.runtime.impl.rest;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 import java.io.ByteArrayInputStream;
 import java.math.BigDecimal;
@@ -8,6 +9,8 @@ import java.nio.charset.StandardCharsets;
 import java.time.Duration;
 import java.time.Instant;
 
+import jakarta.json.JsonException;
+
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
@@ -46,4 +49,34 @@ class TestCarbonIntensityJsonParser {
                 "{\"start\":\"2024-09-20T08:00:00Z\",\"end\":\"2024-09-21T08:00:00Z\",\"resolution\":\"PT1H\",\"zone\":\"NL\",\"data\":[1000]}");
     }
 
+    @Test
+    void givenDecimalData_whenParsing_thenUseLargestScaleOfAllValues() {
+        var parsedData = parse(
+                "{\"data\":[100,99.5,98.25,97.1234567],\"zone\":\"NL\",\"resolution\":\"PT1H\",\"start\":\"2024-09-20T08:00:00Z\"}");
+
+        assertThat(parsedData.getStart()).isEqualTo(Instant.parse("2024-09-20T08:00:00Z"));
+        assertThat(parsedData.getResolution()).isEqualTo(Duration.ofHours(1));
+        assertThat(parsedData.getZone()).isEqualTo("NL");
+        assertThat(parsedData.getData()).containsExactly(new BigDecimal("100.000000"), new BigDecimal("99.500000"),
+                new BigDecimal("98.250000"), new BigDecimal("97.123457"));
+    }
+
+    @Test
+    void givenUnknownFields_whenParsing_thenSkipThem() {
+        var parsedData = parse(
+                "{\"source\":{\"name\":\"test\",\"data\":[1]},\"tags\":[[1],{}],\"zone\":\"NL\",\"resolution\":\"PT1H\",\"data\":[1,2]}");
+
+        assertThat(parsedData.getZone()).isEqualTo("NL");
+        assertThat(parsedData.getData()).containsExactly(BigDecimal.ONE, BigDecimal.valueOf(2));
+    }
+
+    @Test
+    void givenNonNumericData_whenParsing_thenThrowException() {
+        assertThatThrownBy(() -> parse("{\"data\":[1,\"2\"]}")).isInstanceOf(JsonException.class);
+    }
+
+    private CarbonIntensity parse(String json) {
+        return parser.parse(new ByteArrayInputStream(json.getBytes(StandardCharsets.UTF_8)));
+    }
+
 }
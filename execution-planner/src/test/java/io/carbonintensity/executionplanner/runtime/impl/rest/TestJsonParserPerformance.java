@@ -0,0 +1,135 @@
+package io.carbonintensity.executionplanner.runtime.impl.rest;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStreamReader;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import jakarta.json.Json;
+import jakarta.json.JsonNumber;
+import jakarta.json.JsonObject;
+import jakarta.json.JsonValue;
+import jakarta.json.stream.JsonParser;
+
+import org.junit.jupiter.api.Disabled;
+import org.junit.jupiter.api.Test;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.results.RunResult;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import io.carbonintensity.executionplanner.runtime.impl.CarbonIntensity;
+import io.carbonintensity.executionplanner.runtime.impl.CarbonIntensityForecast;
+
+/**
+ * Compares the streaming {@link CarbonIntensityJsonParser} with parsing through a JSON object tree, for forecasts of
+ * one and seven days at a resolution of one minute. Run with the GC profiler to compare the allocation rate per
+ * operation ({@code gc.alloc.rate.norm}) as well as the throughput.
+ */
+@State(Scope.Benchmark)
+public class TestJsonParserPerformance { //NOSONAR should be public for @state
+
+    private static final String ALLOCATION = "gc.alloc.rate.norm";
+
+    @Param({ "1", "7" })
+    public int days;
+
+    private final CarbonIntensityJsonParser parser = new CarbonIntensityJsonParser();
+    private byte[] json;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        var random = new Random(42);
+        var start = Instant.parse("2024-09-20T00:00:00Z");
+        var carbonIntensity = new CarbonIntensity();
+        carbonIntensity.setStart(start);
+        carbonIntensity.setEnd(start.plus(Duration.ofDays(days)));
+        carbonIntensity.setResolution(Duration.ofMinutes(1));
+        carbonIntensity.setZone("NL");
+        var data = new ArrayList<BigDecimal>();
+        for (int i = 0; i < days * 24 * 60; i++) {
+            data.add(BigDecimal.valueOf(50_000 + random.nextInt(400_000), 3));
+        }
+        carbonIntensity.setData(data);
+        json = parser.toJson(carbonIntensity).getBytes(StandardCharsets.UTF_8);
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.Throughput)
+    public CarbonIntensity benchmarkStreaming() {
+        return parser.parse(new ByteArrayInputStream(json));
+    }
+
+    /**
+     * The former parser, reading the whole object tree before converting the data points.
+     */
+    @Benchmark
+    @BenchmarkMode(Mode.Throughput)
+    public CarbonIntensity benchmarkTree() {
+        var result = new CarbonIntensity();
+        try (JsonParser jsonParser = Json.createParser(
+                new InputStreamReader(new ByteArrayInputStream(json), StandardCharsets.UTF_8))) {
+            if (jsonParser.hasNext() && jsonParser.next() == JsonParser.Event.START_OBJECT) {
+                JsonObject jsonObject = jsonParser.getObject();
+                result.setStart(Instant.parse(jsonObject.getString("start")));
+                result.setEnd(Instant.parse(jsonObject.getString("end")));
+                result.setResolution(Duration.parse(jsonObject.getString("resolution")));
+                result.setZone(jsonObject.getString("zone"));
+                var jsonArray = jsonObject.getJsonArray("data");
+                var scale = 0;
+                for (JsonValue jsonValue : jsonArray) {
+                    scale = Math.max(scale, Math.min(((JsonNumber) jsonValue).bigDecimalValue().scale(),
+                            CarbonIntensityForecast.MAX_SCALE));
+                }
+                var values = new long[jsonArray.size()];
+                for (int i = 0; i < values.length; i++) {
+                    values[i] = CarbonIntensityForecast.unscaled(jsonArray.getJsonNumber(i).bigDecimalValue(), scale);
+                }
+                result.setData(new CarbonIntensityForecast(result.getStart().getEpochSecond(),
+                        result.getResolution().getSeconds(), values, scale).asList());
+            }
+        }
+        return result;
+    }
+
+    @Test
+    @Disabled
+    void runPerformanceBenchmarks() throws RunnerException {
+        Options opt = new OptionsBuilder()
+                .include(TestJsonParserPerformance.class.getSimpleName())
+                .addProfiler(GCProfiler.class)
+                .build();
+        Collection<RunResult> runResults = new Runner(opt).run();
+        assertFalse(runResults.isEmpty());
+        Map<String, RunResult> results = runResults.stream()
+                .collect(Collectors.toMap(result -> result.getParams().getBenchmark()
+                        .replaceAll(".*\\.benchmark", "") + result.getParams().getParam("days"), Function.identity()));
+        for (String days : List.of("1", "7")) {
+            var streaming = results.get("Streaming" + days);
+            var tree = results.get("Tree" + days);
+            assertTrue(streaming.getPrimaryResult().getScore() > tree.getPrimaryResult().getScore(),
+                    "Streaming parser should have a higher throughput for " + days + " days");
+            assertTrue(allocation(streaming) < allocation(tree),
+                    "Streaming parser should allocate less per operation for " + days + " days");
+        }
+    }
+
+    private static double allocation(RunResult result) {
+        return result.getSecondaryResults().get(ALLOCATION).getScore();
+    }
+}
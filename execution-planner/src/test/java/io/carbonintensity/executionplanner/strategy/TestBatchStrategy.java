@@ -0,0 +1,122 @@
+package io.carbonintensity.executionplanner.strategy;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import io.carbonintensity.executionplanner.planner.Timeslot;
+import io.carbonintensity.executionplanner.runtime.impl.CarbonIntensity;
+import io.carbonintensity.executionplanner.runtime.impl.rest.CarbonIntensityJsonParser;
+
+class TestBatchStrategy {
+
+    private static final CarbonIntensityJsonParser ciParser = new CarbonIntensityJsonParser();
+    private static final ZonedDateTime WINDOW_START = ZonedDateTime.parse("2024-08-27T08:00:00Z");
+
+    @Test
+    void givenUnlimitedCapacity_whenPlanning_thenPlaceEveryJobInBestTimeslot() {
+        CarbonIntensity carbonIntensity = loadCarbonIntensityFromFile("day-ahead-20240824-Z.json");
+        List<BatchStrategy.Job> jobs = jobs(20, Duration.ofMinutes(30));
+        Timeslot best = new PrefixSumStrategy(Duration.ofMinutes(5)).bestTimeslot(WINDOW_START, WINDOW_START.plusHours(8),
+                Duration.ofMinutes(30), carbonIntensity);
+
+        BatchPlan plan = new BatchStrategy(Duration.ofMinutes(5), Integer.MAX_VALUE).plan(jobs, carbonIntensity);
+
+        assertThat(plan.size()).isEqualTo(20);
+        for (BatchStrategy.Job job : jobs) {
+            assertThat(plan.timeslotOf(job).start()).isEqualTo(best.start());
+        }
+        assertThat(plan.occupancyAt(best.start().toEpochSecond())).isEqualTo(20);
+    }
+
+    @Test
+    void givenSlotCapacity_whenPlanning_thenNeverExceedCapacity() {
+        CarbonIntensity carbonIntensity = loadCarbonIntensityFromFile("day-ahead-20240824-Z.json");
+        List<BatchStrategy.Job> jobs = jobs(20, Duration.ofMinutes(30));
+
+        BatchPlan plan = new BatchStrategy(Duration.ofMinutes(5), 3).plan(jobs, carbonIntensity);
+        BatchPlan unlimited = new BatchStrategy(Duration.ofMinutes(5), Integer.MAX_VALUE).plan(jobs, carbonIntensity);
+
+        BigDecimal total = BigDecimal.ZERO;
+        BigDecimal unlimitedTotal = BigDecimal.ZERO;
+        for (BatchStrategy.Job job : jobs) {
+            Timeslot timeslot = plan.timeslotOf(job);
+            assertThat(timeslot.start()).isBetween(job.getWindowStart(), job.getWindowEnd());
+            total = total.add(timeslot.carbonIntensity());
+            unlimitedTotal = unlimitedTotal.add(unlimited.timeslotOf(job).carbonIntensity());
+        }
+        for (long s = WINDOW_START.toEpochSecond(); s < WINDOW_START.plusHours(9).toEpochSecond(); s += 60) {
+            assertThat(plan.occupancyAt(s)).isLessThanOrEqualTo(3);
+        }
+        assertThat(total).isGreaterThanOrEqualTo(unlimitedTotal);
+    }
+
+    @Test
+    void givenFullPlan_whenAddingJob_thenPlaceInLeastOccupiedTimeslot() {
+        CarbonIntensity carbonIntensity = loadCarbonIntensityFromFile("day-ahead-20240824-Z.json");
+        List<BatchStrategy.Job> jobs = new ArrayList<>();
+        for (int i = 0; i < 2; i++) {
+            jobs.add(new BatchStrategy.Job("job-" + i, WINDOW_START, WINDOW_START.plusMinutes(5), Duration.ofMinutes(5)));
+        }
+        BatchPlan plan = new BatchStrategy(Duration.ofMinutes(5), 1).plan(jobs, carbonIntensity);
+        assertThat(plan.timeslotOf(jobs.get(0)).start()).isNotEqualTo(plan.timeslotOf(jobs.get(1)).start());
+
+        var late = new BatchStrategy.Job("late", WINDOW_START, WINDOW_START.plusMinutes(5), Duration.ofMinutes(5));
+        plan.add(late);
+
+        assertThat(plan.size()).isEqualTo(3);
+        assertThat(plan.occupancyAt(plan.timeslotOf(late).start().toEpochSecond())).isEqualTo(2);
+        assertThat(plan.remove("late")).isTrue();
+        assertThat(plan.timeslotOf(late)).isNull();
+    }
+
+    @Test
+    void givenPreviousPlan_whenPlanningAgain_thenKeepPlannedTimeslots() {
+        CarbonIntensity carbonIntensity = loadCarbonIntensityFromFile("day-ahead-20240824-Z.json");
+        List<BatchStrategy.Job> jobs = jobs(5, Duration.ofMinutes(30));
+        var strategy = new BatchStrategy(Duration.ofMinutes(5), 2);
+        BatchPlan previous = strategy.plan(jobs.subList(2, 5), carbonIntensity);
+
+        BatchPlan plan = strategy.plan(jobs, carbonIntensity, previous);
+
+        for (BatchStrategy.Job job : jobs.subList(2, 5)) {
+            assertThat(plan.timeslotOf(job).start()).isEqualTo(previous.timeslotOf(job).start());
+        }
+        assertThat(plan.size()).isEqualTo(5);
+    }
+
+    @Test
+    void givenWindowOutsidePlan_whenAddingJob_thenThrowException() {
+        CarbonIntensity carbonIntensity = loadCarbonIntensityFromFile("day-ahead-20240824-Z.json");
+        BatchPlan plan = new BatchStrategy(Duration.ofMinutes(5), 1).plan(jobs(1, Duration.ofMinutes(5)), carbonIntensity);
+        var job = new BatchStrategy.Job("job", WINDOW_START.plusDays(1), WINDOW_START.plusDays(1), Duration.ofMinutes(5));
+
+        assertThat(plan.covers(job)).isFalse();
+        assertThatThrownBy(() -> plan.add(job)).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void givenInvalidCapacity_whenCreatingStrategy_thenThrowException() {
+        Duration resolution = Duration.ofMinutes(5);
+        assertThatThrownBy(() -> new BatchStrategy(resolution, 0)).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private static List<BatchStrategy.Job> jobs(int count, Duration duration) {
+        List<BatchStrategy.Job> jobs = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            jobs.add(new BatchStrategy.Job("job-" + i, WINDOW_START, WINDOW_START.plusHours(8), duration));
+        }
+        return jobs;
+    }
+
+    private CarbonIntensity loadCarbonIntensityFromFile(String fileName) {
+        return ciParser.parse(ClassLoader.getSystemResourceAsStream(fileName));
+    }
+}
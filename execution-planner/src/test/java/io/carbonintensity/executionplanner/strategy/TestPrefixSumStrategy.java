@@ -0,0 +1,332 @@
+package io.carbonintensity.executionplanner.strategy;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.within;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Test;
+
+import io.carbonintensity.executionplanner.planner.Timeslot;
+import io.carbonintensity.executionplanner.runtime.impl.CarbonIntensity;
+import io.carbonintensity.executionplanner.runtime.impl.rest.CarbonIntensityJsonParser;
+
+class TestPrefixSumStrategy {
+
+    private static final CarbonIntensityJsonParser ciParser = new CarbonIntensityJsonParser();
+
+    @Test
+    void givenRandomForecasts_whenFindingBestTimeslot_thenMatchSingleJobStrategy() {
+        Random random = new Random(42);
+        ZonedDateTime dayStart = ZonedDateTime.parse("2024-08-27T00:00:00Z");
+        List<Duration> periods = List.of(Duration.ofMinutes(15), Duration.ofHours(1));
+        List<Duration> resolutions = List.of(Duration.ofSeconds(1), Duration.ofMinutes(7), Duration.ofMinutes(15),
+                Duration.ofMinutes(30), Duration.ofHours(1));
+
+        for (int run = 0; run < 200; run++) {
+            Duration period = periods.get(random.nextInt(periods.size()));
+            CarbonIntensity carbonIntensity = randomForecast(random, dayStart, period, 48);
+            Duration resolution = resolutions.get(random.nextInt(resolutions.size()));
+            // windows and timeslots may reach beyond the forecast
+            ZonedDateTime ws = dayStart.plusSeconds(random.nextInt(52 * 3600) - 2 * 3600);
+            ZonedDateTime we = ws.plusSeconds(random.nextInt(6 * 3600));
+            Duration duration = random.nextBoolean() ? period.multipliedBy(1 + random.nextInt(3))
+                    : Duration.ofSeconds(1 + random.nextInt(4 * 3600));
+
+            Timeslot expected = new SingleJobStrategy(resolution).bestTimeslot(ws, we, duration, carbonIntensity);
+            Timeslot actual = new PrefixSumStrategy(resolution).bestTimeslot(ws, we, duration, carbonIntensity);
+
+            assertThat(actual.start()).as("run %d", run).isEqualTo(expected.start());
+            assertThat(actual.end()).as("run %d", run).isEqualTo(expected.end());
+            assertThat(actual.carbonIntensity()).as("run %d", run).isEqualByComparingTo(expected.carbonIntensity());
+        }
+    }
+
+    @Test
+    void givenValuesEqualAfterRounding_whenFindingBestTimeslot_thenPickFirstLikeSingleJobStrategy() {
+        ZonedDateTime ws = ZonedDateTime.parse("2024-08-27T00:00:00Z");
+        CarbonIntensity carbonIntensity = forecast(ws, Duration.ofHours(1), "100.01", "100.00", "100.00");
+        Duration duration = Duration.ofMinutes(30);
+
+        // both periods have a rate of 0.03 per second
+        Timeslot expected = new SingleJobStrategy(Duration.ofMinutes(30)).bestTimeslot(ws, ws.plusHours(1), duration,
+                carbonIntensity);
+        Timeslot actual = new PrefixSumStrategy(Duration.ofMinutes(30)).bestTimeslot(ws, ws.plusHours(1), duration,
+                carbonIntensity);
+
+        assertThat(actual.start()).isEqualTo(expected.start()).isEqualTo(ws);
+        assertThat(actual.carbonIntensity()).isEqualByComparingTo(expected.carbonIntensity());
+    }
+
+    @Test
+    void givenTimeslotsAlignedWithPeriods_whenFindingBestTimeslot_thenScoreWithKernel() {
+        CarbonIntensity carbonIntensity = loadCarbonIntensityFromFile("day-ahead-20240824-Z.json");
+        ZonedDateTime dayStart = ZonedDateTime.parse("2024-08-27T00:00:00Z");
+        AtomicInteger kernelCalls = new AtomicInteger();
+        ScoringKernel scalar = new ScalarScoringKernel();
+        ScoringKernel kernel = (values, first, last, stride, firstWeight, lastWeight, count) -> {
+            kernelCalls.incrementAndGet();
+            return scalar.argmin(values, first, last, stride, firstWeight, lastWeight, count);
+        };
+
+        for (Duration resolution : List.of(Duration.ofHours(1), Duration.ofHours(2))) {
+            for (Duration duration : List.of(Duration.ofSeconds(60), Duration.ofMinutes(45), Duration.ofHours(1),
+                    Duration.ofMinutes(150), Duration.ofHours(4))) {
+                for (int offset = 0; offset < 13; offset += 3) {
+                    ZonedDateTime ws = dayStart.plusHours(offset).plusMinutes(7);
+                    ZonedDateTime we = ws.plusHours(6);
+                    Timeslot expected = new SingleJobStrategy(resolution).bestTimeslot(ws, we, duration, carbonIntensity);
+                    Timeslot actual = new PrefixSumStrategy(resolution, 0, kernel).bestTimeslot(ws, we, duration,
+                            carbonIntensity);
+
+                    assertThat(actual.start()).isEqualTo(expected.start());
+                    assertThat(actual.carbonIntensity()).isEqualByComparingTo(expected.carbonIntensity());
+                }
+            }
+        }
+        assertThat(kernelCalls).hasValue(50);
+    }
+
+    @Test
+    void givenWindowOutsideForecast_whenFindingBestTimeslot_thenReturnWindowStart() {
+        CarbonIntensity carbonIntensity = loadCarbonIntensityFromFile("day-ahead-20240824-Z.json");
+        ZonedDateTime ws = ZonedDateTime.parse("2024-08-30T00:00:00Z");
+
+        Timeslot timeslot = new PrefixSumStrategy().bestTimeslot(ws, ws.plusHours(2), Duration.ofHours(1), carbonIntensity);
+
+        assertThat(timeslot.start()).isEqualTo(ws);
+        assertThat(timeslot.carbonIntensity().doubleValue()).isZero();
+    }
+
+    @Test
+    void givenJobSpanningSeveralPeriods_whenFindingBestTimeslot_thenWeightFirstAndLastPeriod() {
+        CarbonIntensity carbonIntensity = loadCarbonIntensityFromFile("day-ahead-20240824-Z.json");
+        ZonedDateTime ws = ZonedDateTime.parse("2024-08-27T13:00:00Z");
+
+        Timeslot timeslot = new PrefixSumStrategy(Duration.ofHours(1)).bestTimeslot(ws, ws, Duration.ofHours(3),
+                carbonIntensity);
+
+        assertThat(timeslot.carbonIntensity().doubleValue()).isCloseTo(43597.95 + 42137.70, within(0.001));
+    }
+
+    @Test
+    void givenCarbonTolerance_whenPlanningManyJobs_thenSpreadWithinTolerance() {
+        CarbonIntensity carbonIntensity = loadCarbonIntensityFromFile("day-ahead-20240824-Z.json");
+        ZonedDateTime ws = ZonedDateTime.parse("2024-08-27T08:00:00Z");
+        ZonedDateTime we = ws.plusHours(6);
+        Duration duration = Duration.ofMinutes(15);
+        PrefixSumStrategy strategy = new PrefixSumStrategy(Duration.ofMinutes(1), 0.05);
+        Timeslot best = new PrefixSumStrategy(Duration.ofMinutes(1)).bestTimeslot(ws, we, duration, carbonIntensity);
+
+        Map<ZonedDateTime, Integer> jobsPerStart = new HashMap<>();
+        for (int i = 0; i < 200; i++) {
+            Timeslot timeslot = strategy.bestTimeslot(ws, we, duration, carbonIntensity, "job-" + i);
+
+            assertThat(timeslot.carbonIntensity().doubleValue())
+                    .isLessThanOrEqualTo(best.carbonIntensity().doubleValue() * 1.05);
+            assertThat(strategy.bestTimeslot(ws, we, duration, carbonIntensity, "job-" + i).start())
+                    .isEqualTo(timeslot.start());
+            jobsPerStart.merge(timeslot.start(), 1, Integer::sum);
+        }
+
+        assertThat(jobsPerStart).hasSizeGreaterThan(1);
+        assertThat(Collections.max(jobsPerStart.values())).isLessThan(50);
+    }
+
+    @Test
+    void givenNoCarbonTolerance_whenPlanningJob_thenIgnoreIdentity() {
+        CarbonIntensity carbonIntensity = loadCarbonIntensityFromFile("day-ahead-20240824-Z.json");
+        ZonedDateTime ws = ZonedDateTime.parse("2024-08-27T08:00:00Z");
+        PrefixSumStrategy strategy = new PrefixSumStrategy(Duration.ofMinutes(1));
+
+        Timeslot timeslot = strategy.bestTimeslot(ws, ws.plusHours(6), Duration.ofMinutes(15), carbonIntensity, "job");
+
+        assertThat(timeslot.start())
+                .isEqualTo(strategy.bestTimeslot(ws, ws.plusHours(6), Duration.ofMinutes(15), carbonIntensity).start());
+    }
+
+    @Test
+    void givenOverlappingTimeslots_whenFindingBestTimeslots_thenReturnGreenestWithoutOverlap() {
+        CarbonIntensity carbonIntensity = loadCarbonIntensityFromFile("day-ahead-20240824-Z.json");
+        ZonedDateTime ws = ZonedDateTime.parse("2024-08-27T00:00:00Z");
+        ZonedDateTime we = ws.plusHours(20);
+        Duration duration = Duration.ofMinutes(90);
+        PrefixSumStrategy strategy = new PrefixSumStrategy(Duration.ofMinutes(10));
+
+        List<Timeslot> timeslots = strategy.bestTimeslots(ws, we, duration, carbonIntensity, 4);
+
+        assertThat(timeslots).hasSize(4);
+        assertThat(timeslots.get(0).start()).isEqualTo(strategy.bestTimeslot(ws, we, duration, carbonIntensity).start());
+        assertThat(timeslots).isSortedAccordingTo(Comparator.comparing(Timeslot::carbonIntensity));
+        for (Timeslot timeslot : timeslots) {
+            assertThat(timeslots).filteredOn(other -> other != timeslot)
+                    .allMatch(other -> !other.start().isBefore(timeslot.end()) || !other.end().isAfter(timeslot.start()));
+        }
+    }
+
+    @Test
+    void givenAdjacentTimeslots_whenFindingBestTimeslots_thenReturnLowestCarbonIntensities() {
+        CarbonIntensity carbonIntensity = loadCarbonIntensityFromFile("day-ahead-20240824-Z.json");
+        ZonedDateTime ws = ZonedDateTime.parse("2024-08-27T00:00:00Z");
+        ZonedDateTime we = ws.plusHours(20);
+        Duration duration = Duration.ofMinutes(30);
+        PrefixSumStrategy strategy = new PrefixSumStrategy(Duration.ofMinutes(30));
+        List<Timeslot> expected = new ArrayList<>();
+        for (ZonedDateTime s = ws; !s.isAfter(we); s = s.plusMinutes(30)) {
+            expected.add(strategy.bestTimeslot(s, s, duration, carbonIntensity));
+        }
+        expected.sort(Comparator.comparing(Timeslot::carbonIntensity));
+
+        List<Timeslot> timeslots = strategy.bestTimeslots(ws, we, duration, carbonIntensity, 5);
+
+        assertThat(timeslots).extracting(Timeslot::start)
+                .containsExactlyElementsOf(expected.subList(0, 5).stream().map(Timeslot::start).collect(Collectors.toList()));
+        assertThat(strategy.bestTimeslots(ws, ws.plusHours(1), duration, carbonIntensity, 5)).hasSize(3);
+    }
+
+    @Test
+    void givenNoTimeslotsRequested_whenFindingBestTimeslots_thenThrowException() {
+        CarbonIntensity carbonIntensity = loadCarbonIntensityFromFile("day-ahead-20240824-Z.json");
+        ZonedDateTime ws = ZonedDateTime.parse("2024-08-27T00:00:00Z");
+        Duration duration = Duration.ofMinutes(30);
+        PrefixSumStrategy strategy = new PrefixSumStrategy();
+
+        assertThatThrownBy(() -> strategy.bestTimeslots(ws, ws, duration, carbonIntensity, 0))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void givenShortWindow_whenFindingBestTimeslotAdaptively_thenScanEverySecond() {
+        CarbonIntensity carbonIntensity = loadCarbonIntensityFromFile("day-ahead-20240824-Z.json");
+        ZonedDateTime ws = ZonedDateTime.parse("2024-08-27T13:40:07Z");
+        ZonedDateTime we = ws.plusMinutes(50);
+        Duration duration = Duration.ofMinutes(25);
+
+        Timeslot expected = new PrefixSumStrategy(Duration.ofSeconds(1)).bestTimeslot(ws, we, duration, carbonIntensity);
+        Timeslot actual = PrefixSumStrategy.adaptive(0).bestTimeslot(ws, we, duration, carbonIntensity);
+
+        assertThat(actual.start()).isEqualTo(expected.start());
+        assertThat(actual.carbonIntensity()).isEqualByComparingTo(expected.carbonIntensity());
+    }
+
+    @Test
+    void givenLongWindow_whenFindingBestTimeslotAdaptively_thenRefineCoarseTimeslots() {
+        CarbonIntensity carbonIntensity = loadCarbonIntensityFromFile("day-ahead-20240824-Z.json");
+        ZonedDateTime dayStart = ZonedDateTime.parse("2024-08-27T00:00:00Z");
+        PrefixSumStrategy adaptive = PrefixSumStrategy.adaptive(0);
+
+        for (Duration duration : List.of(Duration.ofSeconds(60), Duration.ofMinutes(45), Duration.ofMinutes(150))) {
+            for (int offset = 0; offset < 12; offset += 5) {
+                ZonedDateTime ws = dayStart.plusHours(offset).plusSeconds(37);
+                ZonedDateTime we = ws.plusHours(10);
+                Timeslot precise = new PrefixSumStrategy(Duration.ofSeconds(1)).bestTimeslot(ws, we, duration,
+                        carbonIntensity);
+                Timeslot coarse = new PrefixSumStrategy(Duration.ofMinutes(30)).bestTimeslot(ws, we, duration,
+                        carbonIntensity);
+
+                Timeslot actual = adaptive.bestTimeslot(ws, we, duration, carbonIntensity);
+
+                assertThat(actual.start()).isBetween(ws, we);
+                assertThat(actual.carbonIntensity()).isLessThanOrEqualTo(coarse.carbonIntensity());
+                assertThat(actual.carbonIntensity()).isEqualByComparingTo(precise.carbonIntensity());
+            }
+        }
+    }
+
+    @Test
+    void givenTwoSeparatedDips_whenFindingBestTimeslotAdaptively_thenMatchScanEverySecond() {
+        ZonedDateTime dayStart = ZonedDateTime.parse("2024-08-27T00:00:00Z");
+        String[] values = new String[96];
+        Arrays.fill(values, "300");
+        // a wide shallow dip in the morning and a narrow deep one in the afternoon
+        for (int i = 24; i < 40; i++) {
+            values[i] = i % 2 == 0 ? "150" : "140";
+        }
+        values[60] = "200";
+        values[61] = "90";
+        values[62] = "200";
+        CarbonIntensity carbonIntensity = forecast(dayStart, Duration.ofMinutes(15), values);
+        PrefixSumStrategy adaptive = PrefixSumStrategy.adaptive(0);
+        PrefixSumStrategy precise = new PrefixSumStrategy(Duration.ofSeconds(1));
+
+        for (Duration duration : List.of(Duration.ofMinutes(10), Duration.ofMinutes(20), Duration.ofMinutes(40))) {
+            for (int offset = 0; offset < 4 * 3600; offset += 1111) {
+                ZonedDateTime ws = dayStart.plusSeconds(offset);
+                ZonedDateTime we = ws.plusHours(19);
+
+                Timeslot expected = precise.bestTimeslot(ws, we, duration, carbonIntensity);
+                Timeslot actual = adaptive.bestTimeslot(ws, we, duration, carbonIntensity);
+
+                assertThat(actual.start()).as("%s from %s", duration, ws).isEqualTo(expected.start());
+                assertThat(actual.carbonIntensity()).isEqualByComparingTo(expected.carbonIntensity());
+            }
+        }
+    }
+
+    @Test
+    void givenAdaptiveResolution_whenCreatingStrategy_thenPlanAdaptively() {
+        CarbonIntensity carbonIntensity = loadCarbonIntensityFromFile("day-ahead-20240824-Z.json");
+        ZonedDateTime ws = ZonedDateTime.parse("2024-08-27T13:40:07Z");
+        ZonedDateTime we = ws.plusMinutes(50);
+        Duration duration = Duration.ofMinutes(25);
+
+        PlanningStrategy strategy = PlanningResolution.adaptive().createStrategy(0);
+
+        assertThat(strategy.bestTimeslot(ws, we, duration, carbonIntensity).start())
+                .isEqualTo(PrefixSumStrategy.adaptive(0).bestTimeslot(ws, we, duration, carbonIntensity).start());
+        assertThat(PlanningResolution.of(Duration.ofMinutes(5)).getDuration()).isEqualTo(Duration.ofMinutes(5));
+        assertThat(PlanningResolution.adaptive().isAdaptive()).isTrue();
+        assertThatThrownBy(() -> PlanningResolution.of(Duration.ZERO)).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void givenNegativeCarbonTolerance_whenCreatingStrategy_thenThrowException() {
+        Duration resolution = Duration.ofMinutes(1);
+        assertThatThrownBy(() -> new PrefixSumStrategy(resolution, -0.1)).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void givenSubSecondResolution_whenCreatingStrategy_thenThrowException() {
+        Duration resolution = Duration.ofMillis(500);
+        assertThatThrownBy(() -> new PrefixSumStrategy(resolution)).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private static CarbonIntensity randomForecast(Random random, ZonedDateTime start, Duration period, int size) {
+        String[] values = new String[size];
+        for (int i = 0; i < size; i++) {
+            // low values with two decimals round to few distinct rates per second
+            values[i] = random.nextBoolean() ? BigDecimal.valueOf(random.nextInt(200), 2).toPlainString()
+                    : BigDecimal.valueOf(10000 + random.nextInt(5), 2).toPlainString();
+        }
+        return forecast(start, period, values);
+    }
+
+    private static CarbonIntensity forecast(ZonedDateTime start, Duration period, String... values) {
+        CarbonIntensity carbonIntensity = new CarbonIntensity();
+        carbonIntensity.setStart(start.toInstant());
+        carbonIntensity.setEnd(start.plus(period.multipliedBy(values.length)).toInstant());
+        carbonIntensity.setResolution(period);
+        carbonIntensity.setZone("NL");
+        for (String value : values) {
+            carbonIntensity.getData().add(new BigDecimal(value));
+        }
+        return carbonIntensity;
+    }
+
+    private CarbonIntensity loadCarbonIntensityFromFile(String fileName) {
+        return ciParser.parse(ClassLoader.getSystemResourceAsStream(fileName));
+    }
+}
@@ -2,9 +2,11 @@ package io.carbonintensity.executionplanner.strategy;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
+import java.lang.management.ManagementFactory;
 import java.math.BigDecimal;
 import java.time.Duration;
 import java.time.ZonedDateTime;
+import java.util.List;
 
 import org.junit.jupiter.api.Test;
 
@@ -33,6 +35,35 @@ class TestSingleJobStrategy {
         assertThat(timeslot.carbonIntensity()).isLessThan(new BigDecimal("1135"));
     }
 
+    @Test
+    void givenLongerWindow_whenFindingBestTimeslot_thenAllocateTheSame() {
+        CarbonIntensity carbonIntensity = loadCarbonIntensityFromFile("day-ahead-20240824-Z.json");
+        ZonedDateTime ws = ZonedDateTime.parse("2024-08-27T00:00:00Z");
+        Duration d = Duration.ofMinutes(45);
+        PlanningStrategy singleJob = new SingleJobStrategy(Duration.ofSeconds(30));
+        PlanningStrategy prefixSum = new PrefixSumStrategy(Duration.ofSeconds(30), 0.05);
+
+        for (PlanningStrategy strategy : List.of(singleJob, prefixSum)) {
+            long shortWindow = allocatedBytes(() -> strategy.bestTimeslot(ws, ws.plusHours(1), d, carbonIntensity, "job"));
+            long longWindow = allocatedBytes(() -> strategy.bestTimeslot(ws, ws.plusHours(22), d, carbonIntensity, "job"));
+
+            // thousands more timeslots, each of them created would take at least 100 bytes
+            assertThat(longWindow - shortWindow).as(strategy.getClass().getSimpleName()).isLessThan(10_000);
+        }
+    }
+
+    private static long allocatedBytes(Runnable planning) {
+        var threads = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        long threadId = Thread.currentThread().getId();
+        long least = Long.MAX_VALUE;
+        for (int i = 0; i < 20; i++) {
+            long before = threads.getThreadAllocatedBytes(threadId);
+            planning.run();
+            least = Math.min(least, threads.getThreadAllocatedBytes(threadId) - before);
+        }
+        return least;
+    }
+
     private CarbonIntensity loadCarbonIntensityFromFile(String fileName) {
         return ciParser.parse(ClassLoader.getSystemResourceAsStream(fileName));
     }
@@ -0,0 +1,97 @@
+package io.carbonintensity.executionplanner.strategy;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+class TestTimeslotRanking {
+
+    @Test
+    void givenGreenerOverlappingTimeslot_whenSelecting_thenKeepEarlierTimeslotThatDoesNotOverlapIt() {
+        TimeslotRanking ranking = new TimeslotRanking(2, 1, 2, 3);
+        ranking.offer(0, 5);
+        ranking.offer(1, 3);
+        ranking.offer(2, 1);
+
+        ranking.select();
+
+        assertThat(startsOf(ranking)).containsExactly(2L, 0L);
+        assertThat(ranking.valueAt(0)).isEqualTo(1);
+        assertThat(ranking.valueAt(1)).isEqualTo(5);
+    }
+
+    @Test
+    void givenMoreTimeslotsRequestedThanDisjointOnes_whenSelecting_thenPickAllDisjointTimeslots() {
+        long[] values = { 4, 3, 9, 1, 8, 2, 7 };
+        TimeslotRanking ranking = new TimeslotRanking(3, 1, 5, values.length);
+        for (int start = 0; start < values.length; start++) {
+            ranking.offer(start, values[start]);
+        }
+
+        ranking.select();
+
+        assertThat(startsOf(ranking)).containsExactly(3L, 0L, 6L);
+    }
+
+    @Test
+    void givenEqualValues_whenSelecting_thenPickEarliestFirst() {
+        TimeslotRanking ranking = new TimeslotRanking(1, 1, 2, 3);
+        ranking.offer(0, 2);
+        ranking.offer(1, 1);
+        ranking.offer(2, 1);
+
+        ranking.select();
+
+        assertThat(startsOf(ranking)).containsExactly(1L, 2L);
+    }
+
+    @Test
+    void givenRandomTimeslots_whenSelecting_thenMatchGreedyPickOverAllTimeslots() {
+        Random random = new Random(42);
+        for (int run = 0; run < 500; run++) {
+            long step = 1 + random.nextInt(5);
+            long duration = random.nextInt(20);
+            int count = 1 + random.nextInt(6);
+            int timeslots = random.nextInt(60);
+            long[] values = new long[timeslots];
+            TimeslotRanking ranking = new TimeslotRanking(duration, step, count, timeslots);
+            for (int i = 0; i < timeslots; i++) {
+                values[i] = random.nextInt(10);
+                ranking.offer(i * step, values[i]);
+            }
+
+            ranking.select();
+
+            assertThat(startsOf(ranking)).as("run %d", run).isEqualTo(greedy(values, step, duration, count));
+        }
+    }
+
+    private static List<Long> greedy(long[] values, long step, long duration, int count) {
+        List<Integer> order = new ArrayList<>();
+        for (int i = 0; i < values.length; i++) {
+            order.add(i);
+        }
+        order.sort(Comparator.<Integer> comparingLong(i -> values[i]).thenComparingInt(i -> i));
+        List<Long> picked = new ArrayList<>();
+        for (int i : order) {
+            long start = i * step;
+            if (picked.size() < count && picked.stream().allMatch(other -> Math.abs(other - start) >= duration)) {
+                picked.add(start);
+            }
+        }
+        return picked;
+    }
+
+    private static List<Long> startsOf(TimeslotRanking ranking) {
+        List<Long> starts = new ArrayList<>();
+        for (int i = 0; i < ranking.size(); i++) {
+            starts.add(ranking.startAt(i));
+        }
+        return starts;
+    }
+}
@@ -15,7 +15,7 @@ public abstract class DefaultInvoker implements ScheduledInvoker {
     public CompletionStage<Void> invoke(ScheduledExecution execution) throws Exception {
         ManagedContext requestContext = Arc.container().requestContext();
         if (requestContext.isActive()) {
-            return invokeBean(execution);
+            return invokeBeanAsync(execution);
         } else {
             // 1. Activate the context
             // 2. Capture the state (which is basically a shared Map instance)
@@ -23,7 +23,7 @@ public abstract class DefaultInvoker implements ScheduledInvoker {
             requestContext.activate();
             final ContextState state = requestContext.getState();
             try {
-                return invokeBean(execution).whenComplete((v, t) -> {
+                return invokeBeanAsync(execution).whenComplete((v, t) -> {
                     requestContext.destroy(state);
                 });
             } catch (Throwable e) {
@@ -37,6 +37,15 @@ public abstract class DefaultInvoker implements ScheduledInvoker {
         }
     }
 
+    /**
+     * The stage returned by an asynchronous scheduled method is propagated, so that the execution only finishes once it
+     * completes. A method returning {@code null} instead of a stage is treated as completed.
+     */
+    private CompletionStage<Void> invokeBeanAsync(ScheduledExecution execution) {
+        CompletionStage<Void> stage = invokeBean(execution);
+        return stage != null ? stage : CompletableFuture.completedStage(null);
+    }
+
     // This method is generated and should never throw an exception
     protected abstract CompletionStage<Void> invokeBean(ScheduledExecution execution);
 
@@ -1,7 +1,9 @@
 package io.carbonintensity.scheduler.quarkus.factory;
 
+import java.nio.file.Path;
 import java.time.Duration;
 import java.util.Optional;
+import java.util.OptionalDouble;
 import java.util.OptionalInt;
 
 import io.carbonintensity.scheduler.runtime.SchedulerConfig;
@@ -31,6 +33,38 @@ public interface GreenScheduledProperties {
      */
     OptionalInt jobExecutors();
 
+    /**
+     * Kind of threads to execute jobs on, virtual threads require Java 21. Default platform threads.
+     */
+    Optional<SchedulerConfig.JobExecutorType> jobExecutorType();
+
+    /**
+     * Maximum number of job executions waiting for a job executor, or running at the same time with virtual threads.
+     * Unbounded by default, set a capacity to apply the overflow policy to executions that do not fit.
+     */
+    OptionalInt jobQueueCapacity();
+
+    /**
+     * What happens to a job execution that does not fit in the job queue. Default skip.
+     */
+    Optional<SchedulerConfig.JobOverflowPolicy> jobOverflowPolicy();
+
+    /**
+     * Fraction by which the carbon intensity of a planned timeslot may exceed the best one, to spread jobs with the same
+     * window over several timeslots. Default 0, every job is placed in the best timeslot.
+     */
+    OptionalDouble carbonTolerance();
+
+    /**
+     * Whether jobs are planned one by one or together per zone. Default individual.
+     */
+    Optional<SchedulerConfig.PlanningMode> planningMode();
+
+    /**
+     * Maximum number of jobs of a zone planned to run at the same time in batch planning mode. Default unbounded.
+     */
+    OptionalInt planningSlotCapacity();
+
     /**
      * Overdue grace period. Default 30 seconds.
      */
@@ -50,4 +84,21 @@ public interface GreenScheduledProperties {
      * CarbonIntensity API url.
      */
     Optional<String> apiUrl();
+
+    /**
+     * Directory to persist carbon intensity forecasts in across restarts. Not persisted by default.
+     */
+    Optional<Path> cacheDirectory();
+
+    /**
+     * Carbon intensity data is fetched again in the background once the cached forecast ends within this window.
+     * Default 0, disabled.
+     */
+    Optional<Duration> refreshAhead();
+
+    /**
+     * Maximum age of a forecast that is served while newer carbon intensity data is fetched in the background. Default 0,
+     * planning waits for new data.
+     */
+    Optional<Duration> maxStaleness();
 }
@@ -1,5 +1,6 @@
 package io.carbonintensity.scheduler.quarkus.factory;
 
+import java.nio.file.Path;
 import java.time.Duration;
 
 import io.carbonintensity.executionplanner.runtime.impl.rest.CarbonIntensityApiConfig;
@@ -15,17 +16,34 @@ public class SchedulerConfigBuilder {
     public static final Duration DEFAULT_OVERDUE_GRACE_PERIOD = SchedulerDefaults.DEFAULT_OVERDUE_GRACE_PERIOD;
     public static final Duration DEFAULT_SHUTDOWN_GRACE_PERIOD = SchedulerDefaults.DEFAULT_SHUTDOWN_GRACE_PERIOD;
     public static final int DEFAULT_NUMBER_OF_JOB_EXECUTORS = SchedulerDefaults.DEFAULT_NUMBER_OF_JOB_EXECUTORS;
+    public static final SchedulerConfig.JobExecutorType DEFAULT_JOB_EXECUTOR_TYPE = SchedulerConfig.JobExecutorType.PLATFORM_THREADS;
+    public static final int DEFAULT_JOB_QUEUE_CAPACITY = SchedulerDefaults.DEFAULT_JOB_QUEUE_CAPACITY;
+    public static final SchedulerConfig.JobOverflowPolicy DEFAULT_JOB_OVERFLOW_POLICY = SchedulerConfig.JobOverflowPolicy.SKIP;
+    public static final double DEFAULT_CARBON_TOLERANCE = SchedulerDefaults.DEFAULT_CARBON_TOLERANCE;
+    public static final SchedulerConfig.PlanningMode DEFAULT_PLANNING_MODE = SchedulerConfig.PlanningMode.INDIVIDUAL;
+    public static final int DEFAULT_PLANNING_SLOT_CAPACITY = SchedulerDefaults.DEFAULT_PLANNING_SLOT_CAPACITY;
     public static final SchedulerConfig.StartMode DEFAULT_START_MODE = SchedulerConfig.StartMode.NORMAL;
+    public static final Duration DEFAULT_REFRESH_AHEAD = SchedulerDefaults.DEFAULT_REFRESH_AHEAD;
+    public static final Duration DEFAULT_MAX_STALENESS = SchedulerDefaults.DEFAULT_MAX_STALENESS;
     public static final String DEFAULT_API_URL = SchedulerDefaults.DEFAULT_API_URL;
     public static final Boolean DEFAULT_ENABLED = true;
 
     private boolean enabled;
     private SchedulerConfig.StartMode startMode;
     private Integer jobExecutorCount;
+    private SchedulerConfig.JobExecutorType jobExecutorType;
+    private Integer jobQueueCapacity;
+    private SchedulerConfig.JobOverflowPolicy jobOverflowPolicy;
+    private Double carbonTolerance;
+    private SchedulerConfig.PlanningMode planningMode;
+    private Integer planningSlotCapacity;
     private Duration shutdownGracePeriod;
     private Duration overdueGracePeriod;
     private String apiKey;
     private String apiUrl;
+    private Path cacheDirectory;
+    private Duration refreshAhead;
+    private Duration maxStaleness;
     private CarbonIntensityApi carbonIntensityApi;
 
     /**
@@ -41,10 +59,19 @@ public class SchedulerConfigBuilder {
         enabled(properties.enabled().orElse(DEFAULT_ENABLED));
         startMode(properties.startMode().orElse(DEFAULT_START_MODE));
         jobExecutorCount(properties.jobExecutors().orElse(DEFAULT_NUMBER_OF_JOB_EXECUTORS));
+        jobExecutorType(properties.jobExecutorType().orElse(DEFAULT_JOB_EXECUTOR_TYPE));
+        jobQueueCapacity(properties.jobQueueCapacity().orElse(DEFAULT_JOB_QUEUE_CAPACITY));
+        jobOverflowPolicy(properties.jobOverflowPolicy().orElse(DEFAULT_JOB_OVERFLOW_POLICY));
+        carbonTolerance(properties.carbonTolerance().orElse(DEFAULT_CARBON_TOLERANCE));
+        planningMode(properties.planningMode().orElse(DEFAULT_PLANNING_MODE));
+        planningSlotCapacity(properties.planningSlotCapacity().orElse(DEFAULT_PLANNING_SLOT_CAPACITY));
         overdueGracePeriod(properties.overdueGracePeriod().orElse(DEFAULT_OVERDUE_GRACE_PERIOD));
         shutdownGracePeriod(properties.shutdownGracePeriod().orElse(DEFAULT_SHUTDOWN_GRACE_PERIOD));
+        refreshAhead(properties.refreshAhead().orElse(DEFAULT_REFRESH_AHEAD));
+        maxStaleness(properties.maxStaleness().orElse(DEFAULT_MAX_STALENESS));
         apiUrl(properties.apiUrl().orElse(DEFAULT_API_URL));
         properties.apiKey().ifPresent(this::apiKey);
+        properties.cacheDirectory().ifPresent(this::cacheDirectory);
     }
 
     public SchedulerConfigBuilder startMode(SchedulerConfig.StartMode startMode) {
@@ -60,6 +87,45 @@ public class SchedulerConfigBuilder {
         return this;
     }
 
+    public SchedulerConfigBuilder jobExecutorType(SchedulerConfig.JobExecutorType jobExecutorType) {
+        Assert.notNull(jobExecutorType, "jobExecutorType cannot be null");
+        this.jobExecutorType = jobExecutorType;
+        return this;
+    }
+
+    public SchedulerConfigBuilder jobQueueCapacity(Integer jobQueueCapacity) {
+        Assert.notNull(jobQueueCapacity, "jobQueueCapacity cannot be null");
+        Assert.isTrue(jobQueueCapacity > 0, "jobQueueCapacity must be greater than 0");
+        this.jobQueueCapacity = jobQueueCapacity;
+        return this;
+    }
+
+    public SchedulerConfigBuilder jobOverflowPolicy(SchedulerConfig.JobOverflowPolicy jobOverflowPolicy) {
+        Assert.notNull(jobOverflowPolicy, "jobOverflowPolicy cannot be null");
+        this.jobOverflowPolicy = jobOverflowPolicy;
+        return this;
+    }
+
+    public SchedulerConfigBuilder carbonTolerance(Double carbonTolerance) {
+        Assert.notNull(carbonTolerance, "carbonTolerance cannot be null");
+        Assert.isTrue(carbonTolerance >= 0 && !carbonTolerance.isInfinite(), "carbonTolerance must be at least 0");
+        this.carbonTolerance = carbonTolerance;
+        return this;
+    }
+
+    public SchedulerConfigBuilder planningMode(SchedulerConfig.PlanningMode planningMode) {
+        Assert.notNull(planningMode, "planningMode cannot be null");
+        this.planningMode = planningMode;
+        return this;
+    }
+
+    public SchedulerConfigBuilder planningSlotCapacity(Integer planningSlotCapacity) {
+        Assert.notNull(planningSlotCapacity, "planningSlotCapacity cannot be null");
+        Assert.isTrue(planningSlotCapacity > 0, "planningSlotCapacity must be greater than 0");
+        this.planningSlotCapacity = planningSlotCapacity;
+        return this;
+    }
+
     public SchedulerConfigBuilder apiKey(String apiKey) {
         Assert.hasText(apiKey, "apiKey cannot be null");
         this.apiKey = apiKey;
@@ -102,6 +168,26 @@ public class SchedulerConfigBuilder {
         return enabled(false);
     }
 
+    public SchedulerConfigBuilder cacheDirectory(Path cacheDirectory) {
+        Assert.notNull(cacheDirectory, "cacheDirectory cannot be null");
+        this.cacheDirectory = cacheDirectory;
+        return this;
+    }
+
+    public SchedulerConfigBuilder refreshAhead(Duration refreshAhead) {
+        Assert.notNull(refreshAhead, "refreshAhead cannot be null");
+        Assert.isTrue(!refreshAhead.isNegative(), "refreshAhead cannot be negative");
+        this.refreshAhead = refreshAhead;
+        return this;
+    }
+
+    public SchedulerConfigBuilder maxStaleness(Duration maxStaleness) {
+        Assert.notNull(maxStaleness, "maxStaleness cannot be null");
+        Assert.isTrue(!maxStaleness.isNegative(), "maxStaleness cannot be negative");
+        this.maxStaleness = maxStaleness;
+        return this;
+    }
+
     public SchedulerConfigBuilder carbonIntensityApi(CarbonIntensityApi carbonIntensityApi) {
         this.carbonIntensityApi = carbonIntensityApi;
         return this;
@@ -114,6 +200,15 @@ public class SchedulerConfigBuilder {
         schedulerConfig.setOverdueGracePeriod(overdueGracePeriod);
         schedulerConfig.setShutdownGracePeriod(shutdownGracePeriod);
         schedulerConfig.setJobExecutors(jobExecutorCount);
+        schedulerConfig.setJobExecutorType(jobExecutorType);
+        schedulerConfig.setJobQueueCapacity(jobQueueCapacity);
+        schedulerConfig.setJobOverflowPolicy(jobOverflowPolicy);
+        schedulerConfig.setCarbonTolerance(carbonTolerance);
+        schedulerConfig.setPlanningMode(planningMode);
+        schedulerConfig.setPlanningSlotCapacity(planningSlotCapacity);
+        schedulerConfig.setCacheDirectory(cacheDirectory);
+        schedulerConfig.setRefreshAhead(refreshAhead);
+        schedulerConfig.setMaxStaleness(maxStaleness);
 
         if (this.carbonIntensityApi != null) {
             schedulerConfig.setCarbonIntensityApi(carbonIntensityApi);
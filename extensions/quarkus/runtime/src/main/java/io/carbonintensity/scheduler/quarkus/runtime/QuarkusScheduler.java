@@ -116,6 +116,11 @@ public class QuarkusScheduler {
             public String overdueGracePeriod() {
                 return SchedulerUtils.lookUpPropertyValue(scheduled.overdueGracePeriod());
             }
+
+            @Override
+            public String planningResolution() {
+                return SchedulerUtils.lookUpPropertyValue(scheduled.planningResolution());
+            }
         };
     }
 
@@ -1,11 +1,13 @@
 package io.carbonintensity.scheduler.spring;
 
+import java.nio.file.Path;
 import java.time.Duration;
 import java.util.Objects;
 import java.util.Optional;
 
 import org.springframework.boot.context.properties.ConfigurationProperties;
 import org.springframework.boot.context.properties.bind.ConstructorBinding;
+import org.springframework.boot.context.properties.bind.DefaultValue;
 import org.springframework.validation.annotation.Validated;
 
 import io.carbonintensity.scheduler.runtime.SchedulerConfig;
@@ -24,11 +26,28 @@ public class GreenScheduledProperties {
     public static final Duration DEFAULT_OVERDUE_GRACE_PERIOD = SchedulerDefaults.DEFAULT_OVERDUE_GRACE_PERIOD;
     public static final Duration DEFAULT_SHUTDOWN_GRACE_PERIOD = SchedulerDefaults.DEFAULT_SHUTDOWN_GRACE_PERIOD;
     public static final int DEFAULT_NUMBER_OF_JOB_EXECUTORS = SchedulerDefaults.DEFAULT_NUMBER_OF_JOB_EXECUTORS;
+    public static final SchedulerConfig.JobExecutorType DEFAULT_JOB_EXECUTOR_TYPE = SchedulerConfig.JobExecutorType.PLATFORM_THREADS;
+    public static final int DEFAULT_JOB_QUEUE_CAPACITY = SchedulerDefaults.DEFAULT_JOB_QUEUE_CAPACITY;
+    public static final SchedulerConfig.JobOverflowPolicy DEFAULT_JOB_OVERFLOW_POLICY = SchedulerConfig.JobOverflowPolicy.SKIP;
+    public static final double DEFAULT_CARBON_TOLERANCE = SchedulerDefaults.DEFAULT_CARBON_TOLERANCE;
+    public static final SchedulerConfig.PlanningMode DEFAULT_PLANNING_MODE = SchedulerConfig.PlanningMode.INDIVIDUAL;
+    public static final int DEFAULT_PLANNING_SLOT_CAPACITY = SchedulerDefaults.DEFAULT_PLANNING_SLOT_CAPACITY;
     public static final SchedulerConfig.StartMode DEFAULT_START_MODE = SchedulerConfig.StartMode.NORMAL;
+    public static final Duration DEFAULT_REFRESH_AHEAD = SchedulerDefaults.DEFAULT_REFRESH_AHEAD;
+    public static final Duration DEFAULT_MAX_STALENESS = SchedulerDefaults.DEFAULT_MAX_STALENESS;
     public static final String DEFAULT_API_URL = SchedulerDefaults.DEFAULT_API_URL;
     public static final Boolean DEFAULT_ENABLED = true;
 
     @ConstructorBinding // Required to generate metadata: https://stackoverflow.com/questions/79231534/how-can-i-use-optional-values-in-spring-boot-configuration-properties
+    public GreenScheduledProperties(Boolean enabled, SchedulerConfig.StartMode startMode, Integer jobExecutors,
+            Duration overdueGracePeriod, Duration shutdownGracePeriod, String apiKey, String apiUrl,
+            @DefaultValue Jobs jobs, @DefaultValue Planning planning, @DefaultValue Cache cache) {
+        this(enabled, startMode, jobExecutors, overdueGracePeriod, shutdownGracePeriod, apiKey, apiUrl);
+        this.jobs = Objects.requireNonNullElseGet(jobs, Jobs::new);
+        this.planning = Objects.requireNonNullElseGet(planning, Planning::new);
+        this.cache = Objects.requireNonNullElseGet(cache, Cache::new);
+    }
+
     public GreenScheduledProperties(Boolean enabled, SchedulerConfig.StartMode startMode, Integer jobExecutors,
             Duration overdueGracePeriod, Duration shutdownGracePeriod, String apiKey, String apiUrl) {
         this.enabled = Objects.requireNonNullElse(enabled, DEFAULT_ENABLED);
@@ -78,6 +97,21 @@ public class GreenScheduledProperties {
      */
     private String apiUrl = DEFAULT_API_URL;
 
+    /**
+     * Job execution properties.
+     */
+    private Jobs jobs = new Jobs();
+
+    /**
+     * Planning properties.
+     */
+    private Planning planning = new Planning();
+
+    /**
+     * Carbon intensity data cache properties.
+     */
+    private Cache cache = new Cache();
+
     /**
      * Gets scheduler start mode.
      *
@@ -130,4 +164,190 @@ public class GreenScheduledProperties {
     public Optional<String> getApiUrl() {
         return Optional.ofNullable(apiUrl);
     }
+
+    public Jobs getJobs() {
+        return jobs;
+    }
+
+    public Planning getPlanning() {
+        return planning;
+    }
+
+    public Cache getCache() {
+        return cache;
+    }
+
+    /**
+     * Job execution properties, prefixed with {@code greenscheduled.jobs}.
+     */
+    public static class Jobs {
+
+        /**
+         * Kind of threads to execute jobs on, virtual threads require Java 21. Default platform threads.
+         */
+        private SchedulerConfig.JobExecutorType executorType = DEFAULT_JOB_EXECUTOR_TYPE;
+
+        /**
+         * Maximum number of job executions waiting for a job executor, or running at the same time with virtual
+         * threads. Unbounded by default, set a capacity to apply the overflow policy to executions that do not fit.
+         */
+        private Integer queueCapacity = DEFAULT_JOB_QUEUE_CAPACITY;
+
+        /**
+         * What happens to a job execution that does not fit in the job queue. Default skip.
+         */
+        private SchedulerConfig.JobOverflowPolicy overflowPolicy = DEFAULT_JOB_OVERFLOW_POLICY;
+
+        @ConstructorBinding
+        public Jobs(SchedulerConfig.JobExecutorType executorType, Integer queueCapacity,
+                SchedulerConfig.JobOverflowPolicy overflowPolicy) {
+            this.executorType = Objects.requireNonNullElse(executorType, DEFAULT_JOB_EXECUTOR_TYPE);
+            this.queueCapacity = Objects.requireNonNullElse(queueCapacity, DEFAULT_JOB_QUEUE_CAPACITY);
+            this.overflowPolicy = Objects.requireNonNullElse(overflowPolicy, DEFAULT_JOB_OVERFLOW_POLICY);
+        }
+
+        public Jobs() {
+        }
+
+        /**
+         * Gets kind of threads to execute jobs on.
+         *
+         * @return job executor type
+         */
+        public Optional<SchedulerConfig.JobExecutorType> getExecutorType() {
+            return Optional.ofNullable(executorType);
+        }
+
+        /**
+         * Gets maximum number of job executions waiting for a job executor.
+         *
+         * @return job queue capacity
+         */
+        public Optional<Integer> getQueueCapacity() {
+            return Optional.ofNullable(queueCapacity);
+        }
+
+        /**
+         * Gets what happens to a job execution that does not fit in the job queue.
+         *
+         * @return job overflow policy
+         */
+        public Optional<SchedulerConfig.JobOverflowPolicy> getOverflowPolicy() {
+            return Optional.ofNullable(overflowPolicy);
+        }
+    }
+
+    /**
+     * Planning properties, prefixed with {@code greenscheduled.planning}.
+     */
+    public static class Planning {
+
+        /**
+         * Whether jobs are planned one by one or together per zone. Default individual.
+         */
+        private SchedulerConfig.PlanningMode mode = DEFAULT_PLANNING_MODE;
+
+        /**
+         * Fraction by which the carbon intensity of a planned timeslot may exceed the best one, to spread jobs with
+         * the same window over several timeslots. Default 0, every job is placed in the best timeslot.
+         */
+        private Double carbonTolerance = DEFAULT_CARBON_TOLERANCE;
+
+        /**
+         * Maximum number of jobs of a zone planned to run at the same time in batch planning mode. Default unbounded.
+         */
+        private Integer slotCapacity = DEFAULT_PLANNING_SLOT_CAPACITY;
+
+        @ConstructorBinding
+        public Planning(SchedulerConfig.PlanningMode mode, Double carbonTolerance, Integer slotCapacity) {
+            this.mode = Objects.requireNonNullElse(mode, DEFAULT_PLANNING_MODE);
+            this.carbonTolerance = Objects.requireNonNullElse(carbonTolerance, DEFAULT_CARBON_TOLERANCE);
+            this.slotCapacity = Objects.requireNonNullElse(slotCapacity, DEFAULT_PLANNING_SLOT_CAPACITY);
+        }
+
+        public Planning() {
+        }
+
+        /**
+         * Gets whether jobs are planned one by one or together per zone.
+         *
+         * @return planning mode
+         */
+        public Optional<SchedulerConfig.PlanningMode> getMode() {
+            return Optional.ofNullable(mode);
+        }
+
+        /**
+         * Gets fraction by which the carbon intensity of a planned timeslot may exceed the best one.
+         *
+         * @return carbon tolerance
+         */
+        public Optional<Double> getCarbonTolerance() {
+            return Optional.ofNullable(carbonTolerance);
+        }
+
+        /**
+         * Gets maximum number of jobs of a zone planned to run at the same time.
+         *
+         * @return planning slot capacity
+         */
+        public Optional<Integer> getSlotCapacity() {
+            return Optional.ofNullable(slotCapacity);
+        }
+    }
+
+    /**
+     * Carbon intensity data cache properties, prefixed with {@code greenscheduled.cache}.
+     */
+    public static class Cache {
+
+        /**
+         * Directory to persist carbon intensity forecasts in across restarts. Not persisted by default.
+         */
+        private Path directory = null;
+
+        /**
+         * The period after the cached forecast is fetched in the background once the forecast ends within this
+         * window. Default 0, disabled.
+         */
+        private Duration refreshAhead = DEFAULT_REFRESH_AHEAD;
+
+        /**
+         * Maximum age of a forecast that is served while newer carbon intensity data is fetched in the background.
+         * Default 0, planning waits for new data.
+         */
+        private Duration maxStaleness = DEFAULT_MAX_STALENESS;
+
+        @ConstructorBinding
+        public Cache(Path directory, Duration refreshAhead, Duration maxStaleness) {
+            this.directory = directory;
+            this.refreshAhead = Objects.requireNonNullElse(refreshAhead, DEFAULT_REFRESH_AHEAD);
+            this.maxStaleness = Objects.requireNonNullElse(maxStaleness, DEFAULT_MAX_STALENESS);
+        }
+
+        public Cache() {
+        }
+
+        public Optional<Path> getDirectory() {
+            return Optional.ofNullable(directory);
+        }
+
+        /**
+         * Gets window before the end of the cached forecast in which the next period is fetched.
+         *
+         * @return refresh ahead
+         */
+        public Optional<Duration> getRefreshAhead() {
+            return Optional.ofNullable(refreshAhead);
+        }
+
+        /**
+         * Gets maximum age of a forecast that is served while newer carbon intensity data is fetched.
+         *
+         * @return maximum staleness
+         */
+        public Optional<Duration> getMaxStaleness() {
+            return Optional.ofNullable(maxStaleness);
+        }
+    }
 }
@@ -1,5 +1,8 @@
 package io.carbonintensity.scheduler.spring.factory;
 
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
 import java.lang.reflect.Method;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionStage;
@@ -10,15 +13,33 @@ import io.carbonintensity.scheduler.runtime.ScheduledInvoker;
 /**
  * {@link ScheduledInvoker} method invoker implementation.
  * This class simply invokes {@link io.carbonintensity.scheduler.GreenScheduled} annotated method.
+ * <p>
+ * The method may declare a {@link ScheduledExecution} parameter. It is called through a {@link ScheduledMethodCall}
+ * created once per invoker, not through reflection.
+ * </p>
+ * <p>
+ * A method may return a {@link CompletionStage CompletionStage&lt;Void&gt;} or a Mutiny {@code Uni<Void>}. The
+ * execution then finishes when the returned stage completes, without blocking the job executor. Mutiny is not a
+ * dependency of the starter, a {@code Uni} is subscribed to reflectively.
+ * </p>
  */
 public class MethodScheduledInvoker implements ScheduledInvoker {
 
+    static final String UNI_CLASS_NAME = "io.smallrye.mutiny.Uni";
+
     private final Object bean;
-    private final Method scheduledMethod;
+    private final ScheduledMethodCall scheduledMethodCall;
+    private final MethodHandle subscribeAsCompletionStage;
 
+    /**
+     * @param bean the bean to invoke the method on
+     * @param scheduledMethod a method without parameters or with a single {@link ScheduledExecution} parameter
+     * @throws IllegalArgumentException if the method has other parameters or is not accessible
+     */
     public MethodScheduledInvoker(Object bean, Method scheduledMethod) {
         this.bean = bean;
-        this.scheduledMethod = scheduledMethod;
+        this.scheduledMethodCall = ScheduledMethodCall.of(scheduledMethod);
+        this.subscribeAsCompletionStage = findSubscribeAsCompletionStage(scheduledMethod.getReturnType());
     }
 
     /**
@@ -26,14 +47,34 @@ public class MethodScheduledInvoker implements ScheduledInvoker {
      *
      * @param scheduledExecution execution context
      * @return CompletionStage with null value when method has been invoked successfully otherwise returns caught exception.
+     *         Completes when the stage returned by the method completes.
      */
     @Override
+    @SuppressWarnings("unchecked")
     public CompletionStage<Void> invoke(ScheduledExecution scheduledExecution) {
         try {
-            scheduledMethod.invoke(bean);
+            var result = scheduledMethodCall.call(bean, scheduledExecution);
+            if (result instanceof CompletionStage) {
+                return (CompletionStage<Void>) result;
+            }
+            if (result != null && subscribeAsCompletionStage != null) {
+                return (CompletionStage<Void>) subscribeAsCompletionStage.invoke(result);
+            }
             return CompletableFuture.completedStage(null);
-        } catch (Exception e) {
+        } catch (Throwable e) {
             return CompletableFuture.failedStage(e);
         }
     }
+
+    private static MethodHandle findSubscribeAsCompletionStage(Class<?> returnType) {
+        if (!UNI_CLASS_NAME.equals(returnType.getName())) {
+            return null;
+        }
+        try {
+            return MethodHandles.publicLookup()
+                    .findVirtual(returnType, "subscribeAsCompletionStage", MethodType.methodType(CompletableFuture.class));
+        } catch (NoSuchMethodException | IllegalAccessException e) {
+            throw new IllegalStateException("Unsupported Mutiny version, Uni#subscribeAsCompletionStage() not found", e);
+        }
+    }
 }
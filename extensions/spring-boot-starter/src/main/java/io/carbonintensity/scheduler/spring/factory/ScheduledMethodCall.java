@@ -0,0 +1,111 @@
+package io.carbonintensity.scheduler.spring.factory;
+
+import java.lang.invoke.LambdaMetafactory;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.function.BiConsumer;
+import java.util.function.BiFunction;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+import org.slf4j.LoggerFactory;
+
+import io.carbonintensity.scheduler.ScheduledExecution;
+
+/**
+ * A compiled call of a {@link io.carbonintensity.scheduler.GreenScheduled} method, the counterpart of the generated
+ * invokers of the Quarkus extension.
+ * <p>
+ * The call is spun with {@link LambdaMetafactory}, so that an invocation costs about the same as a direct call. If the
+ * method is not accessible to the metafactory a {@link MethodHandle} is used instead.
+ * </p>
+ */
+@FunctionalInterface
+interface ScheduledMethodCall {
+
+    /**
+     * @param bean the bean to invoke the method on
+     * @param execution the execution, passed if the method declares it as parameter
+     * @return the result of the method, {@code null} for a {@code void} method
+     * @throws Throwable anything thrown by the method
+     */
+    Object call(Object bean, ScheduledExecution execution) throws Throwable;
+
+    /**
+     * @param method a method without parameters or with a single {@link ScheduledExecution} parameter
+     * @return the call of the method
+     * @throws IllegalArgumentException if the method has other parameters or is not accessible
+     */
+    static ScheduledMethodCall of(Method method) {
+        var parameterTypes = method.getParameterTypes();
+        var withExecution = parameterTypes.length == 1 && parameterTypes[0] == ScheduledExecution.class;
+        if (parameterTypes.length > 0 && !withExecution) {
+            throw new IllegalArgumentException("Scheduled method must have no parameters or a single "
+                    + ScheduledExecution.class.getSimpleName() + " parameter [method: " + method + "]");
+        }
+        MethodHandles.Lookup lookup;
+        MethodHandle target;
+        try {
+            lookup = MethodHandles.privateLookupIn(method.getDeclaringClass(), MethodHandles.lookup());
+            target = lookup.unreflect(method);
+        } catch (IllegalAccessException e) {
+            throw new IllegalArgumentException("Scheduled method is not accessible [method: " + method + "]", e);
+        }
+        if (Modifier.isStatic(method.getModifiers())) {
+            return methodHandle(MethodHandles.dropArguments(target, 0, Object.class), withExecution);
+        }
+        try {
+            return metafactory(lookup, target, withExecution, method.getReturnType() != void.class);
+        } catch (Throwable e) {
+            LoggerFactory.getLogger(ScheduledMethodCall.class)
+                    .debug("Unable to spin a call of {}, using a method handle", method, e);
+            return methodHandle(target, withExecution);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private static ScheduledMethodCall metafactory(MethodHandles.Lookup lookup, MethodHandle target, boolean withExecution,
+            boolean returnsValue) throws Throwable {
+        if (returnsValue) {
+            var instantiatedType = target.type().wrap();
+            if (withExecution) {
+                BiFunction<Object, ScheduledExecution, Object> function = (BiFunction<Object, ScheduledExecution, Object>) spin(
+                        lookup, target, BiFunction.class, "apply", instantiatedType);
+                return function::apply;
+            }
+            Function<Object, Object> function = (Function<Object, Object>) spin(lookup, target, Function.class, "apply",
+                    instantiatedType);
+            return (bean, execution) -> function.apply(bean);
+        }
+        if (withExecution) {
+            BiConsumer<Object, ScheduledExecution> consumer = (BiConsumer<Object, ScheduledExecution>) spin(lookup, target,
+                    BiConsumer.class, "accept", target.type());
+            return (bean, execution) -> {
+                consumer.accept(bean, execution);
+                return null;
+            };
+        }
+        Consumer<Object> consumer = (Consumer<Object>) spin(lookup, target, Consumer.class, "accept", target.type());
+        return (bean, execution) -> {
+            consumer.accept(bean);
+            return null;
+        };
+    }
+
+    private static Object spin(MethodHandles.Lookup lookup, MethodHandle target, Class<?> functionalInterface,
+            String methodName, MethodType instantiatedType) throws Throwable {
+        return LambdaMetafactory.metafactory(lookup, methodName, MethodType.methodType(functionalInterface),
+                instantiatedType.erase(), target, instantiatedType)
+                .getTarget()
+                .invoke();
+    }
+
+    private static ScheduledMethodCall methodHandle(MethodHandle target, boolean withExecution) {
+        var handle = withExecution ? target : MethodHandles.dropArguments(target, 1, ScheduledExecution.class);
+        var call = handle.asType(MethodType.methodType(Object.class, Object.class, ScheduledExecution.class));
+        return (bean, execution) -> call.invokeExact(bean, execution);
+    }
+}
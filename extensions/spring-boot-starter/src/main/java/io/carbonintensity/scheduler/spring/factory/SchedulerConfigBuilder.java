@@ -1,5 +1,6 @@
 package io.carbonintensity.scheduler.spring.factory;
 
+import java.nio.file.Path;
 import java.time.Duration;
 
 import org.springframework.util.Assert;
@@ -17,10 +18,19 @@ public class SchedulerConfigBuilder {
     private boolean enabled;
     private SchedulerConfig.StartMode startMode;
     private Integer jobExecutorCount;
+    private SchedulerConfig.JobExecutorType jobExecutorType;
+    private Integer jobQueueCapacity;
+    private SchedulerConfig.JobOverflowPolicy jobOverflowPolicy;
+    private Double carbonTolerance;
+    private SchedulerConfig.PlanningMode planningMode;
+    private Integer planningSlotCapacity;
     private Duration shutdownGracePeriod;
     private Duration overdueGracePeriod;
     private String apiKey;
     private String apiUrl;
+    private Path cacheDirectory;
+    private Duration refreshAhead;
+    private Duration maxStaleness;
     private CarbonIntensityApi carbonIntensityApi;
 
     /**
@@ -46,6 +56,18 @@ public class SchedulerConfigBuilder {
                 .ifPresent(this::startMode);
         properties.getJobExecutors()
                 .ifPresent(this::jobExecutorCount);
+        properties.getJobs().getExecutorType()
+                .ifPresent(this::jobExecutorType);
+        properties.getJobs().getQueueCapacity()
+                .ifPresent(this::jobQueueCapacity);
+        properties.getJobs().getOverflowPolicy()
+                .ifPresent(this::jobOverflowPolicy);
+        properties.getPlanning().getCarbonTolerance()
+                .ifPresent(this::carbonTolerance);
+        properties.getPlanning().getMode()
+                .ifPresent(this::planningMode);
+        properties.getPlanning().getSlotCapacity()
+                .ifPresent(this::planningSlotCapacity);
         properties.getOverdueGracePeriod()
                 .ifPresent(this::overdueGracePeriod);
         properties.getShutdownGracePeriod()
@@ -54,6 +76,12 @@ public class SchedulerConfigBuilder {
                 .ifPresent(this::apiKey);
         properties.getApiUrl()
                 .ifPresent(this::apiUrl);
+        properties.getCache().getDirectory()
+                .ifPresent(this::cacheDirectory);
+        properties.getCache().getRefreshAhead()
+                .ifPresent(this::refreshAhead);
+        properties.getCache().getMaxStaleness()
+                .ifPresent(this::maxStaleness);
     }
 
     public SchedulerConfigBuilder startMode(SchedulerConfig.StartMode startMode) {
@@ -69,6 +97,45 @@ public class SchedulerConfigBuilder {
         return this;
     }
 
+    public SchedulerConfigBuilder jobExecutorType(SchedulerConfig.JobExecutorType jobExecutorType) {
+        Assert.notNull(jobExecutorType, "jobExecutorType cannot be null");
+        this.jobExecutorType = jobExecutorType;
+        return this;
+    }
+
+    public SchedulerConfigBuilder jobQueueCapacity(Integer jobQueueCapacity) {
+        Assert.notNull(jobQueueCapacity, "jobQueueCapacity cannot be null");
+        Assert.isTrue(jobQueueCapacity > 0, "jobQueueCapacity must be greater than 0");
+        this.jobQueueCapacity = jobQueueCapacity;
+        return this;
+    }
+
+    public SchedulerConfigBuilder jobOverflowPolicy(SchedulerConfig.JobOverflowPolicy jobOverflowPolicy) {
+        Assert.notNull(jobOverflowPolicy, "jobOverflowPolicy cannot be null");
+        this.jobOverflowPolicy = jobOverflowPolicy;
+        return this;
+    }
+
+    public SchedulerConfigBuilder carbonTolerance(Double carbonTolerance) {
+        Assert.notNull(carbonTolerance, "carbonTolerance cannot be null");
+        Assert.isTrue(carbonTolerance >= 0 && !carbonTolerance.isInfinite(), "carbonTolerance must be at least 0");
+        this.carbonTolerance = carbonTolerance;
+        return this;
+    }
+
+    public SchedulerConfigBuilder planningMode(SchedulerConfig.PlanningMode planningMode) {
+        Assert.notNull(planningMode, "planningMode cannot be null");
+        this.planningMode = planningMode;
+        return this;
+    }
+
+    public SchedulerConfigBuilder planningSlotCapacity(Integer planningSlotCapacity) {
+        Assert.notNull(planningSlotCapacity, "planningSlotCapacity cannot be null");
+        Assert.isTrue(planningSlotCapacity > 0, "planningSlotCapacity must be greater than 0");
+        this.planningSlotCapacity = planningSlotCapacity;
+        return this;
+    }
+
     public SchedulerConfigBuilder apiKey(String apiKey) {
         Assert.hasText(apiKey, "apiKey cannot be null");
         this.apiKey = apiKey;
@@ -111,6 +178,26 @@ public class SchedulerConfigBuilder {
         return enabled(false);
     }
 
+    public SchedulerConfigBuilder cacheDirectory(Path cacheDirectory) {
+        Assert.notNull(cacheDirectory, "cacheDirectory cannot be null");
+        this.cacheDirectory = cacheDirectory;
+        return this;
+    }
+
+    public SchedulerConfigBuilder refreshAhead(Duration refreshAhead) {
+        Assert.notNull(refreshAhead, "refreshAhead cannot be null");
+        Assert.isTrue(!refreshAhead.isNegative(), "refreshAhead cannot be negative");
+        this.refreshAhead = refreshAhead;
+        return this;
+    }
+
+    public SchedulerConfigBuilder maxStaleness(Duration maxStaleness) {
+        Assert.notNull(maxStaleness, "maxStaleness cannot be null");
+        Assert.isTrue(!maxStaleness.isNegative(), "maxStaleness cannot be negative");
+        this.maxStaleness = maxStaleness;
+        return this;
+    }
+
     public SchedulerConfigBuilder carbonIntensityApi(CarbonIntensityApi carbonIntensityApi) {
         this.carbonIntensityApi = carbonIntensityApi;
         return this;
@@ -123,6 +210,15 @@ public class SchedulerConfigBuilder {
         schedulerConfig.setOverdueGracePeriod(overdueGracePeriod);
         schedulerConfig.setShutdownGracePeriod(shutdownGracePeriod);
         schedulerConfig.setJobExecutors(jobExecutorCount);
+        schedulerConfig.setJobExecutorType(jobExecutorType);
+        schedulerConfig.setJobQueueCapacity(jobQueueCapacity);
+        schedulerConfig.setJobOverflowPolicy(jobOverflowPolicy);
+        schedulerConfig.setCarbonTolerance(carbonTolerance);
+        schedulerConfig.setPlanningMode(planningMode);
+        schedulerConfig.setPlanningSlotCapacity(planningSlotCapacity);
+        schedulerConfig.setCacheDirectory(cacheDirectory);
+        schedulerConfig.setRefreshAhead(refreshAhead);
+        schedulerConfig.setMaxStaleness(maxStaleness);
 
         if (this.carbonIntensityApi != null) {
             schedulerConfig.setCarbonIntensityApi(carbonIntensityApi);
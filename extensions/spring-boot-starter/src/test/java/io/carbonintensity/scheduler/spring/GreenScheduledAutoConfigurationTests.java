@@ -57,6 +57,25 @@ class GreenScheduledAutoConfigurationTests {
                 .run(context -> assertThat(context).doesNotHaveBean(Scheduler.class));
     }
 
+    @Test
+    void givenNestedProperties_thenBindGroups() {
+        this.contextRunner
+                .withUserConfiguration(EmptyConfiguration.class)
+                .withPropertyValues("greenscheduled.jobs.queue-capacity=100",
+                        "greenscheduled.planning.mode=batch",
+                        "greenscheduled.cache.refresh-ahead=PT1H")
+                .run(context -> {
+                    var properties = context.getBean(GreenScheduledProperties.class);
+                    assertThat(properties.getJobs().getQueueCapacity()).hasValue(100);
+                    assertThat(properties.getJobs().getOverflowPolicy())
+                            .hasValue(GreenScheduledProperties.DEFAULT_JOB_OVERFLOW_POLICY);
+                    assertThat(properties.getPlanning().getMode()).hasValue(SchedulerConfig.PlanningMode.BATCH);
+                    assertThat(properties.getCache().getRefreshAhead()).hasValue(Duration.ofHours(1));
+                    assertThat(properties.getCache().getMaxStaleness())
+                            .hasValue(GreenScheduledProperties.DEFAULT_MAX_STALENESS);
+                });
+    }
+
     @Test
     void givenSchedulerConfig_whenEnabled_thenCreateScheduler() {
         this.contextRunner
@@ -3,6 +3,7 @@ package io.carbonintensity.scheduler.spring;
 import static io.carbonintensity.scheduler.spring.GreenScheduledProperties.*;
 import static org.assertj.core.api.Assertions.assertThat;
 
+import java.nio.file.Path;
 import java.time.Duration;
 
 import org.junit.jupiter.api.Test;
@@ -17,10 +18,19 @@ class GreenScheduledPropertiesTests {
 
         assertThat(properties.getEnabled()).hasValue(true);
         assertThat(properties.getJobExecutors()).hasValue(DEFAULT_NUMBER_OF_JOB_EXECUTORS);
+        assertThat(properties.getJobs().getExecutorType()).hasValue(DEFAULT_JOB_EXECUTOR_TYPE);
+        assertThat(properties.getJobs().getQueueCapacity()).hasValue(DEFAULT_JOB_QUEUE_CAPACITY);
+        assertThat(properties.getJobs().getOverflowPolicy()).hasValue(DEFAULT_JOB_OVERFLOW_POLICY);
+        assertThat(properties.getPlanning().getCarbonTolerance()).hasValue(DEFAULT_CARBON_TOLERANCE);
+        assertThat(properties.getPlanning().getMode()).hasValue(DEFAULT_PLANNING_MODE);
+        assertThat(properties.getPlanning().getSlotCapacity()).hasValue(DEFAULT_PLANNING_SLOT_CAPACITY);
         assertThat(properties.getOverdueGracePeriod()).hasValue(DEFAULT_OVERDUE_GRACE_PERIOD);
         assertThat(properties.getShutdownGracePeriod()).hasValue(DEFAULT_SHUTDOWN_GRACE_PERIOD);
         assertThat(properties.getApiUrl()).hasValue(DEFAULT_API_URL);
         assertThat(properties.getApiKey()).isNotPresent();
+        assertThat(properties.getCache().getDirectory()).isNotPresent();
+        assertThat(properties.getCache().getRefreshAhead()).hasValue(DEFAULT_REFRESH_AHEAD);
+        assertThat(properties.getCache().getMaxStaleness()).hasValue(DEFAULT_MAX_STALENESS);
     }
 
     @Test
@@ -36,4 +46,29 @@ class GreenScheduledPropertiesTests {
         assertThat(properties.getApiKey()).hasValue("apiKey");
     }
 
+    @Test
+    void whenOverridingAllValues_thenSetOverriddenValues() {
+        GreenScheduledProperties properties = new GreenScheduledProperties(true, SchedulerConfig.StartMode.HALTED, 1,
+                Duration.ofSeconds(1), Duration.ofSeconds(2), "apiKey", "apiUrl",
+                new Jobs(SchedulerConfig.JobExecutorType.VIRTUAL_THREADS, 100, SchedulerConfig.JobOverflowPolicy.DELAY),
+                new Planning(SchedulerConfig.PlanningMode.BATCH, 0.05, 4),
+                new Cache(Path.of("cache"), Duration.ofHours(1), Duration.ofHours(6)));
+
+        assertThat(properties.getEnabled()).hasValue(true);
+        assertThat(properties.getJobExecutors()).hasValue(1);
+        assertThat(properties.getJobs().getExecutorType()).hasValue(SchedulerConfig.JobExecutorType.VIRTUAL_THREADS);
+        assertThat(properties.getJobs().getQueueCapacity()).hasValue(100);
+        assertThat(properties.getJobs().getOverflowPolicy()).hasValue(SchedulerConfig.JobOverflowPolicy.DELAY);
+        assertThat(properties.getPlanning().getCarbonTolerance()).hasValue(0.05);
+        assertThat(properties.getPlanning().getMode()).hasValue(SchedulerConfig.PlanningMode.BATCH);
+        assertThat(properties.getPlanning().getSlotCapacity()).hasValue(4);
+        assertThat(properties.getOverdueGracePeriod()).hasValue(Duration.ofSeconds(1));
+        assertThat(properties.getShutdownGracePeriod()).hasValue(Duration.ofSeconds(2));
+        assertThat(properties.getApiUrl()).hasValue("apiUrl");
+        assertThat(properties.getApiKey()).hasValue("apiKey");
+        assertThat(properties.getCache().getDirectory()).hasValue(Path.of("cache"));
+        assertThat(properties.getCache().getRefreshAhead()).hasValue(Duration.ofHours(1));
+        assertThat(properties.getCache().getMaxStaleness()).hasValue(Duration.ofHours(6));
+    }
+
 }
@@ -1,9 +1,14 @@
 package io.carbonintensity.scheduler.spring.factory;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.Mockito.*;
 
 import java.lang.reflect.Method;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ExecutionException;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -47,8 +52,74 @@ class MethodScheduledInvokerTests {
         verify(bean).run();
     }
 
+    @Test
+    void givenAsyncMethod_whenInvoked_thenCompleteWhenReturnedStageCompletes() throws NoSuchMethodException {
+        var result = new CompletableFuture<Void>();
+        when(bean.runAsync()).thenReturn(result);
+        invoker = new MethodScheduledInvoker(bean, TestBean.class.getMethod("runAsync"));
+
+        var stage = invoker.invoke(scheduledExecution);
+        assertThat(stage).isNotCompleted();
+
+        result.complete(null);
+        assertThat(stage).isCompleted();
+    }
+
+    @Test
+    void givenAsyncMethod_whenReturnedStageFails_thenCompleteStageExceptionally() throws NoSuchMethodException {
+        var exception = new IllegalStateException("failed");
+        when(bean.runAsync()).thenReturn(CompletableFuture.failedFuture(exception));
+        invoker = new MethodScheduledInvoker(bean, TestBean.class.getMethod("runAsync"));
+
+        var stage = invoker.invoke(scheduledExecution);
+        assertThat(stage).isCompletedExceptionally();
+        assertThat(stage.toCompletableFuture()).failsWithin(Duration.ZERO)
+                .withThrowableOfType(ExecutionException.class)
+                .withCause(exception);
+    }
+
+    @Test
+    void givenMethodWithExecutionParameter_whenInvoked_thenPassExecution() throws NoSuchMethodException {
+        invoker = new MethodScheduledInvoker(bean, TestBean.class.getMethod("runWithExecution", ScheduledExecution.class));
+
+        var stage = invoker.invoke(scheduledExecution);
+        assertThat(stage).isCompleted();
+        verify(bean).runWithExecution(scheduledExecution);
+    }
+
+    @Test
+    void givenPrivateMethod_whenInvoked_thenCompleteStage() throws NoSuchMethodException {
+        var privateBean = new PrivateBean();
+        invoker = new MethodScheduledInvoker(privateBean, PrivateBean.class.getDeclaredMethod("count"));
+
+        assertThat(invoker.invoke(scheduledExecution)).isCompleted();
+        assertThat(invoker.invoke(scheduledExecution)).isCompleted();
+        assertThat(privateBean.count).isEqualTo(2);
+    }
+
+    @Test
+    void givenMethodWithUnsupportedParameter_whenCreating_thenThrowException() throws NoSuchMethodException {
+        var method = TestBean.class.getMethod("runWithName", String.class);
+        assertThatThrownBy(() -> new MethodScheduledInvoker(bean, method))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
     interface TestBean {
         void run();
+
+        CompletionStage<Void> runAsync();
+
+        void runWithExecution(ScheduledExecution execution);
+
+        void runWithName(String name);
+    }
+
+    static class PrivateBean {
+        int count;
+
+        private void count() {
+            count++;
+        }
     }
 
 }
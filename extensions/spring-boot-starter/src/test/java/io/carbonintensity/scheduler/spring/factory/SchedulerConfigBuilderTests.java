@@ -1,6 +1,7 @@
 package io.carbonintensity.scheduler.spring.factory;
 
 import static io.carbonintensity.scheduler.spring.GreenScheduledProperties.DEFAULT_API_URL;
+import static io.carbonintensity.scheduler.spring.GreenScheduledProperties.DEFAULT_JOB_EXECUTOR_TYPE;
 import static io.carbonintensity.scheduler.spring.GreenScheduledProperties.DEFAULT_NUMBER_OF_JOB_EXECUTORS;
 import static io.carbonintensity.scheduler.spring.GreenScheduledProperties.DEFAULT_OVERDUE_GRACE_PERIOD;
 import static io.carbonintensity.scheduler.spring.GreenScheduledProperties.DEFAULT_SHUTDOWN_GRACE_PERIOD;
@@ -37,6 +38,7 @@ class SchedulerConfigBuilderTests {
 
         assertThat(schedulerConfig.isEnabled()).isTrue();
         assertThat(schedulerConfig.getJobExecutors()).isEqualTo(DEFAULT_NUMBER_OF_JOB_EXECUTORS);
+        assertThat(schedulerConfig.getJobExecutorType()).isEqualTo(DEFAULT_JOB_EXECUTOR_TYPE);
         assertThat(schedulerConfig.getStartMode()).isEqualTo(DEFAULT_START_MODE);
         assertThat(schedulerConfig.getOverdueGracePeriod()).isEqualTo(DEFAULT_OVERDUE_GRACE_PERIOD);
         assertThat(schedulerConfig.getShutdownGracePeriod()).isEqualTo(DEFAULT_SHUTDOWN_GRACE_PERIOD);
@@ -86,12 +88,72 @@ class SchedulerConfigBuilderTests {
         assertThrows(IllegalArgumentException.class, () -> builder.jobExecutorCount(null));
     }
 
+    @Test
+    void testJobExecutorType() {
+        var schedulerConfig = builder
+                .jobExecutorType(SchedulerConfig.JobExecutorType.VIRTUAL_THREADS)
+                .build();
+
+        assertThat(schedulerConfig.getJobExecutorType()).isEqualTo(SchedulerConfig.JobExecutorType.VIRTUAL_THREADS);
+        assertThrows(IllegalArgumentException.class, () -> builder.jobExecutorType(null));
+    }
+
+    @Test
+    void testJobQueue() {
+        var schedulerConfig = builder
+                .jobQueueCapacity(100)
+                .jobOverflowPolicy(SchedulerConfig.JobOverflowPolicy.CALLER_RUNS)
+                .build();
+
+        assertThat(schedulerConfig.getJobQueueCapacity()).isEqualTo(100);
+        assertThat(schedulerConfig.getJobOverflowPolicy()).isEqualTo(SchedulerConfig.JobOverflowPolicy.CALLER_RUNS);
+        assertThrows(IllegalArgumentException.class, () -> builder.jobQueueCapacity(0));
+        assertThrows(IllegalArgumentException.class, () -> builder.jobOverflowPolicy(null));
+    }
+
+    @Test
+    void testCarbonTolerance() {
+        var schedulerConfig = builder
+                .carbonTolerance(0.05)
+                .build();
+
+        assertThat(schedulerConfig.getCarbonTolerance()).isEqualTo(0.05);
+        assertThrows(IllegalArgumentException.class, () -> builder.carbonTolerance(-0.05));
+        assertThrows(IllegalArgumentException.class, () -> builder.carbonTolerance(null));
+    }
+
+    @Test
+    void testPlanningMode() {
+        var schedulerConfig = builder
+                .planningMode(SchedulerConfig.PlanningMode.BATCH)
+                .planningSlotCapacity(4)
+                .build();
+
+        assertThat(schedulerConfig.getPlanningMode()).isEqualTo(SchedulerConfig.PlanningMode.BATCH);
+        assertThat(schedulerConfig.getPlanningSlotCapacity()).isEqualTo(4);
+        assertThrows(IllegalArgumentException.class, () -> builder.planningMode(null));
+        assertThrows(IllegalArgumentException.class, () -> builder.planningSlotCapacity(0));
+    }
+
     @ParameterizedTest
     @ValueSource(ints = { 0, -1 })
     void whenSettingInvalidJobExecutorCount_thenThrowException(Integer jobExecutors) {
         assertThrows(IllegalArgumentException.class, () -> builder.jobExecutorCount(jobExecutors));
     }
 
+    @Test
+    void testStaleWhileRevalidate() {
+        var schedulerConfig = builder
+                .refreshAhead(Duration.ofHours(1))
+                .maxStaleness(Duration.ofHours(6))
+                .build();
+
+        assertThat(schedulerConfig.getRefreshAhead()).isEqualTo(Duration.ofHours(1));
+        assertThat(schedulerConfig.getMaxStaleness()).isEqualTo(Duration.ofHours(6));
+        assertThrows(IllegalArgumentException.class, () -> builder.refreshAhead(null));
+        assertThrows(IllegalArgumentException.class, () -> builder.maxStaleness(Duration.ofSeconds(-1)));
+    }
+
     @Test
     void testStartMode() {
         var schedulerConfig = builder